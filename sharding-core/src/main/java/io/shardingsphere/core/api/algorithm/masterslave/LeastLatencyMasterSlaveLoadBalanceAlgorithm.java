@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.masterslave;
+
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyStatistics;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least latency slave database load-balance algorithm.
+ * 
+ * <p>
+ * Pick two slave data sources randomly and choose the one with less load, 
+ * load is average response time multiply count of in-flight executions plus one.
+ * Master-slave rule binds the algorithm to latency statistics of its own slave data sources.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class LeastLatencyMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    private final DataSourceLatencyStatistics latencyStatistics;
+    
+    public LeastLatencyMasterSlaveLoadBalanceAlgorithm() {
+        this(new DataSourceLatencyStatistics());
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        int size = slaveDataSourceNames.size();
+        if (1 == size) {
+            return slaveDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = slaveDataSourceNames.get(firstIndex);
+        String second = slaveDataSourceNames.get(secondIndex);
+        return latencyStatistics.getLoad(second) < latencyStatistics.getLoad(first) ? second : first;
+    }
+}
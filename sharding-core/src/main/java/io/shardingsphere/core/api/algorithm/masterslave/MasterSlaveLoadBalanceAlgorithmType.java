@@ -30,7 +30,8 @@ import lombok.RequiredArgsConstructor;
 public enum MasterSlaveLoadBalanceAlgorithmType {
     
     ROUND_ROBIN(new RoundRobinMasterSlaveLoadBalanceAlgorithm()),
-    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm());
+    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm()),
+    LEAST_LATENCY(new LeastLatencyMasterSlaveLoadBalanceAlgorithm());
     
     private final MasterSlaveLoadBalanceAlgorithm algorithm;
     
@@ -53,6 +53,201 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(Runtime.getRuntime().availableProcessors()), int.class),
     
+    /**
+     * Type of worker threads.
+     *
+     * <p>
+     * PLATFORM:
+     * Execute SQL by fixed thread pool of platform threads, size is {@code executor.size} for Sharding-JDBC and {@code proxy.max.working.threads} for Sharding-Proxy.
+     * VIRTUAL:
+     * Execute SQL by new virtual thread for every task, and handle commands of every client connection of Sharding-Proxy by one virtual thread.
+     * Fallback to PLATFORM if virtual thread is unsupported by current JVM.
+     * Default: PLATFORM
+     * </p>
+     */
+    EXECUTOR_TYPE("executor.type", ExecutorType.PLATFORM.name(), String.class),
+    
+    /**
+     * Max concurrent executions of every data source.
+     *
+     * <p>
+     * Use this property to isolate data sources, slow data source cannot occupy all worker threads.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    EXECUTOR_DATASOURCE_MAX_CONCURRENCY("executor.datasource.max.concurrency", String.valueOf(0), int.class),
+    
+    /**
+     * Max waiting executions of every data source when concurrency limit is reached.
+     *
+     * <p>
+     * Only works if {@code executor.datasource.max.concurrency} is set, executions exceed this size will be rejected by {@code SQLException} immediately.
+     * Default: 0, means reject immediately when concurrency limit is reached.
+     * </p>
+     */
+    EXECUTOR_DATASOURCE_MAX_QUEUE_SIZE("executor.datasource.max.queue.size", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to adjust concurrency limit of every data source by observed latency.
+     *
+     * <p>
+     * Only works if {@code executor.datasource.max.concurrency} is set, 
+     * limit will be decreased when latency is rising and increased back to {@code executor.datasource.max.concurrency} when recovered.
+     * Default: false
+     * </p>
+     */
+    EXECUTOR_DATASOURCE_ADAPTIVE_CONCURRENCY("executor.datasource.adaptive.concurrency", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Max count of cached parsing results.
+     *
+     * <p>
+     * One sharding data source will use a independent parsing result cache, least recently used parsing result will be evicted if cache is full.
+     * Default: 65535.
+     * </p>
+     */
+    PARSING_CACHE_MAX_SIZE("parsing.cache.max.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Max total length of SQL for cached parsing results.
+     *
+     * <p>
+     * Use this property to bound cache by SQL length instead of count, {@code parsing.cache.max.size} will be ignored if it is greater than zero.
+     * Default: 0, means bound cache by count.
+     * </p>
+     */
+    PARSING_CACHE_MAX_SQL_LENGTH("parsing.cache.max.sql.length", String.valueOf(0), long.class),
+    
+    /**
+     * Max count of cached route results.
+     *
+     * <p>
+     * Route results of select, update and delete statements will be cached by parsed SQL statement and sharding values, 
+     * skip routing and rewriting if same sharding values are routed again.
+     * Sharding algorithms should return same targets for same sharding values if enable this property.
+     * Default: 0, means disable route result cache.
+     * </p>
+     */
+    ROUTE_CACHE_MAX_SIZE("route.cache.max.size", String.valueOf(0), long.class),
+    
+    /**
+     * Max count of groups held in memory when merge group by results which cannot be stream merged.
+     *
+     * <p>
+     * Rows of groups exceed this limit will be hash partitioned and spilled into local temporary files, then merged back in order.
+     * Default: 0, means merge all groups in memory.
+     * </p>
+     */
+    MERGE_GROUP_BY_MEMORY_MAX_ROWS("merge.group.by.memory.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to partially aggregate group by results of every shard in parallel.
+     *
+     * <p>
+     * Results of every shard will be aggregated by dedicated merging threads, or by caller thread if all merging threads are busy, then combined by caller thread.
+     * Only works for group by results which cannot be stream merged and {@code merge.group.by.memory.max.rows} is not set.
+     * Default: false
+     * </p>
+     */
+    MERGE_GROUP_BY_PARALLEL("merge.group.by.parallel", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Min offset of pagination to fetch by two rounds.
+     *
+     * <p>
+     * First round fetch sort keys only to locate the range of sort key for the page, second round fetch rows in the range.
+     * Only works for prepared statements of MySQL, PostgreSQL and H2 ordered by one column without group by, aggregation and sub query.
+     * Default: 0, means disable deep pagination.
+     * </p>
+     */
+    PAGINATION_DEEP_OFFSET_THRESHOLD("pagination.deep.offset.threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Max rows of multiple rows insert statement rewritten from batched insert statement.
+     *
+     * <p>
+     * Rows of batched single row insert statement will be rewritten into multiple rows insert statements when execute batch, 
+     * rows routed to same data node will be inserted by one statement. 
+     * Only works for prepared statements without parameters out of values, update count of every row is 1 or {@code Statement.SUCCESS_NO_INFO}.
+     * Only works for H2, MySQL and PostgreSQL, batch of other databases will not be rewritten.
+     * Default: 0, means disable batch insert rewrite.
+     * </p>
+     */
+    BATCH_INSERT_REWRITE_MAX_ROWS("batch.insert.rewrite.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max estimated bytes of parameters of multiple rows insert statement rewritten from batched insert statement.
+     *
+     * <p>
+     * Only works if {@code batch.insert.rewrite.max.rows} is set, use it to keep rewritten statement under max packet size of database.
+     * Default: 0, means bound rewritten statement by rows only.
+     * </p>
+     */
+    BATCH_INSERT_REWRITE_MAX_BYTES("batch.insert.rewrite.max.bytes", String.valueOf(0), int.class),
+    
+    /**
+     * Max count of physical prepared statements cached by every logical prepared statement.
+     *
+     * <p>
+     * Routed physical prepared statements are reused by later executions of the same logical prepared statement, 
+     * least recently used ones are closed if exceeded, use it to keep server side prepared statements of database bounded.
+     * Default: 64, 0 means only physical prepared statements of current execution are kept.
+     * </p>
+     */
+    PREPARED_STATEMENT_CACHE_MAX_SIZE("prepared.statement.cache.max.size", String.valueOf(64), int.class),
+    
+    /**
+     * Max replication lag in milliseconds of slave data sources to route.
+     *
+     * <p>
+     * Replication lag of every slave data source will be probed periodically in a background thread, 
+     * slave data sources which lag exceed this threshold or failed to probe will not be routed until caught up.
+     * Default: 0, means disable replication lag monitor.
+     * </p>
+     */
+    MASTER_SLAVE_LAG_THRESHOLD_MILLIS("master.slave.lag.threshold.millis", String.valueOf(0), long.class),
+    
+    /**
+     * Interval in milliseconds to probe replication lag of slave data sources.
+     *
+     * <p>
+     * Only works if {@code master.slave.lag.threshold.millis} is set.
+     * Default: 1000.
+     * </p>
+     */
+    MASTER_SLAVE_LAG_PROBE_INTERVAL_MILLIS("master.slave.lag.probe.interval.millis", String.valueOf(1000), long.class),
+    
+    /**
+     * Timeout in milliseconds to probe replication lag of every slave data source.
+     *
+     * <p>
+     * Only works if {@code master.slave.lag.threshold.millis} is set, slave data sources are probed in parallel, 
+     * slave data source which cannot be probed within this timeout will be regarded as stale.
+     * Default: 3000.
+     * </p>
+     */
+    MASTER_SLAVE_LAG_PROBE_TIMEOUT_MILLIS("master.slave.lag.probe.timeout.millis", String.valueOf(3000), long.class),
+    
+    /**
+     * Class name of replication lag probe, should implement {@code io.shardingsphere.core.routing.router.masterslave.SlaveLagProbe}.
+     *
+     * <p>
+     * Only works if {@code master.slave.lag.threshold.millis} is set.
+     * Default: probe by {@code SHOW SLAVE STATUS} of MySQL.
+     * </p>
+     */
+    MASTER_SLAVE_LAG_PROBE_CLASS_NAME("master.slave.lag.probe.class.name", "io.shardingsphere.core.routing.router.masterslave.MySQLSlaveLagProbe", String.class),
+    
+    /**
+     * Enable or Disable to route query to master data source if replication lag of every slave data source exceed threshold.
+     *
+     * <p>
+     * Only works if {@code master.slave.lag.threshold.millis} is set, query will be routed to all slave data sources if disabled.
+     * Default: false
+     * </p>
+     */
+    MASTER_SLAVE_LAG_MASTER_ROUTE_IF_ALL_STALE("master.slave.lag.master.route.if.all.stale", Boolean.FALSE.toString(), boolean.class),
+    
     /**
      * Proxy mode.
      *
@@ -80,7 +275,18 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_SIMPLE_DB_CONNECTIONS("proxy.backend.simple.db.connections", 8 + "", int.class),
     
-    PROXY_BACKEND_CONNECTION_TIMEOUT("proxy.backend.connection.timeout", 60 + "", int.class);
+    PROXY_BACKEND_CONNECTION_TIMEOUT("proxy.backend.connection.timeout", 60 + "", int.class),
+    
+    /**
+     * Max rows of every query buffered in Sharding-Proxy before sent to client.
+     *
+     * <p>
+     * Only works if {@code proxy.backend.use.nio} is enabled, 
+     * stop reading from backend database connection when buffer is full and resume when half of buffer is sent.
+     * Default: 1024, 0 means unlimited.
+     * </p>
+     */
+    PROXY_BACKEND_MAX_BUFFERED_ROWS("proxy.backend.max.buffered.rows", 1024 + "", int.class);
     
     private final String key;
     
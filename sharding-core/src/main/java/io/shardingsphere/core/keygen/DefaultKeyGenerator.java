@@ -21,9 +21,8 @@ import com.google.common.base.Preconditions;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
-import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default distributed primary key generator.
@@ -43,6 +42,13 @@ import java.util.Date;
  * Call @{@code DefaultKeyGenerator.setWorkerId} to set.
  * </p>
  * 
+ * <p>
+ * Timestamp and sequence of last generated key are packed into one atomic long and updated by CAS without lock.
+ * If sequence of current millisecond is exhausted or clock is moved backwards, keys of following milliseconds will be borrowed, 
+ * at most {@code maxTolerateTimeDifferenceMilliseconds} ahead of current time.
+ * Call @{@code DefaultKeyGenerator.setAllocationSize} to allocate keys by range for every thread to reduce contention.
+ * </p>
+ * 
  * @author gaohongtao
  */
 @Slf4j
@@ -67,6 +73,10 @@ public final class DefaultKeyGenerator implements KeyGenerator {
     
     private static long workerId;
     
+    private static long maxTolerateTimeDifferenceMilliseconds = 10L;
+    
+    private static int allocationSize = 1;
+    
     static {
         Calendar calendar = Calendar.getInstance();
         calendar.set(2016, Calendar.NOVEMBER, 1);
@@ -77,9 +87,15 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         EPOCH = calendar.getTimeInMillis();
     }
     
-    private long sequence;
+    private final AtomicLong lastTimeAndSequence = new AtomicLong(-1L);
     
-    private long lastTime;
+    private final ThreadLocal<long[]> allocatedRange = new ThreadLocal<long[]>() {
+        
+        @Override
+        protected long[] initialValue() {
+            return new long[2];
+        }
+    };
     
     /**
      * Set work process id.
@@ -91,34 +107,75 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         DefaultKeyGenerator.workerId = workerId;
     }
     
+    /**
+     * Set max tolerate time difference in milliseconds.
+     * 
+     * <p>Set to {@code 0} to wait for next millisecond when sequence is exhausted and reject any clock backwards.</p>
+     * 
+     * @param maxTolerateTimeDifferenceMilliseconds max tolerate time difference in milliseconds
+     */
+    public static void setMaxTolerateTimeDifferenceMilliseconds(final long maxTolerateTimeDifferenceMilliseconds) {
+        Preconditions.checkArgument(maxTolerateTimeDifferenceMilliseconds >= 0L);
+        DefaultKeyGenerator.maxTolerateTimeDifferenceMilliseconds = maxTolerateTimeDifferenceMilliseconds;
+    }
+    
+    /**
+     * Set count of keys allocated by every thread at once.
+     * 
+     * <p>Keys allocated by one thread are consecutive, but keys of different threads are not ordered by generated time.</p>
+     * 
+     * @param allocationSize count of keys allocated at once
+     */
+    public static void setAllocationSize(final int allocationSize) {
+        Preconditions.checkArgument(allocationSize > 0 && allocationSize <= SEQUENCE_MASK + 1);
+        DefaultKeyGenerator.allocationSize = allocationSize;
+    }
+    
     /**
      * Generate key.
      * 
      * @return key type is @{@link Long}.
      */
     @Override
-    public synchronized Number generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        Preconditions.checkState(lastTime <= currentMillis, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTime, currentMillis);
-        if (lastTime == currentMillis) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMillis = waitUntilNextTime(currentMillis);
-            }
-        } else {
-            sequence = 0;
-        }
-        lastTime = currentMillis;
+    public Number generateKey() {
+        long timeAndSequence = 1 == allocationSize ? allocate(1) : nextAllocated();
+        long timeOffset = timeAndSequence >> SEQUENCE_BITS;
+        long sequence = timeAndSequence & SEQUENCE_MASK;
         if (log.isDebugEnabled()) {
-            log.debug("{}-{}-{}", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(lastTime)), workerId, sequence);
+            log.debug("{}-{}-{}", timeOffset + EPOCH, workerId, sequence);
+        }
+        return (timeOffset << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long nextAllocated() {
+        long[] range = allocatedRange.get();
+        if (range[0] == range[1]) {
+            range[1] = allocate(allocationSize);
+            range[0] = range[1] - allocationSize;
         }
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+        return ++range[0];
     }
     
-    private long waitUntilNextTime(final long lastTime) {
-        long time = timeService.getCurrentMillis();
-        while (time <= lastTime) {
-            time = timeService.getCurrentMillis();
+    private long allocate(final int count) {
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            long lastTimeOffset = last >> SEQUENCE_BITS;
+            long currentTimeOffset = timeService.getCurrentMillis() - EPOCH;
+            long next;
+            if (currentTimeOffset > lastTimeOffset) {
+                next = (currentTimeOffset << SEQUENCE_BITS) + count - 1;
+            } else {
+                Preconditions.checkState(lastTimeOffset - currentTimeOffset <= maxTolerateTimeDifferenceMilliseconds, 
+                        "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTimeOffset + EPOCH, currentTimeOffset + EPOCH);
+                next = last + count;
+                if ((next >> SEQUENCE_BITS) - currentTimeOffset > maxTolerateTimeDifferenceMilliseconds) {
+                    Thread.yield();
+                    continue;
+                }
+            }
+            if (lastTimeAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
         }
-        return time;
     }
 }
@@ -17,9 +17,12 @@
 
 package io.shardingsphere.core.keygen;
 
+import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.Modifier;
+
 /**
  * Key generator factory.
  * 
@@ -41,4 +44,32 @@ public final class KeyGeneratorFactory {
             throw new IllegalArgumentException(String.format("Class %s should have public privilege and no argument constructor", keyGeneratorClassName));
         }
     }
+    
+    /**
+     * Get class name of key generator which can be created by {@link #newInstance(String)}.
+     * 
+     * <p>
+     * Key generator which depends on runtime resources such as {@link SegmentKeyGenerator} cannot be described by class name only,
+     * it is rejected here instead of failing when configuration is rebuilt from yaml or registry center.
+     * </p>
+     * 
+     * @param keyGenerator key generator
+     * @return key generator class name
+     */
+    public static String getClassName(final KeyGenerator keyGenerator) {
+        Class<?> keyGeneratorClass = keyGenerator.getClass();
+        int modifiers = keyGeneratorClass.getModifiers();
+        Preconditions.checkArgument(Modifier.isPublic(modifiers) && !Modifier.isAbstract(modifiers) && hasPublicNoArgumentConstructor(keyGeneratorClass),
+                "Key generator %s cannot be configured by class name, it should have public privilege and no argument constructor", keyGeneratorClass.getName());
+        return keyGeneratorClass.getName();
+    }
+    
+    private static boolean hasPublicNoArgumentConstructor(final Class<?> keyGeneratorClass) {
+        try {
+            keyGeneratorClass.getConstructor();
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.keygen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Segment key generator.
+ * 
+ * <p>
+ * Lease segments of consecutive keys from sequence table, keys are generated from memory. 
+ * Next segment will be leased asynchronously when 10 percent of current segment is used, 
+ * so generating key will not wait for database unless next segment is not leased in time.
+ * Keys of one key name are unique and increasing in one generator, also unique among generators share same sequence table.
+ * If another generator inserts the first segment of the key name concurrently, the lease is retried by update.
+ * Generator depends on data source, so it should be configured by API and cannot be configured by yaml or registry center.
+ * </p>
+ * 
+ * <pre>
+ * CREATE TABLE sharding_key_segment (key_name VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)
+ * </pre>
+ * 
+ * @author zhangliang
+ */
+public final class SegmentKeyGenerator implements KeyGenerator {
+    
+    public static final String DEFAULT_TABLE_NAME = "sharding_key_segment";
+    
+    public static final int DEFAULT_SEGMENT_SIZE = 10000;
+    
+    private static final double PREFETCH_RATIO = 0.1D;
+    
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS = "23";
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-KeySegment-%d").build());
+    
+    private final DataSource dataSource;
+    
+    private final String keyName;
+    
+    private final int segmentSize;
+    
+    private final String updateSQL;
+    
+    private final String selectSQL;
+    
+    private final String insertSQL;
+    
+    private volatile Segment currentSegment = new Segment(1L, 0L);
+    
+    private Future<Segment> nextSegment;
+    
+    public SegmentKeyGenerator(final DataSource dataSource, final String keyName) {
+        this(dataSource, keyName, DEFAULT_TABLE_NAME, DEFAULT_SEGMENT_SIZE);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param dataSource data source of sequence table
+     * @param keyName key name, usually use logic table name
+     * @param tableName sequence table name
+     * @param segmentSize count of keys leased at once
+     */
+    public SegmentKeyGenerator(final DataSource dataSource, final String keyName, final String tableName, final int segmentSize) {
+        Preconditions.checkArgument(segmentSize > 0, "Segment size should be positive.");
+        this.dataSource = dataSource;
+        this.keyName = keyName;
+        this.segmentSize = segmentSize;
+        updateSQL = String.format("UPDATE %s SET max_id = max_id + ? WHERE key_name = ?", tableName);
+        selectSQL = String.format("SELECT max_id FROM %s WHERE key_name = ?", tableName);
+        insertSQL = String.format("INSERT INTO %s (key_name, max_id) VALUES (?, ?)", tableName);
+    }
+    
+    @Override
+    public Number generateKey() {
+        while (true) {
+            Segment segment = currentSegment;
+            long result = segment.getCursor().getAndIncrement();
+            if (result <= segment.getMaxId()) {
+                if (result - segment.getMinId() >= segmentSize * PREFETCH_RATIO && segment.getPrefetched().compareAndSet(false, true)) {
+                    prefetchNextSegment();
+                }
+                return result;
+            }
+            switchSegment(segment);
+        }
+    }
+    
+    private synchronized void prefetchNextSegment() {
+        if (null == nextSegment) {
+            nextSegment = PREFETCH_EXECUTOR.submit(new Callable<Segment>() {
+                
+                @Override
+                public Segment call() throws SQLException {
+                    return leaseSegment();
+                }
+            });
+        }
+    }
+    
+    private synchronized void switchSegment(final Segment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        try {
+            currentSegment = null == nextSegment ? leaseSegment() : nextSegment.get();
+        } catch (final SQLException | ExecutionException ex) {
+            throw new ShardingException(String.format("Cannot lease key segment of '%s'", keyName), ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingException(String.format("Interrupted while leasing key segment of '%s'", keyName), ex);
+        } finally {
+            nextSegment = null;
+        }
+    }
+    
+    private Segment leaseSegment() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long maxId = leaseSegment(connection);
+                connection.commit();
+                return new Segment(maxId - segmentSize + 1, maxId);
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+    
+    private long leaseSegment(final Connection connection) throws SQLException {
+        if (updateSegment(connection)) {
+            return selectSegment(connection);
+        }
+        try {
+            return insertSegment(connection);
+        } catch (final SQLException ex) {
+            if (!isDuplicateKey(ex)) {
+                throw ex;
+            }
+        }
+        connection.rollback();
+        Preconditions.checkState(updateSegment(connection), "Cannot find key segment of '%s'", keyName);
+        return selectSegment(connection);
+    }
+    
+    private boolean updateSegment(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSQL)) {
+            preparedStatement.setLong(1, segmentSize);
+            preparedStatement.setString(2, keyName);
+            return 0 != preparedStatement.executeUpdate();
+        }
+    }
+    
+    private long selectSegment(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectSQL)) {
+            preparedStatement.setString(1, keyName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                Preconditions.checkState(resultSet.next(), "Cannot find key segment of '%s'", keyName);
+                return resultSet.getLong(1);
+            }
+        }
+    }
+    
+    private long insertSegment(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(insertSQL)) {
+            preparedStatement.setString(1, keyName);
+            preparedStatement.setLong(2, segmentSize);
+            preparedStatement.executeUpdate();
+        }
+        return segmentSize;
+    }
+    
+    private boolean isDuplicateKey(final SQLException ex) {
+        return null != ex.getSQLState() && ex.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS);
+    }
+    
+    @Getter
+    private static final class Segment {
+        
+        private final long minId;
+        
+        private final long maxId;
+        
+        private final AtomicLong cursor;
+        
+        private final AtomicBoolean prefetched = new AtomicBoolean();
+        
+        Segment(final long minId, final long maxId) {
+            this.minId = minId;
+            this.maxId = maxId;
+            cursor = new AtomicLong(minId);
+        }
+    }
+}
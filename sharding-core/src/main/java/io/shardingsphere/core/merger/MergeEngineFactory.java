@@ -29,6 +29,7 @@ import lombok.NoArgsConstructor;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Result merge engine factory.
@@ -51,8 +52,41 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
                                           final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
+        return newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData, 0, null);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param shardingRule sharding rule
+     * @param queryResults query results
+     * @param sqlStatement SQL statement
+     * @param shardingTableMetaData sharding table meta Data
+     * @param groupByMemoryMaxRows max count of groups held in memory for group by merging, zero means unlimited
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
+                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData, final int groupByMemoryMaxRows) throws SQLException {
+        return newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData, groupByMemoryMaxRows, null);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param shardingRule sharding rule
+     * @param queryResults query results
+     * @param sqlStatement SQL statement
+     * @param shardingTableMetaData sharding table meta Data
+     * @param groupByMemoryMaxRows max count of groups held in memory for group by merging, zero means unlimited
+     * @param executorService executor service for partially aggregating query results in parallel, {@code null} means merge in caller thread only
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults, final SQLStatement sqlStatement, 
+                                          final ShardingTableMetaData shardingTableMetaData, final int groupByMemoryMaxRows, final ExecutorService executorService) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
-            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement);
+            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement, groupByMemoryMaxRows, executorService);
         } 
         if (sqlStatement instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) sqlStatement, shardingTableMetaData);
@@ -23,6 +23,7 @@ import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResult;
+import io.shardingsphere.core.merger.dql.groupby.GroupByTopNMergedResult;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResult;
@@ -36,6 +37,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 
 /**
  * DQL result set merge engine.
@@ -50,9 +52,24 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final Map<String, Integer> columnLabelIndexMap;
     
+    private final int groupByMemoryMaxRows;
+    
+    private final ExecutorService executorService;
+    
     public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(queryResults, selectStatement, 0);
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final int groupByMemoryMaxRows) throws SQLException {
+        this(queryResults, selectStatement, groupByMemoryMaxRows, null);
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, 
+                          final int groupByMemoryMaxRows, final ExecutorService executorService) throws SQLException {
         this.queryResults = queryResults;
         this.selectStatement = selectStatement;
+        this.groupByMemoryMaxRows = groupByMemoryMaxRows;
+        this.executorService = executorService;
         columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
     }
     
@@ -74,8 +91,10 @@ public final class DQLMergeEngine implements MergeEngine {
         if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
             if (selectStatement.isSameGroupByAndOrderByItems()) {
                 return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            } else if (selectStatement.isTopNAfterStreamGroupBy()) {
+                return new GroupByTopNMergedResult(columnLabelIndexMap, queryResults, selectStatement);
             } else {
-                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, groupByMemoryMaxRows, executorService);
             }
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
@@ -35,6 +35,10 @@ public class MemoryQueryResultRow {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
@@ -19,58 +19,259 @@ package io.shardingsphere.core.merger.dql.groupby;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
+import com.google.common.collect.PeekingIterator;
+import com.google.common.hash.Hashing;
+import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillFile;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Memory merged result for group by.
  *
+ * <p>
+ * If max memory rows is set, rows of groups exceed the limit will be hash partitioned and spilled into temporary files.
+ * Groups in memory and every spilled partition are aggregated and sorted separately, then merged back in order.
+ * </p>
+ *
+ * <p>
+ * If executor service is set and max memory rows is not set, every query result will be partially aggregated into its own groups by executor threads, 
+ * then partial groups are combined together.
+ * </p>
+ *
  * @author zhangliang
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
+    private static final int SPILL_PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
     private final SelectStatement selectStatement;
     
+    private final int maxMemoryRows;
+    
+    private final ExecutorService executorService;
+    
+    private final Collection<SpillFile> spillFiles = new LinkedList<>();
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, 0);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, 
+                                     final List<QueryResult> queryResults, final SelectStatement selectStatement, final int maxMemoryRows) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, maxMemoryRows, null);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final SelectStatement selectStatement, final int maxMemoryRows, final ExecutorService executorService) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
+        this.maxMemoryRows = maxMemoryRows;
+        this.executorService = executorService;
         memoryResultSetRows = init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
+        PeekingIterator<MemoryQueryResultRow> result = Iterators.peekingIterator(isParallelMergeEnabled(queryResults) ? mergeInParallel(queryResults) : merge(queryResults, 0));
+        if (result.hasNext()) {
+            setCurrentResultSetRow(result.peek());
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults, final int depth) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+        SpillFile[] partitions = new SpillFile[SPILL_PARTITION_COUNT];
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                    if (isSpillRequired(dataMap, groupByValue, depth)) {
+                        spill(each, groupByValue, partitions, depth);
+                        continue;
+                    }
+                    initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
+                    aggregate(each, groupByValue, aggregationMap);
+                }
             }
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
+        setAggregationValueToMemoryRow(dataMap, aggregationMap, selectStatement.getAggregationSelectItems());
         List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
-        if (!result.isEmpty()) {
-            setCurrentResultSetRow(result.get(0));
+        return isSpilled(partitions) ? mergeSpilledPartitions(queryResults.get(0), result, partitions, depth) : result.iterator();
+    }
+    
+    private boolean isParallelMergeEnabled(final List<QueryResult> queryResults) {
+        return null != executorService && queryResults.size() > 1 && maxMemoryRows <= 0;
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeInParallel(final List<QueryResult> queryResults) throws SQLException {
+        List<Future<Collection<MemoryQueryResultRow>>> partialResults = new ArrayList<>(queryResults.size() - 1);
+        for (final QueryResult each : queryResults.subList(1, queryResults.size())) {
+            partialResults.add(executorService.submit(new Callable<Collection<MemoryQueryResultRow>>() {
+                
+                @Override
+                public Collection<MemoryQueryResultRow> call() throws SQLException {
+                    return aggregatePartially(each);
+                }
+            }));
+        }
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        try {
+            combine(aggregatePartially(queryResults.get(0)), dataMap, aggregationMap);
+            for (Future<Collection<MemoryQueryResultRow>> each : partialResults) {
+                combine(getPartialResult(each), dataMap, aggregationMap);
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            for (Future<Collection<MemoryQueryResultRow>> each : partialResults) {
+                each.cancel(true);
+            }
+            throw ex;
         }
-        return result.iterator();
+        setAggregationValueToMemoryRow(dataMap, aggregationMap, selectStatement.getAggregationSelectItems());
+        return getMemoryResultSetRows(dataMap).iterator();
+    }
+    
+    private Collection<MemoryQueryResultRow> getPartialResult(final Future<Collection<MemoryQueryResultRow>> partialResult) throws SQLException {
+        try {
+            return partialResult.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new ShardingException(ex);
+        }
+    }
+    
+    private Collection<MemoryQueryResultRow> aggregatePartially(final QueryResult queryResult) throws SQLException {
+        List<AggregationSelectItem> partialAggregationSelectItems = getPartialAggregationSelectItems();
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, selectStatement.getGroupByItems());
+            if (!dataMap.containsKey(groupByValue)) {
+                dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+                aggregationMap.put(groupByValue, createAggregationUnits(partialAggregationSelectItems));
+            }
+            for (AggregationSelectItem each : partialAggregationSelectItems) {
+                aggregationMap.get(groupByValue).get(each).merge(Collections.<Comparable<?>>singletonList(getAggregationValue(queryResult, each)));
+            }
+        }
+        setAggregationValueToMemoryRow(dataMap, aggregationMap, partialAggregationSelectItems);
+        return dataMap.values();
+    }
+    
+    private List<AggregationSelectItem> getPartialAggregationSelectItems() {
+        List<AggregationSelectItem> result = new ArrayList<>(selectStatement.getAggregationSelectItems().size());
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            if (each.getDerivedAggregationSelectItems().isEmpty()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void combine(final Collection<MemoryQueryResultRow> partialRows, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                         final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        for (MemoryQueryResultRow each : partialRows) {
+            GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+            if (!dataMap.containsKey(groupByValue)) {
+                dataMap.put(groupByValue, each);
+                aggregationMap.put(groupByValue, createAggregationUnits(selectStatement.getAggregationSelectItems()));
+            }
+            aggregate(each, groupByValue, aggregationMap);
+        }
+    }
+    
+    private boolean isSpillRequired(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final GroupByValue groupByValue, final int depth) {
+        return maxMemoryRows > 0 && depth < MAX_SPILL_DEPTH && dataMap.size() >= maxMemoryRows && !dataMap.containsKey(groupByValue);
+    }
+    
+    private void spill(final QueryResult queryResult, final GroupByValue groupByValue, final SpillFile[] partitions, final int depth) throws SQLException {
+        int partition = (Hashing.murmur3_32(depth).hashInt(groupByValue.hashCode()).asInt() & Integer.MAX_VALUE) % SPILL_PARTITION_COUNT;
+        if (null == partitions[partition]) {
+            partitions[partition] = new SpillFile(queryResult);
+            spillFiles.add(partitions[partition]);
+        }
+        partitions[partition].append(queryResult);
+    }
+    
+    private boolean isSpilled(final SpillFile[] partitions) {
+        for (SpillFile each : partitions) {
+            if (null != each) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeSpilledPartitions(final QueryResult metaData, final List<MemoryQueryResultRow> memoryRows, 
+                                                                  final SpillFile[] partitions, final int depth) throws SQLException {
+        List<SpillFile> sortedRuns = new ArrayList<>(SPILL_PARTITION_COUNT + 1);
+        try {
+            sortedRuns.add(spillSortedRun(metaData, memoryRows.iterator()));
+            memoryRows.clear();
+            for (SpillFile each : partitions) {
+                if (null != each) {
+                    sortedRuns.add(spillSortedRun(metaData, merge(Collections.singletonList(each.read()), depth + 1)));
+                }
+            }
+            List<Iterator<MemoryQueryResultRow>> result = new ArrayList<>(sortedRuns.size());
+            for (SpillFile each : sortedRuns) {
+                result.add(new QueryResultRowIterator(each.read()));
+            }
+            return Iterators.mergeSorted(result, new GroupByRowComparator(selectStatement));
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private SpillFile spillSortedRun(final QueryResult metaData, final Iterator<MemoryQueryResultRow> sortedRows) throws SQLException {
+        SpillFile result = new SpillFile(metaData);
+        spillFiles.add(result);
+        while (sortedRows.hasNext()) {
+            result.append(sortedRows.next());
+        }
+        return result;
     }
     
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
@@ -79,15 +280,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
         if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
+            aggregationMap.put(groupByValue, createAggregationUnits(selectStatement.getAggregationSelectItems()));
+        }
+    }
+    
+    private Map<AggregationSelectItem, AggregationUnit> createAggregationUnits(final List<AggregationSelectItem> aggregationSelectItems) {
+        return Maps.toMap(aggregationSelectItems, new Function<AggregationSelectItem, AggregationUnit>() {
                 
                 @Override
                 public AggregationUnit apply(final AggregationSelectItem input) {
                     return AggregationUnitFactory.create(input.getType());
                 }
             });
-            aggregationMap.put(groupByValue, map);
-        }
     }
     
     private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
@@ -104,15 +308,30 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
     }
     
+    private void aggregate(final MemoryQueryResultRow row, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationSelectItems().isEmpty()) {
+                values.add((Comparable<?>) row.getCell(each.getIndex()));
+            } else {
+                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
+                    values.add((Comparable<?>) row.getCell(derived.getIndex()));
+                }
+            }
+            aggregationMap.get(groupByValue).get(each).merge(values);
+        }
+    }
+    
     private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
         Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
         Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, 
+                                                final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap, final List<AggregationSelectItem> aggregationSelectItems) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            for (AggregationSelectItem each : aggregationSelectItems) {
                 entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
             }
         }
@@ -132,4 +351,30 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @Override
+    public void close() {
+        for (SpillFile each : spillFiles) {
+            each.delete();
+        }
+        spillFiles.clear();
+    }
+    
+    private static final class QueryResultRowIterator extends AbstractIterator<MemoryQueryResultRow> {
+        
+        private final QueryResult queryResult;
+        
+        QueryResultRowIterator(final QueryResult queryResult) {
+            this.queryResult = queryResult;
+        }
+        
+        @Override
+        protected MemoryQueryResultRow computeNext() {
+            try {
+                return queryResult.next() ? new MemoryQueryResultRow(queryResult) : endOfData();
+            } catch (final SQLException ex) {
+                throw new ShardingException(ex);
+            }
+        }
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby;
+
+import com.google.common.collect.Ordering;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Top N merged result for group by.
+ * 
+ * <p>
+ * Actual results are ordered by group by items and stream merged first, 
+ * then only top offset plus row count rows sorted by order by items are held in memory.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class GroupByTopNMergedResult extends MemoryMergedResult {
+    
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    public GroupByTopNMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        super(labelAndIndexMap);
+        memoryResultSetRows = init(labelAndIndexMap, queryResults, selectStatement);
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        int topN = selectStatement.getLimit().getOffsetValue() + selectStatement.getLimit().getRowCountValue();
+        if (topN <= 0) {
+            return Collections.<MemoryQueryResultRow>emptyList().iterator();
+        }
+        int columnCount = queryResults.get(0).getColumnCount();
+        Ordering<MemoryQueryResultRow> ordering = Ordering.from(new GroupByRowComparator(selectStatement));
+        PriorityQueue<MemoryQueryResultRow> topRows = new PriorityQueue<>(Math.min(topN, MAX_INITIAL_CAPACITY), ordering.reverse());
+        GroupByStreamMergedResult groupByStreamMergedResult = new GroupByStreamMergedResult(labelAndIndexMap, queryResults, selectStatement);
+        while (groupByStreamMergedResult.next()) {
+            MemoryQueryResultRow row = createRow(groupByStreamMergedResult, columnCount);
+            if (topRows.size() < topN) {
+                topRows.offer(row);
+            } else if (ordering.compare(row, topRows.peek()) < 0) {
+                topRows.poll();
+                topRows.offer(row);
+            }
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(topRows);
+        Collections.sort(result, ordering);
+        if (!result.isEmpty()) {
+            setCurrentResultSetRow(result.get(0));
+        }
+        return result.iterator();
+    }
+    
+    private MemoryQueryResultRow createRow(final GroupByStreamMergedResult groupByStreamMergedResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = groupByStreamMergedResult.getValue(i + 1, Object.class);
+        }
+        return new MemoryQueryResultRow(result);
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            setCurrentResultSetRow(memoryResultSetRows.next());
+            return true;
+        }
+        return false;
+    }
+}
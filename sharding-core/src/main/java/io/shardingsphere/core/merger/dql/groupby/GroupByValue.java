@@ -18,6 +18,7 @@
 package io.shardingsphere.core.merger.dql.groupby;
 
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -41,6 +42,10 @@ public final class GroupByValue {
         groupValues = getGroupByValues(queryResult, groupByItems);
     }
     
+    public GroupByValue(final MemoryQueryResultRow row, final List<OrderItem> groupByItems) {
+        groupValues = getGroupByValues(row, groupByItems);
+    }
+    
     private List<?> getGroupByValues(final QueryResult queryResult, final List<OrderItem> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderItem each : groupByItems) {
@@ -48,4 +53,12 @@ public final class GroupByValue {
         }
         return result;
     }
+    
+    private List<?> getGroupByValues(final MemoryQueryResultRow row, final List<OrderItem> groupByItems) {
+        List<Object> result = new ArrayList<>(groupByItems.size());
+        for (OrderItem each : groupByItems) {
+            result.add(row.getCell(each.getIndex()));
+        }
+        return result;
+    }
 }
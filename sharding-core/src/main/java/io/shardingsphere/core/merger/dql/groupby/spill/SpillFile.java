@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spill file.
+ * 
+ * <p>
+ * Rows are appended into a local temporary file in compact binary format, and can be read back once as a query result.
+ * The temporary file will be deleted after all rows are read, or deleted explicitly if rows are not read completely.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class SpillFile {
+    
+    static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final List<String> columnLabels;
+    
+    private final File file;
+    
+    private final DataOutputStream output;
+    
+    @Getter
+    private long rowCount;
+    
+    private SpillQueryResult queryResult;
+    
+    public SpillFile(final QueryResult metaData) throws SQLException {
+        columnLabels = getColumnLabels(metaData);
+        try {
+            file = File.createTempFile("sharding-spill-", ".tmp");
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            throw new SQLException("Can not create spill file", ex);
+        }
+    }
+    
+    private List<String> getColumnLabels(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getColumnCount();
+        List<String> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.add(queryResult.getColumnLabel(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Append current row of query result.
+     * 
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void append(final QueryResult queryResult) throws SQLException {
+        try {
+            for (int i = 1; i <= columnLabels.size(); i++) {
+                SpillValueCodec.write(output, queryResult.getValue(i, Object.class));
+            }
+        } catch (final IOException ex) {
+            throw new SQLException("Can not write spill file", ex);
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Append memory row.
+     *
+     * @param row memory query result row
+     * @throws SQLException SQL exception
+     */
+    public void append(final MemoryQueryResultRow row) throws SQLException {
+        try {
+            for (int i = 1; i <= columnLabels.size(); i++) {
+                SpillValueCodec.write(output, row.getCell(i));
+            }
+        } catch (final IOException ex) {
+            throw new SQLException("Can not write spill file", ex);
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Finish appending and read rows back as query result.
+     * 
+     * @return query result of spilled rows
+     * @throws SQLException SQL exception
+     */
+    public QueryResult read() throws SQLException {
+        try {
+            output.close();
+            queryResult = new SpillQueryResult(file, columnLabels, rowCount);
+            return queryResult;
+        } catch (final IOException ex) {
+            delete();
+            throw new SQLException("Can not read spill file", ex);
+        }
+    }
+    
+    /**
+     * Delete spill file, rows which are not read will be discarded.
+     */
+    public void delete() {
+        if (null != queryResult) {
+            queryResult.close();
+            return;
+        }
+        try {
+            output.close();
+        } catch (final IOException ex) {
+            log.warn("Can not close spill file '{}'", file, ex);
+        }
+        if (!file.delete()) {
+            log.warn("Can not delete spill file '{}'", file);
+        }
+    }
+}
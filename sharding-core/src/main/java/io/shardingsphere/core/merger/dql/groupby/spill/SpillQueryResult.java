@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result of spilled rows.
+ *
+ * @author zhangliang
+ */
+@Slf4j
+final class SpillQueryResult implements QueryResult {
+    
+    private final File file;
+    
+    private final List<String> columnLabels;
+    
+    private final DataInputStream input;
+    
+    private final Object[] currentRow;
+    
+    private long remainingRows;
+    
+    private boolean wasNull;
+    
+    private boolean closed;
+    
+    SpillQueryResult(final File file, final List<String> columnLabels, final long rowCount) throws IOException {
+        this.file = file;
+        this.columnLabels = columnLabels;
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), SpillFile.BUFFER_SIZE));
+        currentRow = new Object[columnLabels.size()];
+        remainingRows = rowCount;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (0 == remainingRows) {
+            close();
+            return false;
+        }
+        try {
+            for (int i = 0; i < currentRow.length; i++) {
+                currentRow[i] = SpillValueCodec.read(input);
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException("Can not read spill file", ex);
+        }
+        remainingRows--;
+        return true;
+    }
+    
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        remainingRows = 0;
+        try {
+            input.close();
+        } catch (final IOException ex) {
+            log.warn("Can not close spill file '{}'", file, ex);
+        }
+        if (!file.delete()) {
+            log.warn("Can not delete spill file '{}'", file);
+        }
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return getCell(columnIndex);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getCell(getColumnIndex(columnLabel));
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCell(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getCell(getColumnIndex(columnLabel));
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private Object getCell(final int columnIndex) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    private int getColumnIndex(final String columnLabel) throws SQLException {
+        for (int i = 0; i < columnLabels.size(); i++) {
+            if (columnLabels.get(i).equalsIgnoreCase(columnLabel)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException(String.format("Can not find column label '%s'", columnLabel));
+    }
+}
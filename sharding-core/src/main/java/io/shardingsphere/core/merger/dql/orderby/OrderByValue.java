@@ -18,22 +18,22 @@
 package io.shardingsphere.core.merger.dql.orderby;
 
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Order by value.
  * 
+ * <p>Order values are decoded into a reused array when iterate next data, no list is allocated for each row.</p>
+ * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
@@ -41,7 +41,13 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<OrderItem> orderByItems;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    public OrderByValue(final QueryResult queryResult, final List<OrderItem> orderByItems) {
+        this.queryResult = queryResult;
+        this.orderByItems = orderByItems;
+        orderValues = new Comparable<?>[orderByItems.size()];
+    }
     
     /**
      * iterate next data.
@@ -51,29 +57,45 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            fillOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void fillOrderValues() throws SQLException {
+        int i = 0;
         for (OrderItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i++] = (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        for (int i = 0; i < orderByItems.size(); i++) {
-            OrderItem thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+        int i = 0;
+        for (OrderItem each : orderByItems) {
+            int result = compareTo(orderValues[i], o.orderValues[i], each);
             if (0 != result) {
                 return result;
             }
+            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final Comparable<?> thisValue, final Comparable<?> otherValue, final OrderItem orderItem) {
+        if (isIntegralNumber(thisValue) && isIntegralNumber(otherValue)) {
+            int result = Long.compare(((Number) thisValue).longValue(), ((Number) otherValue).longValue());
+            return OrderDirection.ASC == orderItem.getOrderDirection() ? result : -result;
+        }
+        return CompareUtil.compareTo(thisValue, otherValue, orderItem.getOrderDirection(), orderItem.getNullOrderDirection());
+    }
+    
+    private boolean isIntegralNumber(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
 }
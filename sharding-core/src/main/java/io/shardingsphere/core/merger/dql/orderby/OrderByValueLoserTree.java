@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Tournament tree for k-way merging, only log(k) comparisons between losers on the path are needed after the winner advanced,
+ * and the tree is kept in primitive arrays without allocating any node.
+ * Equal order by values are served by arrival order, the value advanced earlier wins.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int VIRTUAL_MIN = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private final long[] arrivals;
+    
+    private long arrivalSequence;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[Math.max(1, this.orderByValues.length)];
+        arrivals = new long[this.orderByValues.length];
+        remaining = this.orderByValues.length;
+        Arrays.fill(losers, VIRTUAL_MIN);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Adjust whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get current minimum order by value.
+     * 
+     * @return current minimum order by value
+     */
+    public OrderByValue peek() {
+        return orderByValues[losers[0]];
+    }
+    
+    /**
+     * Iterate next data of current minimum order by value and replay the tournament.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = losers[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        arrivals[winner] = ++arrivalSequence;
+        adjust(winner);
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + orderByValues.length) / 2; parent > 0; parent /= 2) {
+            if (isGreater(winner, losers[parent])) {
+                int loser = losers[parent];
+                losers[parent] = winner;
+                winner = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isGreater(final int thisIndex, final int otherIndex) {
+        if (VIRTUAL_MIN == thisIndex) {
+            return false;
+        }
+        if (VIRTUAL_MIN == otherIndex) {
+            return true;
+        }
+        if (exhausted[thisIndex] || exhausted[otherIndex]) {
+            return exhausted[thisIndex] && (!exhausted[otherIndex] || thisIndex > otherIndex);
+        }
+        int result = orderByValues[thisIndex].compareTo(orderByValues[otherIndex]);
+        if (0 != result) {
+            return result > 0;
+        }
+        return arrivals[thisIndex] > arrivals[otherIndex] || arrivals[thisIndex] == arrivals[otherIndex] && thisIndex > otherIndex;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.pagination;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.orderby.CompareUtil;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.selectitem.SelectItem;
+import io.shardingsphere.core.parsing.parser.context.selectitem.StarSelectItem;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.util.SQLUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Deep pagination engine.
+ *
+ * <p>
+ * Deep pagination will be executed in two rounds.
+ * First round only fetch sort keys of rewritten actual SQL to locate the range of sort key for the page, 
+ * second round fetch rows of rewritten actual SQL in range of sort key, then skip rows before the page which have same sort key with the beginning of the page.
+ * </p>
+ * 
+ * <p>Deep pagination engine should be created only if {@link #isDeepPagination} is true.</p>
+ *
+ * @author zhangliang
+ */
+public final class DeepPaginationEngine {
+    
+    private static final String DERIVED_TABLE_ALIAS = "sharding_page";
+    
+    private final SelectStatement selectStatement;
+    
+    private final OrderItem sortKeyItem;
+    
+    private final String sortKeyColumn;
+    
+    public DeepPaginationEngine(final SelectStatement selectStatement) {
+        this.selectStatement = selectStatement;
+        sortKeyItem = selectStatement.getOrderByItems().get(0);
+        sortKeyColumn = DERIVED_TABLE_ALIAS + "." + SQLUtil.getOriginalValue(SQLUtil.getExactlyValue(sortKeyItem.getColumnLabel()), selectStatement.getLimit().getDatabaseType());
+    }
+    
+    /**
+     * Judge is deep pagination or not.
+     * 
+     * <p>Only select statements ordered by one column without group by, aggregation and sub query can be deep paginated.
+     * Rewritten actual SQL is queried as derived table, so the column labels of select items must be unique.</p>
+     *
+     * @param selectStatement select statement
+     * @param executionUnitCount count of execution units
+     * @param offsetThreshold threshold of offset, zero means disable deep pagination
+     * @return is deep pagination or not
+     */
+    public static boolean isDeepPagination(final SelectStatement selectStatement, final int executionUnitCount, final int offsetThreshold) {
+        Limit limit = selectStatement.getLimit();
+        return offsetThreshold > 0 && executionUnitCount > 1 && null != limit && limit.isNeedRewriteRowCount() && null != limit.getRowCount()
+                && limit.getOffsetValue() >= offsetThreshold && 1 == selectStatement.getOrderByItems().size() && null != selectStatement.getOrderByItems().get(0).getColumnLabel()
+                && selectStatement.getGroupByItems().isEmpty() && selectStatement.getAggregationSelectItems().isEmpty() && !selectStatement.containsSubQuery()
+                && isUniqueColumnLabels(selectStatement);
+    }
+    
+    private static boolean isUniqueColumnLabels(final SelectStatement selectStatement) {
+        Collection<String> columnLabels = new HashSet<>(selectStatement.getItems().size(), 1);
+        for (SelectItem each : selectStatement.getItems()) {
+            if (each instanceof StarSelectItem) {
+                if (1 != selectStatement.getItems().size() || !selectStatement.getTables().isSingleTable() && !((StarSelectItem) each).getOwner().isPresent()) {
+                    return false;
+                }
+            } else if (!columnLabels.add(getColumnLabel(each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static String getColumnLabel(final SelectItem selectItem) {
+        String result = selectItem.getAlias().isPresent() ? selectItem.getAlias().get() : selectItem.getExpression().substring(selectItem.getExpression().lastIndexOf('.') + 1);
+        return SQLUtil.getExactlyValue(result).toLowerCase();
+    }
+    
+    /**
+     * Create execution units to fetch sort keys.
+     *
+     * @param executionUnits execution units of rewritten actual SQL
+     * @return execution units to fetch sort keys
+     */
+    public Collection<SQLExecutionUnit> createSortKeyExecutionUnits(final Collection<SQLExecutionUnit> executionUnits) {
+        Collection<SQLExecutionUnit> result = new LinkedList<>();
+        for (SQLExecutionUnit each : executionUnits) {
+            String sql = String.format("SELECT %s FROM (%s) %s ORDER BY %s %s", 
+                    sortKeyColumn, each.getSqlUnit().getSql(), DERIVED_TABLE_ALIAS, sortKeyColumn, sortKeyItem.getOrderDirection().name());
+            result.add(new SQLExecutionUnit(each.getDataSource(), new SQLUnit(sql, getParameterSets(each, Collections.<Object>emptyList()))));
+        }
+        return result;
+    }
+    
+    /**
+     * Create execution units to fetch rows in range of sort key.
+     *
+     * @param executionUnits execution units of rewritten actual SQL
+     * @param range range of sort key
+     * @return execution units to fetch rows in range of sort key
+     */
+    public Collection<SQLExecutionUnit> createRangeExecutionUnits(final Collection<SQLExecutionUnit> executionUnits, final DeepPaginationRange range) {
+        List<Object> rangeParameters = OrderDirection.ASC == sortKeyItem.getOrderDirection()
+                ? Arrays.<Object>asList(range.getBeginSortKey(), range.getEndSortKey()) : Arrays.<Object>asList(range.getEndSortKey(), range.getBeginSortKey());
+        Collection<SQLExecutionUnit> result = new LinkedList<>();
+        for (SQLExecutionUnit each : executionUnits) {
+            String sql = String.format("SELECT * FROM (%s) %s WHERE %s BETWEEN ? AND ? ORDER BY %s %s", 
+                    each.getSqlUnit().getSql(), DERIVED_TABLE_ALIAS, sortKeyColumn, sortKeyColumn, sortKeyItem.getOrderDirection().name());
+            result.add(new SQLExecutionUnit(each.getDataSource(), new SQLUnit(sql, getParameterSets(each, rangeParameters))));
+        }
+        return result;
+    }
+    
+    private List<List<Object>> getParameterSets(final SQLExecutionUnit executionUnit, final List<Object> appendedParameters) {
+        List<Object> parameters = new ArrayList<>(executionUnit.getSqlUnit().getParameterSets().get(0));
+        parameters.addAll(appendedParameters);
+        List<List<Object>> result = new ArrayList<>(1);
+        result.add(parameters);
+        return result;
+    }
+    
+    /**
+     * Locate range of sort key for the page.
+     * 
+     * <p>Sort keys are merged from query results as stream, only current sort key of every query result is held in memory, 
+     * and rows after the last position of the page are not read.</p>
+     *
+     * @param sortKeyQueryResults query results of sort keys
+     * @return range of sort key, absent if the page is out of range or sort keys of the page boundary are null
+     * @throws SQLException SQL exception
+     */
+    public Optional<DeepPaginationRange> locate(final List<QueryResult> sortKeyQueryResults) throws SQLException {
+        Queue<SortKeyCursor> sortKeyCursors = new PriorityQueue<>(Math.max(sortKeyQueryResults.size(), 1));
+        for (QueryResult each : sortKeyQueryResults) {
+            SortKeyCursor sortKeyCursor = new SortKeyCursor(each);
+            if (sortKeyCursor.next()) {
+                sortKeyCursors.offer(sortKeyCursor);
+            }
+        }
+        int offset = selectStatement.getLimit().getOffsetValue();
+        int lastPosition = offset + selectStatement.getLimit().getRowCountValue() - 1;
+        Comparable<?> previousSortKey = null;
+        Comparable<?> beginSortKey = null;
+        Comparable<?> endSortKey = null;
+        int sameSortKeyCount = 0;
+        int skipCount = 0;
+        for (int position = 0; position <= lastPosition && !sortKeyCursors.isEmpty(); position++) {
+            SortKeyCursor sortKeyCursor = sortKeyCursors.poll();
+            Comparable<?> sortKey = sortKeyCursor.getSortKey();
+            sameSortKeyCount = position > 0 && 0 == compare(previousSortKey, sortKey) ? sameSortKeyCount + 1 : 0;
+            if (position == offset) {
+                beginSortKey = sortKey;
+                skipCount = sameSortKeyCount;
+            }
+            if (position >= offset) {
+                endSortKey = sortKey;
+            }
+            previousSortKey = sortKey;
+            if (position < lastPosition && sortKeyCursor.next()) {
+                sortKeyCursors.offer(sortKeyCursor);
+            }
+        }
+        return null == beginSortKey || null == endSortKey ? Optional.<DeepPaginationRange>absent() : Optional.of(new DeepPaginationRange(beginSortKey, endSortKey, skipCount));
+    }
+    
+    private int compare(final Comparable<?> thisSortKey, final Comparable<?> otherSortKey) {
+        return CompareUtil.compareTo(thisSortKey, otherSortKey, sortKeyItem.getOrderDirection(), sortKeyItem.getNullOrderDirection());
+    }
+    
+    @RequiredArgsConstructor
+    private final class SortKeyCursor implements Comparable<SortKeyCursor> {
+        
+        private final QueryResult queryResult;
+        
+        @Getter
+        private Comparable<?> sortKey;
+        
+        private boolean next() throws SQLException {
+            if (!queryResult.next()) {
+                return false;
+            }
+            Object value = queryResult.getValue(1, Object.class);
+            Preconditions.checkState(null == value || value instanceof Comparable, "Sort key must implements Comparable");
+            sortKey = (Comparable<?>) value;
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final SortKeyCursor o) {
+            return compare(sortKey, o.sortKey);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.pagination;
+
+import io.shardingsphere.core.merger.MergeEngine;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.util.SQLUtil;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Merge engine for rows in range of sort key of deep pagination.
+ *
+ * @author zhangliang
+ */
+public final class DeepPaginationMergeEngine implements MergeEngine {
+    
+    private final List<QueryResult> queryResults;
+    
+    private final SelectStatement selectStatement;
+    
+    private final DeepPaginationRange range;
+    
+    private final Map<String, Integer> columnLabelIndexMap;
+    
+    public DeepPaginationMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final DeepPaginationRange range) throws SQLException {
+        this.queryResults = queryResults;
+        this.selectStatement = selectStatement;
+        this.range = range;
+        columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 1; i <= queryResult.getColumnCount(); i++) {
+            result.put(SQLUtil.getExactlyValue(queryResult.getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    @Override
+    public MergedResult merge() throws SQLException {
+        selectStatement.setIndexForItems(columnLabelIndexMap);
+        Limit limit = new Limit(selectStatement.getLimit().getDatabaseType());
+        limit.setOffset(new LimitValue(range.getSkipCount(), -1, true));
+        limit.setRowCount(new LimitValue(selectStatement.getLimit().getRowCountValue(), -1, false));
+        return new LimitDecoratorMergedResult(new OrderByStreamMergedResult(queryResults, selectStatement.getOrderByItems()), limit);
+    }
+}
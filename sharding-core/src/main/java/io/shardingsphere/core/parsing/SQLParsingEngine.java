@@ -26,14 +26,12 @@ import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
 import io.shardingsphere.core.parsing.parser.sql.SQLParserFactory;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.rule.ShardingRule;
-import lombok.RequiredArgsConstructor;
 
 /**
  * SQL parsing engine.
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class SQLParsingEngine {
     
     private final DatabaseType dbType;
@@ -44,9 +42,26 @@ public final class SQLParsingEngine {
     
     private final ShardingTableMetaData shardingTableMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    public SQLParsingEngine(final DatabaseType dbType, final String sql, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData) {
+        this(dbType, sql, shardingRule, shardingTableMetaData, null);
+    }
+    
+    public SQLParsingEngine(final DatabaseType dbType, final String sql, final ShardingRule shardingRule, 
+                            final ShardingTableMetaData shardingTableMetaData, final ParsingResultCache parsingResultCache) {
+        this.dbType = dbType;
+        this.sql = sql;
+        this.shardingRule = shardingRule;
+        this.shardingTableMetaData = shardingTableMetaData;
+        this.parsingResultCache = parsingResultCache;
+    }
+    
     /**
      * Parse SQL.
      * 
+     * <p>Parsing result cache will be ignored if it is not provided.</p>
+     * 
      * @param useCache use cache or not
      * @return parsed SQL statement
      */
@@ -58,13 +73,17 @@ public final class SQLParsingEngine {
         LexerEngine lexerEngine = LexerEngineFactory.newInstance(dbType, sql);
         lexerEngine.nextToken();
         SQLStatement result = SQLParserFactory.newInstance(dbType, lexerEngine.getCurrentToken().getType(), shardingRule, lexerEngine, shardingTableMetaData).parse();
-        if (useCache) {
-            ParsingResultCache.getInstance().put(sql, result);
+        if (isCacheEnabled(useCache)) {
+            parsingResultCache.put(sql, result);
         }
         return result;
     }
     
     private Optional<SQLStatement> getSQLStatementFromCache(final boolean useCache) {
-        return useCache ? Optional.fromNullable(ParsingResultCache.getInstance().getSQLStatement(sql)) : Optional.<SQLStatement>absent();
+        return isCacheEnabled(useCache) ? Optional.fromNullable(parsingResultCache.getSQLStatement(sql)) : Optional.<SQLStatement>absent();
+    }
+    
+    private boolean isCacheEnabled(final boolean useCache) {
+        return useCache && null != parsingResultCache;
     }
 }
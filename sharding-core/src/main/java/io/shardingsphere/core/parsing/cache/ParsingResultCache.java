@@ -17,32 +17,54 @@
 
 package io.shardingsphere.core.parsing.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-
-import java.util.Map;
-import java.util.WeakHashMap;
 
 /**
  * Parsing result cache.
  *
+ * <p>
+ * Cache is thread safe and bounded, least recently used entries will be evicted when exceed the capacity.
+ * One cache is owned by one sharding runtime context, it will be dropped with the sharding rule together.
+ * </p>
+ *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class ParsingResultCache {
     
-    private static final ParsingResultCache INSTANCE = new ParsingResultCache();
+    private static final int DEFAULT_MAXIMUM_SIZE = 65535;
     
-    private final Map<String, SQLStatement> cache = new WeakHashMap<>(65535, 1);
+    private final Cache<String, SQLStatement> cache;
+    
+    public ParsingResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE, 0L);
+    }
     
     /**
-     * Get parsing result cache instance.
+     * Constructor.
      * 
-     * @return parsing result cache instance
+     * @param maximumSize maximum count of cached SQL statements
+     * @param maximumSQLLength maximum total length of cached SQL text, ignore {@code maximumSize} if greater than zero
      */
-    public static ParsingResultCache getInstance() {
-        return INSTANCE;
+    public ParsingResultCache(final long maximumSize, final long maximumSQLLength) {
+        cache = createCache(maximumSize, maximumSQLLength);
+    }
+    
+    private Cache<String, SQLStatement> createCache(final long maximumSize, final long maximumSQLLength) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats();
+        if (maximumSQLLength > 0L) {
+            return builder.maximumWeight(maximumSQLLength).weigher(new Weigher<String, SQLStatement>() {
+                
+                @Override
+                public int weigh(final String key, final SQLStatement value) {
+                    return key.length();
+                }
+            }).build();
+        }
+        return builder.maximumSize(maximumSize).build();
     }
     
     /**
@@ -62,13 +84,44 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Judge SQL statement is the cached parsing result of SQL or not.
+     * 
+     * <p>Statistics of cache will not be changed by this judgement.</p>
+     *
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @return SQL statement is cached or not
+     */
+    public boolean isCached(final String sql, final SQLStatement sqlStatement) {
+        return sqlStatement == cache.asMap().get(sql);
+    }
+    
+    /**
+     * Get count of cached SQL statements.
+     *
+     * @return count of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get statistics of cache, include hit, miss and eviction counts.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
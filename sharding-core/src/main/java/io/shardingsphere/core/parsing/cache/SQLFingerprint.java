@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * SQL fingerprint.
+ *
+ * <p>
+ * Fingerprint is the template SQL which literals are replaced by placeholders, 
+ * and the literal values which can be used as parameters of template SQL.
+ * Original literals are kept by position of parameters.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class SQLFingerprint {
+    
+    private final String templateSQL;
+    
+    private final List<Object> parameters;
+    
+    private final List<String> originalLiterals;
+    
+    public SQLFingerprint(final String templateSQL, final List<Object> parameters, final List<String> originalLiterals) {
+        this.templateSQL = templateSQL;
+        this.parameters = parameters;
+        this.originalLiterals = originalLiterals;
+    }
+    
+    /**
+     * Fill parameters into placeholders of actual SQL.
+     * 
+     * <p>
+     * Parameters of actual SQL keep the order of parameters of fingerprint, but may skip some of them or be rewritten. 
+     * So every actual parameter is matched to the next position of fingerprint which holds the same parameter instance, 
+     * original literal of the position will be used if matched, otherwise literal will be generated by value.
+     * </p>
+     *
+     * @param actualSQL actual SQL which rewrote from template SQL
+     * @param actualParameters parameters of actual SQL
+     * @return SQL without placeholders, return absent if placeholders and parameters are mismatched
+     */
+    public Optional<String> fillParameters(final String actualSQL, final List<Object> actualParameters) {
+        StringBuilder result = new StringBuilder(actualSQL.length() + actualParameters.size() * 8);
+        int parameterIndex = 0;
+        int position = 0;
+        for (int i = 0; i < actualSQL.length(); i++) {
+            char each = actualSQL.charAt(i);
+            if ('?' != each) {
+                result.append(each);
+                continue;
+            }
+            if (parameterIndex >= actualParameters.size()) {
+                return Optional.absent();
+            }
+            Object parameter = actualParameters.get(parameterIndex++);
+            int matchedPosition = findPosition(parameter, position);
+            if (-1 == matchedPosition) {
+                result.append(getLiterals(parameter));
+            } else {
+                result.append(originalLiterals.get(matchedPosition));
+                position = matchedPosition + 1;
+            }
+        }
+        return parameterIndex == actualParameters.size() ? Optional.of(result.toString()) : Optional.<String>absent();
+    }
+    
+    private int findPosition(final Object parameter, final int fromPosition) {
+        for (int i = fromPosition; i < parameters.size(); i++) {
+            if (parameter == parameters.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private String getLiterals(final Object parameter) {
+        return parameter instanceof Number ? parameter.toString() : "'" + parameter.toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.analyzer.CharType;
+import io.shardingsphere.core.parsing.lexer.token.Keyword;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.Token;
+import io.shardingsphere.core.parsing.lexer.token.TokenType;
+import io.shardingsphere.core.util.NumberUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL fingerprint engine.
+ * 
+ * <p>
+ * Only literals of where conditions, limit and insert values will be replaced by placeholders, 
+ * because parser recognizes them as same as parameters of prepared statement.
+ * SQL with sub query, union, case when or placeholder cannot be fingerprinted.
+ * Quotes escaped in chars literals are unescaped in parameters, chars literals with backslash are not replaced because backslash escaping depends on database.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SQLFingerprintEngine {
+    
+    private static final Collection<String> CLAUSE_END_KEYWORDS = new HashSet<>(Arrays.asList("GROUP", "ORDER", "HAVING", "LIMIT", "OFFSET", "FOR", "LOCK", "FETCH", "WINDOW"));
+    
+    private static final Collection<String> UNSUPPORTED_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "UNION", "INTERSECT", "EXCEPT", "MINUS", "CASE"));
+    
+    private static final Collection<TokenType> COMPARISON_SYMBOLS = new HashSet<TokenType>(Arrays.asList(Symbol.EQ, Symbol.LT, Symbol.LT_EQ, Symbol.GT, Symbol.GT_EQ, Symbol.LT_GT, Symbol.BANG_EQ));
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    private Region region = Region.NONE;
+    
+    private int parenthesesDepth;
+    
+    private int listDepth = -1;
+    
+    private boolean isBetweenStarted;
+    
+    private int betweenAndIndex = -1;
+    
+    /**
+     * Extract SQL fingerprint.
+     *
+     * @return SQL fingerprint, return absent if SQL cannot be fingerprinted
+     */
+    public Optional<SQLFingerprint> extract() {
+        List<Token> tokens = getTokens();
+        if (tokens.isEmpty()) {
+            return Optional.absent();
+        }
+        String statementKeyword = tokens.get(0).getLiterals().toUpperCase();
+        if (!"SELECT".equals(statementKeyword) && !"UPDATE".equals(statementKeyword) && !"DELETE".equals(statementKeyword) && !"INSERT".equals(statementKeyword)) {
+            return Optional.absent();
+        }
+        StringBuilder templateSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new LinkedList<>();
+        List<String> originalLiterals = new LinkedList<>();
+        int copiedPosition = 0;
+        for (int i = 1; i < tokens.size(); i++) {
+            Token each = tokens.get(i);
+            if (Symbol.QUESTION == each.getType() || isWord(each) && UNSUPPORTED_KEYWORDS.contains(each.getLiterals().toUpperCase())) {
+                return Optional.absent();
+            }
+            if (isReplaceable(tokens, i)) {
+                int beginPosition = getBeginPosition(each);
+                templateSQL.append(sql.substring(copiedPosition, beginPosition)).append(Symbol.QUESTION.getLiterals());
+                copiedPosition = each.getEndPosition();
+                parameters.add(getValue(each));
+                originalLiterals.add(sql.substring(beginPosition, copiedPosition));
+            } else {
+                changeState(statementKeyword, tokens, i);
+            }
+        }
+        templateSQL.append(sql.substring(copiedPosition));
+        if (getPlaceholderCount(templateSQL) != parameters.size()) {
+            return Optional.absent();
+        }
+        return Optional.of(new SQLFingerprint(templateSQL.toString(), new ArrayList<>(parameters), new ArrayList<>(originalLiterals)));
+    }
+    
+    private List<Token> getTokens() {
+        List<Token> result = new ArrayList<>();
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            result.add(lexerEngine.getCurrentToken());
+            lexerEngine.nextToken();
+        }
+        return result;
+    }
+    
+    private void changeState(final String statementKeyword, final List<Token> tokens, final int index) {
+        Token token = tokens.get(index);
+        if (Symbol.LEFT_PAREN == token.getType()) {
+            parenthesesDepth++;
+            if (Region.WHERE == region && isWord(tokens.get(index - 1), "IN") || Region.VALUES == region && 1 == parenthesesDepth) {
+                listDepth = parenthesesDepth;
+            }
+            return;
+        }
+        if (Symbol.RIGHT_PAREN == token.getType()) {
+            if (listDepth == parenthesesDepth) {
+                listDepth = -1;
+            }
+            parenthesesDepth--;
+            return;
+        }
+        String word = isWord(token) ? token.getLiterals().toUpperCase() : "";
+        if ("BETWEEN".equals(word)) {
+            isBetweenStarted = true;
+        } else if ("AND".equals(word) && isBetweenStarted) {
+            isBetweenStarted = false;
+            betweenAndIndex = index;
+        }
+        if (0 == parenthesesDepth) {
+            changeRegion(statementKeyword, token, word);
+        }
+    }
+    
+    private void changeRegion(final String statementKeyword, final Token token, final String word) {
+        if (Region.VALUES == region && Symbol.COMMA != token.getType()) {
+            region = Region.NONE;
+        }
+        if ("WHERE".equals(word) && !"INSERT".equals(statementKeyword)) {
+            region = Region.WHERE;
+        } else if (("VALUES".equals(word) || "VALUE".equals(word)) && "INSERT".equals(statementKeyword)) {
+            region = Region.VALUES;
+        } else if (("LIMIT".equals(word) || "OFFSET".equals(word)) && "SELECT".equals(statementKeyword) && isLimitSupported()) {
+            region = Region.LIMIT;
+        } else if (CLAUSE_END_KEYWORDS.contains(word)) {
+            region = Region.NONE;
+        }
+    }
+    
+    private boolean isLimitSupported() {
+        return DatabaseType.MySQL == databaseType || DatabaseType.H2 == databaseType || DatabaseType.PostgreSQL == databaseType;
+    }
+    
+    private boolean isReplaceable(final List<Token> tokens, final int index) {
+        Token token = tokens.get(index);
+        if (!isLiteral(token) || !isEndOfExpression(index + 1 < tokens.size() ? tokens.get(index + 1) : null)) {
+            return false;
+        }
+        Token previous = tokens.get(index - 1);
+        switch (region) {
+            case WHERE:
+                return COMPARISON_SYMBOLS.contains(previous.getType()) || isWord(previous, "LIKE") || isWord(previous, "BETWEEN") || index - 1 == betweenAndIndex
+                        || listDepth == parenthesesDepth && (Symbol.LEFT_PAREN == previous.getType() || Symbol.COMMA == previous.getType());
+            case LIMIT:
+                return Literals.INT == token.getType() && (isWord(previous, "LIMIT") || isWord(previous, "OFFSET") || Symbol.COMMA == previous.getType());
+            case VALUES:
+                return listDepth == parenthesesDepth && (Symbol.LEFT_PAREN == previous.getType() || Symbol.COMMA == previous.getType());
+            default:
+                return false;
+        }
+    }
+    
+    private boolean isLiteral(final Token token) {
+        if (Literals.INT == token.getType() || Literals.FLOAT == token.getType()) {
+            return !token.getLiterals().startsWith("-");
+        }
+        if (Literals.CHARS == token.getType()) {
+            int beginPosition = getBeginPosition(token);
+            return '\'' == sql.charAt(beginPosition) && (0 == beginPosition || !isIdentifierChar(sql.charAt(beginPosition - 1))) && -1 == token.getLiterals().indexOf('\\');
+        }
+        return false;
+    }
+    
+    private boolean isIdentifierChar(final char ch) {
+        return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isEndOfExpression(final Token next) {
+        if (null == next) {
+            return true;
+        }
+        if (next.getType() instanceof Symbol) {
+            return Symbol.COMMA == next.getType() || Symbol.RIGHT_PAREN == next.getType() || Symbol.SEMI == next.getType();
+        }
+        return isWord(next);
+    }
+    
+    private boolean isWord(final Token token) {
+        return token.getType() instanceof Keyword || Literals.IDENTIFIER == token.getType();
+    }
+    
+    private boolean isWord(final Token token, final String word) {
+        return isWord(token) && word.equalsIgnoreCase(token.getLiterals());
+    }
+    
+    private int getBeginPosition(final Token token) {
+        return Literals.CHARS == token.getType() ? token.getEndPosition() - token.getLiterals().length() - 2 : token.getEndPosition() - token.getLiterals().length();
+    }
+    
+    private Object getValue(final Token token) {
+        if (Literals.INT == token.getType()) {
+            return NumberUtil.getExactlyNumber(token.getLiterals(), 10);
+        }
+        if (Literals.FLOAT == token.getType()) {
+            return Double.parseDouble(token.getLiterals());
+        }
+        return token.getLiterals().replace("''", "'");
+    }
+    
+    private int getPlaceholderCount(final CharSequence templateSQL) {
+        int result = 0;
+        for (int i = 0; i < templateSQL.length(); i++) {
+            if ('?' == templateSQL.charAt(i)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private enum Region {
+        
+        NONE, WHERE, LIMIT, VALUES
+    }
+}
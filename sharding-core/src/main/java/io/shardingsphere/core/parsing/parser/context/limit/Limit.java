@@ -45,6 +45,12 @@ public final class Limit {
     
     private LimitValue rowCount;
     
+    public Limit(final Limit limit) {
+        databaseType = limit.databaseType;
+        offset = null == limit.offset ? null : new LimitValue(limit.offset.getValue(), limit.offset.getIndex(), limit.offset.isBoundOpened());
+        rowCount = null == limit.rowCount ? null : new LimitValue(limit.rowCount.getValue(), limit.rowCount.getIndex(), limit.rowCount.isBoundOpened());
+    }
+    
     /**
      * Get offset value.
      * 
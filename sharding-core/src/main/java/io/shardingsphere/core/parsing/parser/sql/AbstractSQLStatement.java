@@ -22,7 +22,6 @@ import io.shardingsphere.core.parsing.parser.context.condition.Conditions;
 import io.shardingsphere.core.parsing.parser.context.table.Tables;
 import io.shardingsphere.core.parsing.parser.token.SQLToken;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -34,7 +33,6 @@ import java.util.List;
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Getter
 @Setter
 @ToString
@@ -42,14 +40,36 @@ public abstract class AbstractSQLStatement implements SQLStatement {
     
     private final SQLType type;
     
-    private final Tables tables = new Tables();
+    private final Tables tables;
     
-    private final Conditions conditions = new Conditions();
+    private final Conditions conditions;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens;
     
     private int parametersIndex;
     
+    public AbstractSQLStatement(final SQLType type) {
+        this.type = type;
+        tables = new Tables();
+        conditions = new Conditions();
+        sqlTokens = new LinkedList<>();
+    }
+    
+    /**
+     * Constructor for copy.
+     * 
+     * <p>Tables, conditions and SQL tokens are shared with the original statement.</p>
+     * 
+     * @param sqlStatement SQL statement to be copied
+     */
+    protected AbstractSQLStatement(final AbstractSQLStatement sqlStatement) {
+        type = sqlStatement.type;
+        tables = sqlStatement.tables;
+        conditions = sqlStatement.conditions;
+        sqlTokens = sqlStatement.sqlTokens;
+        parametersIndex = sqlStatement.parametersIndex;
+    }
+    
     @Override
     public final SQLType getType() {
         return type;
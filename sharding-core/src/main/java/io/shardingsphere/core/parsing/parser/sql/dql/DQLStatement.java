@@ -35,6 +35,10 @@ public class DQLStatement extends AbstractSQLStatement {
         super(SQLType.DQL);
     }
     
+    protected DQLStatement(final DQLStatement dqlStatement) {
+        super(dqlStatement);
+    }
+    
     /**
      * Is DQL statement.
      *
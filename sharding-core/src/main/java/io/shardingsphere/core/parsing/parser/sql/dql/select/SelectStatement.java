@@ -58,6 +58,10 @@ public final class SelectStatement extends DQLStatement {
     
     private int groupByLastPosition;
     
+    private int orderByBeginPosition;
+    
+    private int orderByLastPosition;
+    
     private final Set<SelectItem> items = new HashSet<>();
     
     private final List<OrderItem> groupByItems = new LinkedList<>();
@@ -70,6 +74,33 @@ public final class SelectStatement extends DQLStatement {
     @Setter(AccessLevel.NONE)
     private SelectStatement subQueryStatement;
     
+    public SelectStatement() {
+    }
+    
+    /**
+     * Constructor for copy.
+     * 
+     * <p>
+     * Limit is copied because it will be filled by parameters when routing, other parsed contexts are shared with the original statement.
+     * Route the copy if statement is cached, then cached statement will not be changed by concurrent routing.
+     * </p>
+     * 
+     * @param selectStatement select statement to be copied
+     */
+    public SelectStatement(final SelectStatement selectStatement) {
+        super(selectStatement);
+        containStar = selectStatement.containStar;
+        selectListLastPosition = selectStatement.selectListLastPosition;
+        groupByLastPosition = selectStatement.groupByLastPosition;
+        orderByBeginPosition = selectStatement.orderByBeginPosition;
+        orderByLastPosition = selectStatement.orderByLastPosition;
+        items.addAll(selectStatement.items);
+        groupByItems.addAll(selectStatement.groupByItems);
+        orderByItems.addAll(selectStatement.orderByItems);
+        limit = null == selectStatement.limit ? null : new Limit(selectStatement.limit);
+        subQueryStatement = selectStatement.subQueryStatement;
+    }
+    
     /**
      * Get alias.
      * 
@@ -170,6 +201,18 @@ public final class SelectStatement extends DQLStatement {
         return !getGroupByItems().isEmpty() && getGroupByItems().equals(getOrderByItems());
     }
     
+    /**
+     * Adjust group by results can be stream merged by group by items and then sorted for top N rows or not.
+     * 
+     * <p>Order by items of actual SQL will be rewritten to group by items, only offset plus row count rows will be held in memory when merge.</p>
+     *
+     * @return group by results can be stream merged and then sorted for top N rows or not
+     */
+    public boolean isTopNAfterStreamGroupBy() {
+        return !getGroupByItems().isEmpty() && !getOrderByItems().isEmpty() && !isSameGroupByAndOrderByItems() && orderByLastPosition > orderByBeginPosition
+                && null != limit && limit.isNeedRewriteRowCount() && null != limit.getRowCount();
+    }
+    
     /**
      * Set index for select items.
      * 
@@ -40,24 +40,35 @@ import java.util.Map;
 /**
  * SQL builder.
  *
+ * <p>
+ * Segments are compiled into an immutable array at first time of converting to SQL, 
+ * then reused for all table units of same route without converting literals again.
+ * </p>
+ *
  * @author gaohongtao
  * @author zhangliang
  * @author maxiaoguang
  */
 public final class SQLBuilder {
     
+    private static final int ESTIMATED_PLACEHOLDER_LENGTH = 16;
+    
     private final List<Object> segments;
     
     private final List<Object> parameters;
     
     private StringBuilder currentSegment;
     
+    private Object[] compiledSegments;
+    
+    private int estimatedSQLLength;
+    
     public SQLBuilder() {
         this(Collections.emptyList());
     }
     
     public SQLBuilder(final List<Object> parameters) {
-        segments = new LinkedList<>();
+        segments = new ArrayList<>();
         this.parameters = parameters;
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
@@ -69,6 +80,7 @@ public final class SQLBuilder {
      * @param literals literals for SQL
      */
     public void appendLiterals(final String literals) {
+        compiledSegments = null;
         currentSegment.append(literals);
     }
     
@@ -78,6 +90,7 @@ public final class SQLBuilder {
      * @param shardingPlaceholder sharding placeholder
      */
     public void appendPlaceholder(final ShardingPlaceholder shardingPlaceholder) {
+        compiledSegments = null;
         segments.add(shardingPlaceholder);
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
@@ -93,11 +106,12 @@ public final class SQLBuilder {
      * @return SQL unit
      */
     public SQLUnit toSQL(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        StringBuilder result = new StringBuilder();
+        Object[] sqlSegments = getCompiledSegments();
+        StringBuilder result = new StringBuilder(estimatedSQLLength);
         List<Object> insertParameters = new LinkedList<>();
-        for (Object each : segments) {
-            if (!(each instanceof ShardingPlaceholder)) {
-                result.append(each);
+        for (Object each : sqlSegments) {
+            if (each instanceof String) {
+                result.append((String) each);
                 continue;
             }
             String logicTableName = ((ShardingPlaceholder) each).getLogicTableName();
@@ -118,6 +132,27 @@ public final class SQLBuilder {
         return new SQLUnit(result.toString(), parameterSets);
     }
     
+    private Object[] getCompiledSegments() {
+        if (null != compiledSegments) {
+            return compiledSegments;
+        }
+        Object[] result = new Object[segments.size()];
+        int sqlLength = 0;
+        for (int i = 0; i < result.length; i++) {
+            Object each = segments.get(i);
+            if (each instanceof ShardingPlaceholder) {
+                result[i] = each;
+                sqlLength += ESTIMATED_PLACEHOLDER_LENGTH;
+            } else {
+                result[i] = each.toString();
+                sqlLength += ((String) result[i]).length();
+            }
+        }
+        estimatedSQLLength = sqlLength;
+        compiledSegments = result;
+        return result;
+    }
+    
     private void appendTablePlaceholder(final TablePlaceholder tablePlaceholder, final String actualTableName, final StringBuilder stringBuilder) {
         final String logicTableName = tablePlaceholder.getLogicTableName();
         final String originalLiterals = tablePlaceholder.getOriginalLiterals();
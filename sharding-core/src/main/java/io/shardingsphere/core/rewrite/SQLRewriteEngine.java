@@ -49,10 +49,11 @@ import io.shardingsphere.core.rule.BindingTableRule;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.util.SQLUtil;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -73,7 +74,7 @@ public final class SQLRewriteEngine {
     
     private final DatabaseType databaseType;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens;
     
     private final SQLStatement sqlStatement;
     
@@ -81,6 +82,8 @@ public final class SQLRewriteEngine {
     
     private final List<Object> parameters;
     
+    private final Map<String, Optional<BindingTableRule>> bindingTableRules = new HashMap<>();
+    
     /**
      * Constructs SQL rewrite engine.
      * 
@@ -99,7 +102,7 @@ public final class SQLRewriteEngine {
         this.sqlStatement = sqlStatement;
         this.shardingConditions = shardingConditions;
         this.parameters = parameters;
-        sqlTokens.addAll(sqlStatement.getSqlTokens());
+        sqlTokens = new ArrayList<>(sqlStatement.getSqlTokens());
     }
     
     /**
@@ -110,6 +113,9 @@ public final class SQLRewriteEngine {
      */
     public SQLBuilder rewrite(final boolean isRewriteLimit) {
         SQLBuilder result = new SQLBuilder(parameters);
+        if (isRewriteLimit && isTopNAfterStreamGroupBy()) {
+            replaceOrderByTokens();
+        }
         if (sqlTokens.isEmpty()) {
             result.appendLiterals(originalSQL);
             return result;
@@ -135,7 +141,7 @@ public final class SQLRewriteEngine {
             } else if (each instanceof OffsetToken) {
                 appendLimitOffsetToken(result, (OffsetToken) each, count, sqlTokens, isRewriteLimit);
             } else if (each instanceof OrderByToken) {
-                appendOrderByToken(result, count, sqlTokens);
+                appendOrderByToken(result, count, sqlTokens, isRewriteLimit);
             } else if (each instanceof InsertColumnToken) {
                 appendSymbolToken(result, (InsertColumnToken) each, count, sqlTokens);
             }
@@ -144,6 +150,22 @@ public final class SQLRewriteEngine {
         return result;
     }
     
+    private boolean isTopNAfterStreamGroupBy() {
+        return sqlStatement instanceof SelectStatement && ((SelectStatement) sqlStatement).isTopNAfterStreamGroupBy();
+    }
+    
+    private void replaceOrderByTokens() {
+        SelectStatement selectStatement = (SelectStatement) sqlStatement;
+        Iterator<SQLToken> iterator = sqlTokens.iterator();
+        while (iterator.hasNext()) {
+            int beginPosition = iterator.next().getBeginPosition();
+            if (beginPosition >= selectStatement.getOrderByBeginPosition() && beginPosition < selectStatement.getOrderByLastPosition()) {
+                iterator.remove();
+            }
+        }
+        sqlTokens.add(new OrderByToken(selectStatement.getOrderByBeginPosition()));
+    }
+    
     private void sortByBeginPosition() {
         Collections.sort(sqlTokens, new Comparator<SQLToken>() {
             
@@ -214,12 +236,13 @@ public final class SQLRewriteEngine {
         appendRest(sqlBuilder, count, sqlTokens, beginPosition);
     }
     
-    private void appendOrderByToken(final SQLBuilder sqlBuilder, final int count, final List<SQLToken> sqlTokens) {
+    private void appendOrderByToken(final SQLBuilder sqlBuilder, final int count, final List<SQLToken> sqlTokens, final boolean isRewrite) {
         SelectStatement selectStatement = (SelectStatement) sqlStatement;
+        boolean isOrderByGroupByItems = isRewrite && selectStatement.isTopNAfterStreamGroupBy();
         StringBuilder orderByLiterals = new StringBuilder();
         orderByLiterals.append(" ").append(DefaultKeyword.ORDER).append(" ").append(DefaultKeyword.BY).append(" ");
         int i = 0;
-        for (OrderItem each : selectStatement.getOrderByItems()) {
+        for (OrderItem each : isOrderByGroupByItems ? selectStatement.getGroupByItems() : selectStatement.getOrderByItems()) {
             String columnLabel = Strings.isNullOrEmpty(each.getColumnLabel()) ? String.valueOf(each.getIndex()) : SQLUtil.getOriginalValue(each.getColumnLabel(), databaseType);
             if (0 == i) {
                 orderByLiterals.append(columnLabel).append(" ").append(each.getOrderDirection().name());
@@ -230,7 +253,7 @@ public final class SQLRewriteEngine {
         }
         orderByLiterals.append(" ");
         sqlBuilder.appendLiterals(orderByLiterals.toString());
-        int beginPosition = ((SelectStatement) sqlStatement).getGroupByLastPosition();
+        int beginPosition = isOrderByGroupByItems ? selectStatement.getOrderByLastPosition() : selectStatement.getGroupByLastPosition();
         appendRest(sqlBuilder, count, sqlTokens, beginPosition);
     }
     
@@ -257,11 +280,11 @@ public final class SQLRewriteEngine {
     }
    
     private Map<String, String> getTableTokens(final TableUnit tableUnit) {
-        Map<String, String> result = new HashMap<>();
+        Map<String, String> result = new HashMap<>(tableUnit.getRoutingTables().size() * 2, 1);
         for (RoutingTable routingTable : tableUnit.getRoutingTables()) {
             String logicTableName = routingTable.getLogicTableName().toLowerCase();
             result.put(logicTableName, routingTable.getActualTableName());
-            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
+            Optional<BindingTableRule> bindingTableRule = findBindingTableRule(logicTableName);
             if (bindingTableRule.isPresent()) {
                 result.putAll(getBindingTableTokens(tableUnit.getDataSourceName(), routingTable, bindingTableRule.get()));
             }
@@ -269,6 +292,15 @@ public final class SQLRewriteEngine {
         return result;
     }
     
+    private Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
+        Optional<BindingTableRule> result = bindingTableRules.get(logicTableName);
+        if (null == result) {
+            result = shardingRule.findBindingTableRule(logicTableName);
+            bindingTableRules.put(logicTableName, result);
+        }
+        return result;
+    }
+    
     private Map<String, String> getBindingTableTokens(final String dataSourceName, final RoutingTable routingTable, final BindingTableRule bindingTableRule) {
         Map<String, String> result = new HashMap<>();
         for (String eachTable : sqlStatement.getTables().getTableNames()) {
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.parser.context.insertvalue.InsertValue;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.token.InsertValuesToken;
+import io.shardingsphere.core.parsing.parser.token.SQLToken;
+import io.shardingsphere.core.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch insert routing engine.
+ * 
+ * <p>
+ * Rewrite rows of batched single row insert statement into multiple rows insert statements, 
+ * then route them by insert values rewrite of multiple rows insert statement, rows routed to same data node will be inserted by one statement.
+ * Rows are split into chunks by max rows and max bytes of parameters, every chunk will be routed independently.
+ * Size of every chunk is max rows or a power of two less than it, so count of distinct rewritten SQLs to parse and prepare is bounded.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class BatchInsertRoutingEngine {
+    
+    private static final int ESTIMATED_PARAMETER_BYTES = 8;
+    
+    private static final Collection<DatabaseType> MULTIPLE_ROWS_INSERT_DATABASE_TYPES = EnumSet.of(DatabaseType.H2, DatabaseType.MySQL, DatabaseType.PostgreSQL);
+    
+    private final String logicSQL;
+    
+    private final String insertValueExpression;
+    
+    private final int insertValuesListLastPosition;
+    
+    private final int maxRows;
+    
+    private final int maxBytes;
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingTableMetaData shardingTableMetaData;
+    
+    private final DatabaseType databaseType;
+    
+    private final boolean showSQL;
+    
+    private final ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final Map<Integer, PreparedStatementRoutingEngine> routingEngines = new HashMap<>();
+    
+    public BatchInsertRoutingEngine(final String logicSQL, final InsertStatement insertStatement, final int maxRows, final int maxBytes, 
+                                    final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final DatabaseType databaseType, 
+                                    final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, final ParsingResultCache parsingResultCache) {
+        this.logicSQL = logicSQL;
+        insertValueExpression = insertStatement.getInsertValues().getInsertValues().get(0).getExpression();
+        insertValuesListLastPosition = insertStatement.getInsertValuesListLastPosition();
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+        this.shardingRule = shardingRule;
+        this.shardingTableMetaData = shardingTableMetaData;
+        this.databaseType = databaseType;
+        this.showSQL = showSQL;
+        this.shardingDataSourceMetaData = shardingDataSourceMetaData;
+        this.parsingResultCache = parsingResultCache;
+    }
+    
+    /**
+     * Judge whether rows of batched SQL statement can be rewritten into multiple rows insert statement.
+     * 
+     * <p>
+     * Only insert statement with one row of values and without parameters out of values can be rewritten.
+     * Database should support multiple rows in values clause without limit of parameters count, 
+     * Oracle does not support it and SQLServer limits parameters of one statement to 2100, so they are not rewritten.
+     * </p>
+     * 
+     * @param sqlStatement SQL statement
+     * @param databaseType database type
+     * @return can be rewritten or not
+     */
+    public static boolean isRewritable(final SQLStatement sqlStatement, final DatabaseType databaseType) {
+        if (!MULTIPLE_ROWS_INSERT_DATABASE_TYPES.contains(databaseType) || !(sqlStatement instanceof InsertStatement)) {
+            return false;
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        if (1 != insertStatement.getInsertValues().getInsertValues().size() || !findInsertValuesToken(insertStatement).isPresent()) {
+            return false;
+        }
+        InsertValue insertValue = insertStatement.getInsertValues().getInsertValues().get(0);
+        return DefaultKeyword.VALUES == insertValue.getType() && insertValue.getParametersCount() == insertStatement.getParametersIndex();
+    }
+    
+    private static Optional<InsertValuesToken> findInsertValuesToken(final InsertStatement insertStatement) {
+        for (SQLToken each : insertStatement.getSqlTokens()) {
+            if (each instanceof InsertValuesToken) {
+                return Optional.of((InsertValuesToken) each);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * Route rows of batched insert statement.
+     * 
+     * <p>Generated keys of every route result only contain keys of rows in its chunk.</p>
+     * 
+     * @param parameterSets parameters of every row
+     * @return route results of every chunk of rows
+     */
+    public List<SQLRouteResult> route(final List<List<Object>> parameterSets) {
+        List<SQLRouteResult> result = new LinkedList<>();
+        for (List<List<Object>> each : partition(parameterSets)) {
+            SQLRouteResult routeResult = getRoutingEngine(each.size()).route(flatten(each));
+            retainGeneratedKeysOfChunk(routeResult, each.size());
+            result.add(routeResult);
+        }
+        return result;
+    }
+    
+    private void retainGeneratedKeysOfChunk(final SQLRouteResult routeResult, final int rows) {
+        if (null == routeResult.getGeneratedKey()) {
+            return;
+        }
+        List<Number> generatedKeys = routeResult.getGeneratedKey().getGeneratedKeys();
+        generatedKeys.subList(0, generatedKeys.size() - rows).clear();
+    }
+    
+    /**
+     * Partition rows into chunks by max rows and max bytes of parameters.
+     * 
+     * <p>Chunks are split again into standard sizes, which are max rows or powers of two less than it.</p>
+     * 
+     * @param parameterSets parameters of every row
+     * @return chunks of rows
+     */
+    public List<List<List<Object>>> partition(final List<List<Object>> parameterSets) {
+        List<List<List<Object>>> result = new LinkedList<>();
+        List<List<Object>> chunk = new ArrayList<>();
+        long chunkBytes = 0L;
+        for (List<Object> each : parameterSets) {
+            long rowBytes = estimateBytes(each);
+            if (!chunk.isEmpty() && (chunk.size() >= maxRows || maxBytes > 0 && chunkBytes + rowBytes > maxBytes)) {
+                result.addAll(splitIntoStandardSizes(chunk));
+                chunk = new ArrayList<>();
+                chunkBytes = 0L;
+            }
+            chunk.add(each);
+            chunkBytes += rowBytes;
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(splitIntoStandardSizes(chunk));
+        }
+        return result;
+    }
+    
+    private List<List<List<Object>>> splitIntoStandardSizes(final List<List<Object>> chunk) {
+        List<List<List<Object>>> result = new LinkedList<>();
+        int fromIndex = 0;
+        while (fromIndex < chunk.size()) {
+            int rows = getStandardSize(chunk.size() - fromIndex);
+            result.add(chunk.subList(fromIndex, fromIndex + rows));
+            fromIndex += rows;
+        }
+        return result;
+    }
+    
+    private int getStandardSize(final int rows) {
+        return rows >= maxRows ? maxRows : Integer.highestOneBit(rows);
+    }
+    
+    private long estimateBytes(final List<Object> parameters) {
+        long result = 0L;
+        for (Object each : parameters) {
+            if (each instanceof CharSequence) {
+                result += ((CharSequence) each).length();
+            } else if (each instanceof byte[]) {
+                result += ((byte[]) each).length;
+            } else {
+                result += ESTIMATED_PARAMETER_BYTES;
+            }
+        }
+        return result;
+    }
+    
+    private PreparedStatementRoutingEngine getRoutingEngine(final int rows) {
+        PreparedStatementRoutingEngine result = routingEngines.get(rows);
+        if (null == result) {
+            result = createRoutingEngine(rows);
+            routingEngines.put(rows, result);
+        }
+        return result;
+    }
+    
+    private PreparedStatementRoutingEngine createRoutingEngine(final int rows) {
+        return new PreparedStatementRoutingEngine(getMultipleRowsSQL(rows), shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache, null);
+    }
+    
+    private String getMultipleRowsSQL(final int rows) {
+        StringBuilder result = new StringBuilder(logicSQL.length() + (insertValueExpression.length() + 2) * (rows - 1));
+        result.append(logicSQL, 0, insertValuesListLastPosition);
+        for (int i = 1; i < rows; i++) {
+            result.append(", ").append(insertValueExpression);
+        }
+        result.append(logicSQL, insertValuesListLastPosition, logicSQL.length());
+        return result.toString();
+    }
+    
+    private List<Object> flatten(final List<List<Object>> parameterSets) {
+        List<Object> result = new ArrayList<>(parameterSets.size() * parameterSets.get(0).size());
+        for (List<Object> each : parameterSets) {
+            result.addAll(each);
+        }
+        return result;
+    }
+}
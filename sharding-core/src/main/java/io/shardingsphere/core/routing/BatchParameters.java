@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Parameters of batched rows.
+ * 
+ * <p>
+ * Parameters are buffered by column, values of sharding conditions can be read without materializing rows.
+ * Rows with less parameters than others are padded with {@code null}.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class BatchParameters {
+    
+    private List<List<Object>> columns = new ArrayList<>();
+    
+    @Getter
+    private int rowCount;
+    
+    /**
+     * Add parameters of one row.
+     * 
+     * @param parameters parameters of row
+     */
+    public void add(final List<Object> parameters) {
+        for (int i = columns.size(); i < parameters.size(); i++) {
+            List<Object> column = new ArrayList<>(Math.max(rowCount + 1, 16));
+            for (int j = 0; j < rowCount; j++) {
+                column.add(null);
+            }
+            columns.add(column);
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).add(i < parameters.size() ? parameters.get(i) : null);
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Get values of columns in one row.
+     * 
+     * @param rowIndex index of row
+     * @param columnIndexes indexes of columns
+     * @return values of columns
+     */
+    public List<Object> getValues(final int rowIndex, final Collection<Integer> columnIndexes) {
+        List<Object> result = new ArrayList<>(columnIndexes.size());
+        for (int each : columnIndexes) {
+            result.add(getValue(rowIndex, each));
+        }
+        return result;
+    }
+    
+    /**
+     * Get value of one column in one row.
+     * 
+     * @param rowIndex index of row
+     * @param columnIndex index of column
+     * @return value of column
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        return columns.get(columnIndex).get(rowIndex);
+    }
+    
+    /**
+     * Get parameters of one row.
+     * 
+     * <p>Row is a read only view of buffered parameters without copying, it is still available after rows are cleared.</p>
+     * 
+     * @param rowIndex index of row
+     * @return parameters of row
+     */
+    public List<Object> getRow(final int rowIndex) {
+        Preconditions.checkElementIndex(rowIndex, rowCount);
+        return new RowView(columns, columns.size(), rowIndex);
+    }
+    
+    /**
+     * Get parameters of all rows.
+     * 
+     * @return parameters of all rows
+     */
+    public List<List<Object>> getRows() {
+        List<List<Object>> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(getRow(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether no row is added.
+     * 
+     * @return no row is added or not
+     */
+    public boolean isEmpty() {
+        return 0 == rowCount;
+    }
+    
+    /**
+     * Clear all rows.
+     */
+    public void clear() {
+        columns = new ArrayList<>();
+        rowCount = 0;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RowView extends AbstractList<Object> implements RandomAccess {
+        
+        private final List<List<Object>> columns;
+        
+        private final int size;
+        
+        private final int rowIndex;
+        
+        @Override
+        public Object get(final int index) {
+            Preconditions.checkElementIndex(index, size);
+            return columns.get(index).get(rowIndex);
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing;
+
+import io.shardingsphere.core.hint.HintManagerHolder;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch routing engine.
+ * 
+ * <p>
+ * Route batched rows in bulk. Rows are grouped by values of sharding conditions, only first row of every group is routed, 
+ * other rows of the group are bound to execution units of first row with their own parameters.
+ * Rows of statement which route result depends on more than values of sharding conditions, such as insert statement or statement with hint, are routed one by one.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class BatchRoutingEngine {
+    
+    private final PreparedStatementRoutingEngine routingEngine;
+    
+    /**
+     * Route batched rows.
+     * 
+     * @param batchParameters parameters of batched rows
+     * @return route result of batched rows
+     */
+    public BatchRouteResult route(final BatchParameters batchParameters) {
+        SQLStatement sqlStatement = routingEngine.parse();
+        boolean isRoutedByShardingValues = isRoutedByShardingValues(sqlStatement);
+        Collection<Integer> shardingParameterIndexes = isRoutedByShardingValues ? getShardingParameterIndexes(sqlStatement) : Collections.<Integer>emptyList();
+        Map<List<Object>, SQLRouteResult> routeResults = new HashMap<>();
+        Map<SQLExecutionUnit, List<List<Object>>> parameterSets = new HashMap<>();
+        BatchRouteResult result = new BatchRouteResult();
+        for (int i = 0; i < batchParameters.getRowCount(); i++) {
+            List<Object> parameters = batchParameters.getRow(i);
+            List<Object> shardingValues = isRoutedByShardingValues ? batchParameters.getValues(i, shardingParameterIndexes) : null;
+            SQLRouteResult routeResult = isRoutedByShardingValues ? routeResults.get(shardingValues) : null;
+            if (null == routeResult) {
+                routeResult = routingEngine.route(parameters);
+                if (isRoutedByShardingValues) {
+                    routeResults.put(shardingValues, routeResult);
+                }
+                addRow(result, parameterSets, i, routeResult, null);
+            } else {
+                addRow(result, parameterSets, i, routeResult, parameters);
+            }
+            result.setLastRouteResult(routeResult);
+        }
+        return result;
+    }
+    
+    private boolean isRoutedByShardingValues(final SQLStatement sqlStatement) {
+        return null == HintManagerHolder.get() && sqlStatement instanceof DMLStatement && !(sqlStatement instanceof InsertStatement);
+    }
+    
+    private Collection<Integer> getShardingParameterIndexes(final SQLStatement sqlStatement) {
+        Collection<Integer> result = new LinkedList<>();
+        for (AndCondition each : sqlStatement.getConditions().getOrCondition().getAndConditions()) {
+            for (Condition condition : each.getConditions()) {
+                result.addAll(condition.getPositionIndexMap().values());
+            }
+        }
+        return result;
+    }
+    
+    private void addRow(final BatchRouteResult batchRouteResult, final Map<SQLExecutionUnit, List<List<Object>>> parameterSets, 
+                        final int rowIndex, final SQLRouteResult routeResult, final List<Object> parameters) {
+        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+            List<Integer> rowIndexes = batchRouteResult.getExecutionUnits().get(each);
+            if (null == rowIndexes) {
+                rowIndexes = new LinkedList<>();
+                List<List<Object>> unitParameterSets = new LinkedList<>();
+                batchRouteResult.getExecutionUnits().put(new SQLExecutionUnit(each.getDataSource(), new SQLUnit(each.getSqlUnit().getSql(), unitParameterSets)), rowIndexes);
+                parameterSets.put(each, unitParameterSets);
+            }
+            rowIndexes.add(rowIndex);
+            parameterSets.get(each).add(null == parameters ? each.getSqlUnit().getParameterSets().get(0) : parameters);
+        }
+    }
+}
@@ -17,16 +17,23 @@
 
 package io.shardingsphere.core.routing;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.cache.SQLFingerprint;
+import io.shardingsphere.core.parsing.cache.SQLFingerprintEngine;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import io.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
@@ -40,20 +47,51 @@ public final class StatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
+    private final DatabaseType databaseType;
+    
+    private final boolean useFingerprint;
+    
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
-                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData,
+                                  final ParsingResultCache parsingResultCache, final RouteResultCache routeResultCache) {
+        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache, routeResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        this.databaseType = databaseType;
+        useFingerprint = null != parsingResultCache;
     }
     
     /**
      * SQL route.
      *
+     * <p>SQL will be fingerprinted if parsing result cache is provided, same SQL with different literals will reuse the parsed result.</p>
+     *
      * @param logicSQL logic SQL
      * @return route result
      */
     public SQLRouteResult route(final String logicSQL) {
+        Optional<SQLFingerprint> sqlFingerprint = useFingerprint ? new SQLFingerprintEngine(databaseType, logicSQL).extract() : Optional.<SQLFingerprint>absent();
+        if (sqlFingerprint.isPresent()) {
+            Optional<SQLRouteResult> result = route(sqlFingerprint.get());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    private Optional<SQLRouteResult> route(final SQLFingerprint sqlFingerprint) {
+        SQLStatement sqlStatement = shardingRouter.parse(sqlFingerprint.getTemplateSQL(), true);
+        List<Object> parameters = new ArrayList<>(sqlFingerprint.getParameters());
+        SQLRouteResult routeResult = masterSlaveRouter.route(shardingRouter.route(sqlFingerprint.getTemplateSQL(), parameters, sqlStatement));
+        SQLRouteResult result = new SQLRouteResult(routeResult.getSqlStatement(), routeResult.getGeneratedKey());
+        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+            Optional<String> actualSQL = sqlFingerprint.fillParameters(each.getSqlUnit().getSql(), each.getSqlUnit().getParameterSets().get(0));
+            if (!actualSQL.isPresent()) {
+                return Optional.absent();
+            }
+            result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSource(), new SQLUnit(actualSQL.get(), new ArrayList<>(Collections.singleton(Collections.<Object>emptyList())))));
+        }
+        return Optional.of(result);
+    }
 }
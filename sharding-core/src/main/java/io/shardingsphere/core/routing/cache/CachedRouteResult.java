@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * Cached route result.
+ * 
+ * <p>SQL units of cached execution units do not hold parameters, parameters should be bound again for every execution.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class CachedRouteResult {
+    
+    private final boolean singleRouting;
+    
+    private final Collection<SQLExecutionUnit> executionUnits;
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Route result cache.
+ *
+ * <p>
+ * Cache key is identity of parsed SQL statement and values of sharding conditions.
+ * One cache is owned by one sharding runtime context, it will be dropped with the sharding rule together.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class RouteResultCache {
+    
+    private final Cache<RouteResultCacheKey, CachedRouteResult> cache;
+    
+    public RouteResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Put route result into cache.
+     *
+     * @param sqlStatement SQL statement
+     * @param shardingValues values of sharding conditions
+     * @param routeResult route result
+     */
+    public void put(final SQLStatement sqlStatement, final List<Object> shardingValues, final CachedRouteResult routeResult) {
+        cache.put(new RouteResultCacheKey(sqlStatement, shardingValues), routeResult);
+    }
+    
+    /**
+     * Get route result.
+     *
+     * @param sqlStatement SQL statement
+     * @param shardingValues values of sharding conditions
+     * @return route result
+     */
+    public Optional<CachedRouteResult> getRouteResult(final SQLStatement sqlStatement, final List<Object> shardingValues) {
+        return Optional.fromNullable(cache.getIfPresent(new RouteResultCacheKey(sqlStatement, shardingValues)));
+    }
+    
+    /**
+     * Get count of cached route results.
+     *
+     * @return count of cached route results
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get statistics of cache, include hit, miss and eviction counts.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RouteResultCacheKey {
+        
+        private final SQLStatement sqlStatement;
+        
+        private final List<Object> shardingValues;
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof RouteResultCacheKey)) {
+                return false;
+            }
+            RouteResultCacheKey other = (RouteResultCacheKey) obj;
+            return sqlStatement == other.sqlStatement && shardingValues.equals(other.shardingValues);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sqlStatement) + shardingValues.hashCode();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import com.google.common.base.Optional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Data source latency recorder.
+ * 
+ * <p>
+ * Record latency of one execution for data sources which latency statistics are present, 
+ * only slave data sources of master-slave rules balanced by least latency have latency statistics.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class DataSourceLatencyRecorder {
+    
+    private final Map<String, DataSourceLatencyStatistics> startedLatencyStatistics = new LinkedHashMap<>(1, 1);
+    
+    private final long startNanos = System.nanoTime();
+    
+    /**
+     * Start recording latency of data source.
+     * 
+     * @param dataSourceName data source name
+     * @param latencyStatistics latency statistics of data source, nothing is recorded if absent
+     * @return this recorder
+     */
+    public DataSourceLatencyRecorder start(final String dataSourceName, final Optional<DataSourceLatencyStatistics> latencyStatistics) {
+        if (latencyStatistics.isPresent() && !startedLatencyStatistics.containsKey(dataSourceName)) {
+            latencyStatistics.get().start(dataSourceName);
+            startedLatencyStatistics.put(dataSourceName, latencyStatistics.get());
+        }
+        return this;
+    }
+    
+    /**
+     * Finish recording latency of all started data sources.
+     */
+    public void finish() {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        for (Entry<String, DataSourceLatencyStatistics> entry : startedLatencyStatistics.entrySet()) {
+            entry.getValue().finish(entry.getKey(), elapsedNanos);
+        }
+        startedLatencyStatistics.clear();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source latency statistics.
+ * 
+ * <p>
+ * Trace exponentially weighted moving average of response time and count of in-flight executions for every slave data source of a master-slave rule.
+ * Average response time jumps to peak immediately when execution becomes slower, and decays to zero when data source is idle, 
+ * so slow data source will be shed quickly and tried again after a while.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class DataSourceLatencyStatistics {
+    
+    private static final long DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final ConcurrentMap<String, Statistic> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Mark execution started.
+     * 
+     * @param dataSourceName data source name
+     */
+    public void start(final String dataSourceName) {
+        getStatistic(dataSourceName).inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark execution finished.
+     * 
+     * @param dataSourceName data source name
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void finish(final String dataSourceName, final long elapsedNanos) {
+        Statistic statistic = getStatistic(dataSourceName);
+        statistic.inFlightCount.decrementAndGet();
+        statistic.update(elapsedNanos, System.nanoTime());
+    }
+    
+    /**
+     * Get load of data source.
+     * 
+     * <p>Load is average response time multiply count of in-flight executions plus one, zero if data source never executed.</p>
+     * 
+     * @param dataSourceName data source name
+     * @return load of data source
+     */
+    public double getLoad(final String dataSourceName) {
+        Statistic statistic = statistics.get(dataSourceName);
+        return null == statistic ? 0D : statistic.getAverageNanos(System.nanoTime()) * (Math.max(statistic.inFlightCount.get(), 0) + 1);
+    }
+    
+    private Statistic getStatistic(final String dataSourceName) {
+        Statistic result = statistics.get(dataSourceName);
+        if (null == result) {
+            result = new Statistic();
+            Statistic existed = statistics.putIfAbsent(dataSourceName, result);
+            if (null != existed) {
+                result = existed;
+            }
+        }
+        return result;
+    }
+    
+    private static final class Statistic {
+        
+        private final AtomicInteger inFlightCount = new AtomicInteger();
+        
+        private double averageNanos;
+        
+        private long lastUpdateNanos;
+        
+        private boolean updated;
+        
+        private synchronized void update(final long elapsedNanos, final long now) {
+            if (!updated || elapsedNanos > averageNanos) {
+                averageNanos = elapsedNanos;
+                updated = true;
+            } else {
+                double weight = Math.exp(-Math.max(now - lastUpdateNanos, 0L) / (double) DECAY_NANOS);
+                averageNanos = averageNanos * weight + elapsedNanos * (1D - weight);
+            }
+            lastUpdateNanos = now;
+        }
+        
+        private synchronized double getAverageNanos(final long now) {
+            return updated ? averageNanos * Math.exp(-Math.max(now - lastUpdateNanos, 0L) / (double) DECAY_NANOS) : 0D;
+        }
+    }
+}
@@ -24,9 +24,9 @@ import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Master slave router interface.
@@ -61,8 +61,11 @@ public final class MasterSlaveRouter {
             MasterVisitedManager.setMasterVisited();
             return Collections.singletonList(masterSlaveRule.getMasterDataSourceName());
         }
-        return Collections.singletonList(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())));
+        List<String> slaveDataSourceNames = masterSlaveRule.getRoutableSlaveDataSourceNames();
+        if (slaveDataSourceNames.isEmpty()) {
+            return Collections.singletonList(masterSlaveRule.getMasterDataSourceName());
+        }
+        return Collections.singletonList(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames));
     }
     
     private boolean isMasterRoute(final SQLType sqlType) {
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag probe for MySQL slave data source.
+ * 
+ * <p>
+ * Use {@code Seconds_Behind_Master} of {@code SHOW SLAVE STATUS}, data source which is not a slave has no lag.
+ * Probe query is bounded by query timeout, rounded up to seconds.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class MySQLSlaveLagProbe implements SlaveLagProbe {
+    
+    @Override
+    public long getLagMillis(final DataSource slaveDataSource, final long timeoutMillis) throws SQLException {
+        try (
+                Connection connection = slaveDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999L)));
+            try (ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+                if (!resultSet.next()) {
+                    return 0L;
+                }
+                long result = resultSet.getLong("Seconds_Behind_Master");
+                return resultSet.wasNull() ? Long.MAX_VALUE : result * 1000L;
+            }
+        }
+    }
+}
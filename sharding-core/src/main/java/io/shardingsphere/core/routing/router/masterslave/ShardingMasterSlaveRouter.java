@@ -24,9 +24,9 @@ import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Sharding with master-slave router interface.
@@ -62,9 +62,14 @@ public final class ShardingMasterSlaveRouter {
             if (isMasterRoute(sqlRouteResult.getSqlStatement().getType())) {
                 MasterVisitedManager.setMasterVisited();
                 toBeAdded.add(new SQLExecutionUnit(masterSlaveRule.getMasterDataSourceName(), each.getSqlUnit()));
+                continue;
+            }
+            List<String> slaveDataSourceNames = masterSlaveRule.getRoutableSlaveDataSourceNames();
+            if (slaveDataSourceNames.isEmpty()) {
+                toBeAdded.add(new SQLExecutionUnit(masterSlaveRule.getMasterDataSourceName(), each.getSqlUnit()));
             } else {
                 toBeAdded.add(new SQLExecutionUnit(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                        masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())), each.getSqlUnit()));
+                        masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames), each.getSqlUnit()));
             }
         }
         sqlRouteResult.getExecutionUnits().removeAll(toBeRemoved);
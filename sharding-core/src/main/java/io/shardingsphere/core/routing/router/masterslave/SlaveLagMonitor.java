@@ -0,0 +1,222 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.shardingsphere.core.constant.ShardingProperties;
+import io.shardingsphere.core.constant.ShardingPropertiesConstant;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Replication lag monitor of slave data sources.
+ * 
+ * <p>
+ * Probe replication lag of every slave data source periodically in background threads, 
+ * slave data sources which lag exceed threshold will be excluded from routing of master-slave rules until caught up.
+ * Slave data sources are probed in parallel and independently, a probe which cannot finish within timeout regards slave data source as stale, 
+ * and it will not be probed again until the hung probe finished.
+ * If every slave data source is stale, route to master data source or keep routing to all slave data sources by configuration.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Slf4j
+public final class SlaveLagMonitor implements AutoCloseable {
+    
+    private final Collection<MasterSlaveRule> masterSlaveRules;
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final SlaveLagProbe slaveLagProbe;
+    
+    private final long lagThresholdMillis;
+    
+    private final long probeTimeoutMillis;
+    
+    private final boolean masterRouteIfAllStale;
+    
+    private final Map<String, Long> lagMillisMap = new ConcurrentHashMap<>();
+    
+    private final Map<String, Future<Long>> probeFutures = new HashMap<>();
+    
+    private final ExecutorService probeExecutorService;
+    
+    private final ScheduledExecutorService scheduledExecutorService;
+    
+    public SlaveLagMonitor(final Collection<MasterSlaveRule> masterSlaveRules, final Map<String, DataSource> dataSourceMap, final SlaveLagProbe slaveLagProbe, 
+                           final long lagThresholdMillis, final long probeIntervalMillis, final long probeTimeoutMillis, final boolean masterRouteIfAllStale) {
+        this.masterSlaveRules = masterSlaveRules;
+        this.dataSourceMap = dataSourceMap;
+        this.slaveLagProbe = slaveLagProbe;
+        this.lagThresholdMillis = lagThresholdMillis;
+        this.probeTimeoutMillis = probeTimeoutMillis;
+        this.masterRouteIfAllStale = masterRouteIfAllStale;
+        probeExecutorService = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-SlaveLagProbe-%d").build());
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-SlaveLagMonitor-%d").build());
+        scheduledExecutorService.scheduleWithFixedDelay(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    refresh();
+                } catch (final RuntimeException ex) {
+                    log.warn("Refresh replication lag of slave data sources failure.", ex);
+                }
+            }
+        }, 0L, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Create slave lag monitor if lag threshold is configured.
+     * 
+     * @param masterSlaveRules master-slave rules
+     * @param dataSourceMap data source map
+     * @param shardingProperties sharding properties
+     * @return slave lag monitor, absent if lag threshold is not configured or no master-slave rule
+     */
+    public static Optional<SlaveLagMonitor> newInstance(final Collection<MasterSlaveRule> masterSlaveRules, final Map<String, DataSource> dataSourceMap, 
+                                                        final ShardingProperties shardingProperties) {
+        long lagThresholdMillis = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_LAG_THRESHOLD_MILLIS);
+        if (lagThresholdMillis <= 0L || masterSlaveRules.isEmpty()) {
+            return Optional.absent();
+        }
+        String slaveLagProbeClassName = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_LAG_PROBE_CLASS_NAME);
+        long probeIntervalMillis = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_LAG_PROBE_INTERVAL_MILLIS);
+        long probeTimeoutMillis = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_LAG_PROBE_TIMEOUT_MILLIS);
+        boolean masterRouteIfAllStale = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_LAG_MASTER_ROUTE_IF_ALL_STALE);
+        return Optional.of(new SlaveLagMonitor(
+                masterSlaveRules, dataSourceMap, newSlaveLagProbe(slaveLagProbeClassName), lagThresholdMillis, probeIntervalMillis, probeTimeoutMillis, masterRouteIfAllStale));
+    }
+    
+    private static SlaveLagProbe newSlaveLagProbe(final String slaveLagProbeClassName) {
+        try {
+            return (SlaveLagProbe) Class.forName(slaveLagProbeClassName).newInstance();
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalArgumentException(String.format("Class %s should have public privilege and no argument constructor", slaveLagProbeClassName));
+        }
+    }
+    
+    /**
+     * Probe replication lag of all slave data sources and refresh routable slave data sources of master-slave rules.
+     */
+    public synchronized void refresh() {
+        Map<String, Future<Long>> futures = new LinkedHashMap<>();
+        for (MasterSlaveRule each : masterSlaveRules) {
+            for (String slaveDataSourceName : each.getSlaveDataSourceNames()) {
+                if (!futures.containsKey(slaveDataSourceName) && dataSourceMap.containsKey(slaveDataSourceName)) {
+                    futures.put(slaveDataSourceName, submitProbe(slaveDataSourceName));
+                }
+            }
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(probeTimeoutMillis);
+        Map<String, Long> lagMillisOfSlaves = new HashMap<>(futures.size(), 1);
+        for (Entry<String, Future<Long>> entry : futures.entrySet()) {
+            long lagMillis = getLagMillis(entry.getKey(), entry.getValue(), deadlineNanos);
+            lagMillisMap.put(entry.getKey(), lagMillis);
+            lagMillisOfSlaves.put(entry.getKey(), lagMillis);
+        }
+        for (MasterSlaveRule each : masterSlaveRules) {
+            each.setRoutableSlaveDataSourceNames(getRoutableSlaveDataSourceNames(each, lagMillisOfSlaves));
+        }
+    }
+    
+    private Future<Long> submitProbe(final String slaveDataSourceName) {
+        Future<Long> result = probeFutures.get(slaveDataSourceName);
+        if (null != result && !result.isDone()) {
+            return result;
+        }
+        final DataSource dataSource = dataSourceMap.get(slaveDataSourceName);
+        result = probeExecutorService.submit(new Callable<Long>() {
+            
+            @Override
+            public Long call() throws SQLException {
+                return slaveLagProbe.getLagMillis(dataSource, probeTimeoutMillis);
+            }
+        });
+        probeFutures.put(slaveDataSourceName, result);
+        return result;
+    }
+    
+    private long getLagMillis(final String slaveDataSourceName, final Future<Long> future, final long deadlineNanos) {
+        try {
+            return future.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException ex) {
+            log.warn(String.format("Probe replication lag of slave data source '%s' failure.", slaveDataSourceName), ex.getCause());
+        } catch (final TimeoutException ex) {
+            log.warn(String.format("Probe replication lag of slave data source '%s' timeout after %d milliseconds.", slaveDataSourceName, probeTimeoutMillis));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return Long.MAX_VALUE;
+    }
+    
+    private List<String> getRoutableSlaveDataSourceNames(final MasterSlaveRule masterSlaveRule, final Map<String, Long> lagMillisOfSlaves) {
+        List<String> result = new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames().size());
+        for (String each : masterSlaveRule.getSlaveDataSourceNames()) {
+            Long lagMillis = lagMillisOfSlaves.get(each);
+            if (null == lagMillis || lagMillis <= lagThresholdMillis) {
+                result.add(each);
+            }
+        }
+        if (result.size() == masterSlaveRule.getSlaveDataSourceNames().size()) {
+            return masterSlaveRule.getSlaveDataSourceNames();
+        }
+        if (result.isEmpty()) {
+            return masterRouteIfAllStale ? Collections.<String>emptyList() : masterSlaveRule.getSlaveDataSourceNames();
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
+    /**
+     * Get replication lag of slave data source probed last time.
+     * 
+     * @param slaveDataSourceName slave data source name
+     * @return replication lag in milliseconds
+     */
+    public Optional<Long> getLagMillis(final String slaveDataSourceName) {
+        return Optional.fromNullable(lagMillisMap.get(slaveDataSourceName));
+    }
+    
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdownNow();
+        probeExecutorService.shutdownNow();
+    }
+}
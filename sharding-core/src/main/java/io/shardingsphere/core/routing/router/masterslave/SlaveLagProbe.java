@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Replication lag probe of slave data source.
+ * 
+ * <p>Implementation class should have public privilege and no argument constructor.</p>
+ * 
+ * @author zhangliang
+ */
+public interface SlaveLagProbe {
+    
+    /**
+     * Get replication lag of slave data source.
+     * 
+     * @param slaveDataSource slave data source
+     * @param timeoutMillis timeout in milliseconds of probe query
+     * @return replication lag in milliseconds, {@code Long.MAX_VALUE} if replication is broken
+     * @throws SQLException SQL exception
+     */
+    long getLagMillis(DataSource slaveDataSource, long timeoutMillis) throws SQLException;
+}
@@ -19,11 +19,15 @@ package io.shardingsphere.core.routing.router.sharding;
 
 import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowTablesStatement;
@@ -32,6 +36,7 @@ import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import io.shardingsphere.core.parsing.parser.sql.dcl.DCLStatement;
 import io.shardingsphere.core.parsing.parser.sql.ddl.DDLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
@@ -39,6 +44,9 @@ import io.shardingsphere.core.rewrite.SQLBuilder;
 import io.shardingsphere.core.rewrite.SQLRewriteEngine;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.cache.CachedRouteResult;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.routing.type.RoutingEngine;
 import io.shardingsphere.core.routing.type.RoutingResult;
 import io.shardingsphere.core.routing.type.TableUnit;
@@ -54,7 +62,9 @@ import io.shardingsphere.core.rule.TableRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -80,34 +90,95 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RouteResultCache routeResultCache;
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
-        return new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData).parse(useCache);
+        return new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
     }
     
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+        if (!isRouteResultCacheable(logicSQL, sqlStatement)) {
+            return route(logicSQL, parameters, sqlStatement, Collections.<Object>emptyList());
+        }
+        List<Object> shardingValues = getShardingValues(sqlStatement, parameters);
+        Optional<CachedRouteResult> cachedRouteResult = routeResultCache.getRouteResult(sqlStatement, shardingValues);
+        return cachedRouteResult.isPresent() ? route(logicSQL, parameters, sqlStatement, cachedRouteResult.get()) : route(logicSQL, parameters, sqlStatement, shardingValues);
+    }
+    
+    private boolean isRouteResultCacheable(final String logicSQL, final SQLStatement sqlStatement) {
+        return null != routeResultCache && null == HintManagerHolder.get() && (sqlStatement instanceof SelectStatement || sqlStatement instanceof DMLStatement) && !(sqlStatement instanceof InsertStatement)
+                && null != parsingResultCache && parsingResultCache.isCached(logicSQL, sqlStatement);
+    }
+    
+    private List<Object> getShardingValues(final SQLStatement sqlStatement, final List<Object> parameters) {
+        List<Object> result = new ArrayList<>();
+        for (AndCondition each : sqlStatement.getConditions().getOrCondition().getAndConditions()) {
+            for (Condition condition : each.getConditions()) {
+                for (Integer index : condition.getPositionIndexMap().values()) {
+                    result.add(parameters.get(index));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement, final List<Object> shardingValues) {
+        SQLStatement routingStatement = getRoutingStatement(sqlStatement);
         GeneratedKey generatedKey = null;
-        if (sqlStatement instanceof InsertStatement) {
-            generatedKey = getGenerateKey(shardingRule, (InsertStatement) sqlStatement, parameters);
+        if (routingStatement instanceof InsertStatement) {
+            generatedKey = getGenerateKey(shardingRule, (InsertStatement) routingStatement, parameters);
         }
-        SQLRouteResult result = new SQLRouteResult(sqlStatement, generatedKey);
-        ShardingConditions shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, generatedKey).optimize();
+        SQLRouteResult result = new SQLRouteResult(routingStatement, generatedKey);
+        ShardingConditions shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, routingStatement, parameters, generatedKey).optimize();
         if (null != generatedKey) {
             setGeneratedKeys(result, generatedKey);
         }
-        RoutingResult routingResult = route(sqlStatement, shardingConditions);
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters);
+        RoutingResult routingResult = route(routingStatement, shardingConditions);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, routingStatement, shardingConditions, parameters);
         boolean isSingleRouting = routingResult.isSingleRouting();
-        if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
-            processLimit(parameters, (SelectStatement) sqlStatement, isSingleRouting);
+        if (routingStatement instanceof SelectStatement && null != ((SelectStatement) routingStatement).getLimit()) {
+            processLimit(parameters, (SelectStatement) routingStatement, isSingleRouting);
         }
         SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
         for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
             result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData)));
         }
+        if (isRouteResultCacheable(logicSQL, sqlStatement)) {
+            routeResultCache.put(sqlStatement, shardingValues, createCachedRouteResult(result, isSingleRouting));
+        }
+        if (showSQL) {
+            SQLLogger.logSQL(logicSQL, routingStatement, result.getExecutionUnits());
+        }
+        return result;
+    }
+    
+    private SQLStatement getRoutingStatement(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit() ? new SelectStatement((SelectStatement) sqlStatement) : sqlStatement;
+    }
+    
+    private CachedRouteResult createCachedRouteResult(final SQLRouteResult routeResult, final boolean isSingleRouting) {
+        Collection<SQLExecutionUnit> executionUnits = new ArrayList<>(routeResult.getExecutionUnits().size());
+        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+            executionUnits.add(new SQLExecutionUnit(each.getDataSource(), new SQLUnit(each.getSqlUnit().getSql(), Collections.<List<Object>>emptyList())));
+        }
+        return new CachedRouteResult(isSingleRouting, executionUnits);
+    }
+    
+    private SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement, final CachedRouteResult cachedRouteResult) {
+        SQLStatement routingStatement = getRoutingStatement(sqlStatement);
+        if (routingStatement instanceof SelectStatement && null != ((SelectStatement) routingStatement).getLimit()) {
+            processLimit(parameters, (SelectStatement) routingStatement, cachedRouteResult.isSingleRouting());
+        }
+        SQLRouteResult result = new SQLRouteResult(routingStatement);
+        for (SQLExecutionUnit each : cachedRouteResult.getExecutionUnits()) {
+            result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSource(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(Collections.singleton(parameters)))));
+        }
         if (showSQL) {
-            SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits());
+            SQLLogger.logSQL(logicSQL, routingStatement, result.getExecutionUnits());
         }
         return result;
     }
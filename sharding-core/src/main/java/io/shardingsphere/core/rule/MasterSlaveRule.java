@@ -17,13 +17,19 @@
 
 package io.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.api.algorithm.masterslave.LeastLatencyMasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyStatistics;
 import lombok.Getter;
+import lombok.Setter;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Databases and tables master-slave rule configuration.
@@ -38,10 +44,15 @@ public final class MasterSlaveRule {
     
     private final String masterDataSourceName;
     
-    private final Collection<String> slaveDataSourceNames;
+    private final List<String> slaveDataSourceNames;
+    
+    private final DataSourceLatencyStatistics latencyStatistics = new DataSourceLatencyStatistics();
     
     private final MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm;
     
+    @Setter
+    private volatile List<String> routableSlaveDataSourceNames;
+    
     public MasterSlaveRule(final MasterSlaveRuleConfiguration config) {
         Preconditions.checkNotNull(config.getName(), "Master-slave rule name cannot be null.");
         Preconditions.checkNotNull(config.getMasterDataSourceName(), "Master data source name cannot be null.");
@@ -49,8 +60,29 @@ public final class MasterSlaveRule {
         Preconditions.checkState(!config.getSlaveDataSourceNames().isEmpty(), "Slave data source names cannot be empty.");
         name = config.getName();
         masterDataSourceName = config.getMasterDataSourceName();
-        slaveDataSourceNames = config.getSlaveDataSourceNames();
-        loadBalanceAlgorithm = null == config.getLoadBalanceAlgorithm() ? MasterSlaveLoadBalanceAlgorithmType.getDefaultAlgorithmType().getAlgorithm() : config.getLoadBalanceAlgorithm();
+        slaveDataSourceNames = Collections.unmodifiableList(new ArrayList<>(config.getSlaveDataSourceNames()));
+        routableSlaveDataSourceNames = slaveDataSourceNames;
+        loadBalanceAlgorithm = createLoadBalanceAlgorithm(config.getLoadBalanceAlgorithm());
+    }
+    
+    private MasterSlaveLoadBalanceAlgorithm createLoadBalanceAlgorithm(final MasterSlaveLoadBalanceAlgorithm configuredAlgorithm) {
+        if (null == configuredAlgorithm) {
+            return MasterSlaveLoadBalanceAlgorithmType.getDefaultAlgorithmType().getAlgorithm();
+        }
+        return configuredAlgorithm instanceof LeastLatencyMasterSlaveLoadBalanceAlgorithm ? new LeastLatencyMasterSlaveLoadBalanceAlgorithm(latencyStatistics) : configuredAlgorithm;
+    }
+    
+    /**
+     * Find latency statistics of slave data source.
+     * 
+     * <p>Latency is only traced when load balance algorithm is least latency.</p>
+     *
+     * @param dataSourceName data source name
+     * @return latency statistics of slave data source
+     */
+    public Optional<DataSourceLatencyStatistics> findLatencyStatistics(final String dataSourceName) {
+        return loadBalanceAlgorithm instanceof LeastLatencyMasterSlaveLoadBalanceAlgorithm && slaveDataSourceNames.contains(dataSourceName)
+                ? Optional.of(latencyStatistics) : Optional.<DataSourceLatencyStatistics>absent();
     }
     
     /**
@@ -28,16 +28,21 @@ import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.keygen.DefaultKeyGenerator;
 import io.shardingsphere.core.keygen.KeyGenerator;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyStatistics;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingsphere.core.util.StringUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -66,20 +71,42 @@ public final class ShardingRule {
     
     private final Collection<MasterSlaveRule> masterSlaveRules = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRuleMap = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRuleMap = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> bindingTableRuleMap = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> shardingColumnsMap = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> logicIndexMap = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, MasterSlaveRule> masterSlaveRuleMap = new HashMap<>();
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkNotNull(dataSourceNames, "Data sources cannot be null.");
         Preconditions.checkArgument(!dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.shardingRuleConfig = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         for (TableRuleConfiguration each : shardingRuleConfig.getTableRuleConfigs()) {
-            tableRules.add(new TableRule(each, shardingDataSourceNames));
+            TableRule tableRule = new TableRule(each, shardingDataSourceNames);
+            tableRules.add(tableRule);
+            indexTableRule(tableRule);
         }
         for (String group : shardingRuleConfig.getBindingTableGroups()) {
             List<TableRule> tableRulesForBinding = new LinkedList<>();
             for (String logicTableNameForBindingTable : StringUtil.splitWithComma(group)) {
                 tableRulesForBinding.add(getTableRuleByLogicTableName(logicTableNameForBindingTable));
             }
-            bindingTableRules.add(new BindingTableRule(tableRulesForBinding));
+            BindingTableRule bindingTableRule = new BindingTableRule(tableRulesForBinding);
+            bindingTableRules.add(bindingTableRule);
+            indexBindingTableRule(bindingTableRule);
         }
         defaultDatabaseShardingStrategy = null == shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig()
                 ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
@@ -87,7 +114,47 @@ public final class ShardingRule {
                 ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultKeyGenerator = null == shardingRuleConfig.getDefaultKeyGenerator() ? new DefaultKeyGenerator() : shardingRuleConfig.getDefaultKeyGenerator();
         for (MasterSlaveRuleConfiguration each : shardingRuleConfig.getMasterSlaveRuleConfigs()) {
-            masterSlaveRules.add(new MasterSlaveRule(each));
+            MasterSlaveRule masterSlaveRule = new MasterSlaveRule(each);
+            masterSlaveRules.add(masterSlaveRule);
+            indexMasterSlaveRule(masterSlaveRule);
+        }
+    }
+    
+    private void indexTableRule(final TableRule tableRule) {
+        putIfAbsent(logicTableRuleMap, tableRule.getLogicTable(), tableRule);
+        for (String each : tableRule.getAllActualTableNames()) {
+            putIfAbsent(actualTableRuleMap, each, tableRule);
+        }
+        if (!shardingColumnsMap.containsKey(tableRule.getLogicTable())) {
+            shardingColumnsMap.put(tableRule.getLogicTable(), new HashSet<String>());
+        }
+        if (null != tableRule.getDatabaseShardingStrategy()) {
+            shardingColumnsMap.get(tableRule.getLogicTable()).addAll(tableRule.getDatabaseShardingStrategy().getShardingColumns());
+        }
+        if (null != tableRule.getTableShardingStrategy()) {
+            shardingColumnsMap.get(tableRule.getLogicTable()).addAll(tableRule.getTableShardingStrategy().getShardingColumns());
+        }
+        if (null != tableRule.getLogicIndex()) {
+            putIfAbsent(logicIndexMap, tableRule.getLogicIndex(), tableRule.getLogicTable());
+        }
+    }
+    
+    private void indexBindingTableRule(final BindingTableRule bindingTableRule) {
+        for (TableRule each : bindingTableRule.getTableRules()) {
+            putIfAbsent(bindingTableRuleMap, each.getLogicTable(), bindingTableRule);
+        }
+    }
+    
+    private void indexMasterSlaveRule(final MasterSlaveRule masterSlaveRule) {
+        putIfAbsent(masterSlaveRuleMap, masterSlaveRule.getMasterDataSourceName(), masterSlaveRule);
+        for (String each : masterSlaveRule.getSlaveDataSourceNames()) {
+            putIfAbsent(masterSlaveRuleMap, each, masterSlaveRule);
+        }
+    }
+    
+    private <T> void putIfAbsent(final Map<String, T> map, final String key, final T value) {
+        if (!map.containsKey(key)) {
+            map.put(key, value);
         }
     }
     
@@ -98,12 +165,7 @@ public final class ShardingRule {
      * @return table rule
      */
     public Optional<TableRule> tryFindTableRuleByLogicTable(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equals(logicTableName.toLowerCase())) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(logicTableRuleMap.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -113,12 +175,7 @@ public final class ShardingRule {
      * @return table rule
      */
     public Optional<TableRule> tryFindTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == actualTableName ? Optional.<TableRule>absent() : Optional.fromNullable(actualTableRuleMap.get(actualTableName.toLowerCase()));
     }
     
     /**
@@ -241,12 +298,7 @@ public final class ShardingRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTable) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTable)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(bindingTableRuleMap.get(logicTable.toLowerCase()));
     }
     
     /**
@@ -259,18 +311,8 @@ public final class ShardingRule {
         if (defaultDatabaseShardingStrategy.getShardingColumns().contains(column.getName()) || defaultTableShardingStrategy.getShardingColumns().contains(column.getName())) {
             return true;
         }
-        for (TableRule each : tableRules) {
-            if (!each.getLogicTable().equalsIgnoreCase(column.getTableName())) {
-                continue;
-            }
-            if (null != each.getDatabaseShardingStrategy() && each.getDatabaseShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
-            if (null != each.getTableShardingStrategy() && each.getTableShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
-        }
-        return false;
+        Collection<String> shardingColumns = null == column.getTableName() ? null : shardingColumnsMap.get(column.getTableName().toLowerCase());
+        return null != shardingColumns && shardingColumns.contains(column.getName());
     }
     
     /**
@@ -280,10 +322,9 @@ public final class ShardingRule {
      * @return generated key's column
      */
     public Optional<Column> getGenerateKeyColumn(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(new Column(each.getGenerateKeyColumn(), logicTableName));
-            }
+        Optional<TableRule> tableRule = tryFindTableRuleByLogicTable(logicTableName);
+        if (tableRule.isPresent() && null != tableRule.get().getGenerateKeyColumn()) {
+            return Optional.of(new Column(tableRule.get().getGenerateKeyColumn(), logicTableName));
         }
         return Optional.absent();
     }
@@ -312,10 +353,9 @@ public final class ShardingRule {
      * @return logic table name
      */
     public String getLogicTableName(final String logicIndexName) {
-        for (TableRule each : tableRules) {
-            if (logicIndexName.equals(each.getLogicIndex())) {
-                return each.getLogicTable();
-            }
+        String result = logicIndexMap.get(logicIndexName);
+        if (null != result) {
+            return result;
         }
         throw new ShardingConfigurationException("Cannot find logic table name with logic index name: '%s'", logicIndexName);
     }
@@ -393,12 +433,18 @@ public final class ShardingRule {
      * @return master slave rule
      */
     public Optional<MasterSlaveRule> findMasterSlaveRule(final String dataSourceName) {
-        for (MasterSlaveRule each : masterSlaveRules) {
-            if (each.containDataSourceName(dataSourceName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(masterSlaveRuleMap.get(dataSourceName));
+    }
+    
+    /**
+     * Find latency statistics of slave data source.
+     *
+     * @param dataSourceName data source name
+     * @return latency statistics of master-slave rule which contains slave data source
+     */
+    public Optional<DataSourceLatencyStatistics> findLatencyStatistics(final String dataSourceName) {
+        MasterSlaveRule masterSlaveRule = masterSlaveRuleMap.get(dataSourceName);
+        return null == masterSlaveRule ? Optional.<DataSourceLatencyStatistics>absent() : masterSlaveRule.findLatencyStatistics(dataSourceName);
     }
     
     /**
@@ -24,13 +24,21 @@ import io.shardingsphere.core.keygen.KeyGenerator;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
 import io.shardingsphere.core.util.InlineExpressionParser;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * Table rule configuration.
@@ -38,7 +46,7 @@ import java.util.List;
  * @author zhangliang
  */
 @Getter
-@ToString
+@ToString(exclude = {"actualDatasourceNames", "dataSourceToTablesMap", "dataNodeIndexMap", "actualTableNames"})
 public final class TableRule {
     
     private final String logicTable;
@@ -55,6 +63,18 @@ public final class TableRule {
     
     private final String logicIndex;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualDatasourceNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Set<String>> dataSourceToTablesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> dataNodeIndexMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> actualTableNames;
+    
     public TableRule(final TableRuleConfiguration tableRuleConfig, final ShardingDataSourceNames shardingDataSourceNames) {
         Preconditions.checkNotNull(tableRuleConfig.getLogicTable(), "Logic table cannot be null.");
         logicTable = tableRuleConfig.getLogicTable().toLowerCase();
@@ -66,6 +86,10 @@ public final class TableRule {
         generateKeyColumn = tableRuleConfig.getKeyGeneratorColumnName();
         keyGenerator = tableRuleConfig.getKeyGenerator();
         logicIndex = null == tableRuleConfig.getLogicIndex() ? null : tableRuleConfig.getLogicIndex().toLowerCase();
+        dataSourceToTablesMap = createDataSourceToTablesMap(actualDataNodes);
+        actualDatasourceNames = Collections.unmodifiableSet(dataSourceToTablesMap.keySet());
+        dataNodeIndexMap = createDataNodeIndexMap(actualDataNodes);
+        actualTableNames = createActualTableNames(actualDataNodes);
     }
     
     private boolean isEmptyDataNodes(final List<String> dataNodes) {
@@ -73,7 +97,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         for (String each : dataSourceNames) {
             result.add(new DataNode(each, logicTable));
         }
@@ -81,7 +105,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         for (String each : actualDataNodes) {
             DataNode dataNode = new DataNode(each);
             if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
@@ -92,17 +116,52 @@ public final class TableRule {
         return result;
     }
     
+    private Map<String, Set<String>> createDataSourceToTablesMap(final List<DataNode> actualDataNodes) {
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        for (DataNode each : actualDataNodes) {
+            if (!result.containsKey(each.getDataSourceName())) {
+                result.put(each.getDataSourceName(), new LinkedHashSet<String>());
+            }
+            result.get(each.getDataSourceName()).add(each.getTableName());
+        }
+        for (Entry<String, Set<String>> entry : result.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> createDataNodeIndexMap(final List<DataNode> actualDataNodes) {
+        Map<String, Integer> result = new HashMap<>(actualDataNodes.size(), 1);
+        int index = 0;
+        for (DataNode each : actualDataNodes) {
+            String key = getDataNodeKey(each.getDataSourceName(), each.getTableName());
+            if (!result.containsKey(key)) {
+                result.put(key, index);
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private Set<String> createActualTableNames(final List<DataNode> actualDataNodes) {
+        Set<String> result = new HashSet<>(actualDataNodes.size(), 1);
+        for (DataNode each : actualDataNodes) {
+            result.add(each.getTableName().toLowerCase());
+        }
+        return result;
+    }
+    
+    private String getDataNodeKey(final String dataSourceName, final String actualTableName) {
+        return dataSourceName.toLowerCase() + "." + actualTableName.toLowerCase();
+    }
+    
     /**
      * Get actual data source names.
      *
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return new LinkedHashSet<>(actualDatasourceNames);
     }
     
     /**
@@ -112,32 +171,20 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
-            }
-        }
-        return result;
+        Collection<String> actualTables = dataSourceToTablesMap.get(targetDataSource);
+        return null == actualTables ? new LinkedHashSet<String>() : new LinkedHashSet<>(actualTables);
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        int result = 0;
-        for (DataNode each : actualDataNodes) {
-            if (each.getDataSourceName().equalsIgnoreCase(dataSourceName) && each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return result;
-            }
-            result++;
-        }
-        return -1;
+        Integer result = dataNodeIndexMap.get(getDataNodeKey(dataSourceName, actualTableName));
+        return null == result ? -1 : result;
     }
     
     boolean isExisted(final String actualTableName) {
-        for (DataNode each : actualDataNodes) {
-            if (each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return actualTableNames.contains(actualTableName.toLowerCase());
+    }
+    
+    Collection<String> getAllActualTableNames() {
+        return actualTableNames;
     }
 }
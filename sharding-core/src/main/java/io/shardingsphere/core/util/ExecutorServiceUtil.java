@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.shardingsphere.core.constant.ExecutorType;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service utility class.
+ *
+ * <p>Virtual threads are created by reflection, so it works on JVM without virtual thread.</p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ExecutorServiceUtil {
+    
+    private static final Optional<Method> OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static Optional<Method> findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return Optional.of(clazz.getMethod(methodName, parameterTypes));
+        } catch (final NoSuchMethodException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL_METHOD.isPresent();
+    }
+    
+    /**
+     * Create fixed thread pool.
+     *
+     * <p>Every task will be executed by a new virtual thread without pooling if executor type is {@code VIRTUAL}, size will be ignored.</p>
+     *
+     * @param executorType executor type
+     * @param size size of platform threads
+     * @param nameFormat name format of threads
+     * @param daemon platform threads are daemon or not
+     * @return executor service
+     */
+    public static ExecutorService newFixedThreadPool(final ExecutorType executorType, final int size, final String nameFormat, final boolean daemon) {
+        Optional<ThreadFactory> virtualThreadFactory = findVirtualThreadFactory(executorType);
+        if (virtualThreadFactory.isPresent()) {
+            return newThreadPerTaskExecutor(new ThreadFactoryBuilder().setThreadFactory(virtualThreadFactory.get()).setNameFormat(nameFormat).build());
+        }
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(daemon).setNameFormat(nameFormat).build());
+    }
+    
+    /**
+     * Create single thread executor.
+     *
+     * <p>All tasks will be executed by same thread, the thread is a virtual thread if executor type is {@code VIRTUAL}.</p>
+     *
+     * @param executorType executor type
+     * @param nameFormat name format of thread
+     * @param daemon platform thread is daemon or not
+     * @return executor service
+     */
+    public static ExecutorService newSingleThreadExecutor(final ExecutorType executorType, final String nameFormat, final boolean daemon) {
+        Optional<ThreadFactory> virtualThreadFactory = findVirtualThreadFactory(executorType);
+        ThreadFactoryBuilder threadFactoryBuilder = virtualThreadFactory.isPresent() ? new ThreadFactoryBuilder().setThreadFactory(virtualThreadFactory.get()) : new ThreadFactoryBuilder().setDaemon(daemon);
+        return Executors.newSingleThreadExecutor(threadFactoryBuilder.setNameFormat(nameFormat).build());
+    }
+    
+    private static Optional<ThreadFactory> findVirtualThreadFactory(final ExecutorType executorType) {
+        if (ExecutorType.VIRTUAL != executorType) {
+            return Optional.absent();
+        }
+        if (!isVirtualThreadSupported()) {
+            log.warn("Virtual thread is unsupported by current JVM, use platform threads instead.");
+            return Optional.absent();
+        }
+        try {
+            Object builder = OF_VIRTUAL_METHOD.get().invoke(null);
+            return Optional.of((ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    private static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+}
@@ -57,8 +57,8 @@ public class YamlTableRuleConfiguration {
         tableStrategy = new YamlShardingStrategyConfiguration(tableRuleConfiguration.getTableShardingStrategyConfig());
         keyGeneratorColumnName = tableRuleConfiguration.getKeyGeneratorColumnName();
         keyGeneratorClassName = null == tableRuleConfiguration.getKeyGenerator()
-                ? null : tableRuleConfiguration.getKeyGenerator().getClass().getName();
-        logicTable = tableRuleConfiguration.getLogicTable();
+                ? null : KeyGeneratorFactory.getClassName(tableRuleConfiguration.getKeyGenerator());
+        logicIndex = tableRuleConfiguration.getLogicIndex();
     }
     
     /**
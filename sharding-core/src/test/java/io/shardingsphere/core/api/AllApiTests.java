@@ -18,6 +18,7 @@
 package io.shardingsphere.core.api;
 
 import io.shardingsphere.core.api.algorithm.common.ShardingStrategyTest;
+import io.shardingsphere.core.api.algorithm.masterslave.LeastLatencyMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.masterslave.RandomMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.sharding.DatabaseShardingStrategyTest;
@@ -32,6 +33,7 @@ import org.junit.runners.Suite;
         TableShardingStrategyTest.class, 
         RoundRobinMasterSlaveLoadBalanceAlgorithmTest.class, 
         RandomMasterSlaveLoadBalanceAlgorithmTest.class, 
+        LeastLatencyMasterSlaveLoadBalanceAlgorithmTest.class, 
         HintManagerTest.class
     })
 public class AllApiTests {
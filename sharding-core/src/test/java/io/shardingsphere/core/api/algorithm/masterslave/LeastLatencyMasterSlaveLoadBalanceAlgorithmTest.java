@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.masterslave;
+
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyStatistics;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LeastLatencyMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final DataSourceLatencyStatistics latencyStatistics = new DataSourceLatencyStatistics();
+    
+    private final LeastLatencyMasterSlaveLoadBalanceAlgorithm leastLatencyMasterSlaveLoadBalanceAlgorithm = new LeastLatencyMasterSlaveLoadBalanceAlgorithm(latencyStatistics);
+    
+    private final List<String> slaveDataSourceNames = Arrays.asList("test_ds_slave_1", "test_ds_slave_2");
+    
+    @Test
+    public void assertGetDataSourceForSingleSlave() {
+        assertThat(leastLatencyMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", Collections.singletonList("test_ds_slave_1")), is("test_ds_slave_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutStatistics() {
+        assertTrue(slaveDataSourceNames.contains(leastLatencyMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames)));
+        assertTrue(slaveDataSourceNames.contains(leastLatencyMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames)));
+    }
+    
+    @Test
+    public void assertGetDataSourceForLessLatency() {
+        execute("test_ds_slave_1", TimeUnit.MILLISECONDS.toNanos(20L));
+        execute("test_ds_slave_2", TimeUnit.MILLISECONDS.toNanos(1L));
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastLatencyMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceForLessInFlightExecutions() {
+        execute("test_ds_slave_1", TimeUnit.MILLISECONDS.toNanos(10L));
+        execute("test_ds_slave_2", TimeUnit.MILLISECONDS.toNanos(10L));
+        latencyStatistics.start("test_ds_slave_2");
+        latencyStatistics.start("test_ds_slave_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastLatencyMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceForPeakLatency() {
+        execute("test_ds_slave_1", TimeUnit.MILLISECONDS.toNanos(1L));
+        execute("test_ds_slave_2", TimeUnit.MILLISECONDS.toNanos(5L));
+        execute("test_ds_slave_1", TimeUnit.MILLISECONDS.toNanos(50L));
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastLatencyMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_2"));
+        }
+    }
+    
+    private void execute(final String dataSourceName, final long elapsedNanos) {
+        latencyStatistics.start(dataSourceName);
+        latencyStatistics.finish(dataSourceName, elapsedNanos);
+    }
+}
@@ -23,7 +23,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         DefaultKeyGeneratorTest.class, 
-        KeyGeneratorFactoryTest.class
+        KeyGeneratorFactoryTest.class, 
+        SegmentKeyGeneratorTest.class
     })
 public class AllKeygenTests {
 }
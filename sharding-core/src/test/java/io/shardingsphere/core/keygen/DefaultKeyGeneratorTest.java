@@ -17,16 +17,20 @@
 
 package io.shardingsphere.core.keygen;
 
+import io.shardingsphere.core.keygen.fixture.BackwardsTimeService;
 import io.shardingsphere.core.keygen.fixture.FixedTimeService;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -69,6 +73,55 @@ public final class DefaultKeyGeneratorTest {
         return result;
     }
     
+    @Test
+    public void assertGenerateKeyWithAllocationSize() throws ExecutionException, InterruptedException {
+        DefaultKeyGenerator.setTimeService(new TimeService());
+        DefaultKeyGenerator.setAllocationSize(100);
+        try {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            final DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+            List<Future<List<Number>>> futures = new ArrayList<>(4);
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(new Callable<List<Number>>() {
+                    
+                    @Override
+                    public List<Number> call() {
+                        List<Number> result = new ArrayList<>(1000);
+                        for (int j = 0; j < 1000; j++) {
+                            result.add(keyGenerator.generateKey());
+                        }
+                        return result;
+                    }
+                }));
+            }
+            Set<Number> generatedKeys = new HashSet<>();
+            for (Future<List<Number>> each : futures) {
+                generatedKeys.addAll(each.get());
+            }
+            executor.shutdown();
+            assertThat(generatedKeys.size(), is(4000));
+        } finally {
+            DefaultKeyGenerator.setAllocationSize(1);
+        }
+    }
+    
+    @Test
+    public void assertGenerateKeyWhenClockMovingBackwardsInTolerance() {
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        DefaultKeyGenerator.setTimeService(new BackwardsTimeService(5L));
+        long firstKey = keyGenerator.generateKey().longValue();
+        long secondKey = keyGenerator.generateKey().longValue();
+        assertThat(secondKey, is(firstKey + 1));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyFailureWhenClockMovingBackwardsBeyondTolerance() {
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        DefaultKeyGenerator.setTimeService(new BackwardsTimeService(11L));
+        keyGenerator.generateKey();
+        keyGenerator.generateKey();
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertSetWorkerIdFailureWhenNegative() {
         DefaultKeyGenerator.setWorkerId(-1L);
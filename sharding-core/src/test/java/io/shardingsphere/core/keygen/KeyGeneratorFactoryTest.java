@@ -22,8 +22,12 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.junit.Test;
 
+import javax.sql.DataSource;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class KeyGeneratorFactoryTest {
     
@@ -42,6 +46,16 @@ public final class KeyGeneratorFactoryTest {
         KeyGeneratorFactory.newInstance(IllegalAccessKeyGenerator.class.getName());
     }
     
+    @Test
+    public void assertGetClassName() {
+        assertThat(KeyGeneratorFactory.getClassName(new DefaultKeyGenerator()), is(DefaultKeyGenerator.class.getName()));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetClassNameFailureWithoutNoArgumentConstructor() {
+        KeyGeneratorFactory.getClassName(new SegmentKeyGenerator(mock(DataSource.class), "t_order"));
+    }
+    
     @RequiredArgsConstructor
     public static class InstantiationKeyGenerator implements KeyGenerator {
         
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.keygen;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SegmentKeyGeneratorTest {
+    
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+    
+    private JdbcDataSource dataSource;
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL(String.format("jdbc:h2:mem:key_segment_%d;DB_CLOSE_DELAY=-1;MODE=MYSQL", DATABASE_SEQUENCE.incrementAndGet()));
+        dataSource.setUser("sa");
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS sharding_key_segment (key_name VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)");
+        }
+    }
+    
+    @After
+    public void tearDown() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+    
+    @Test
+    public void assertGenerateKeyAcrossSegments() throws SQLException {
+        SegmentKeyGenerator keyGenerator = new SegmentKeyGenerator(dataSource, "t_order", SegmentKeyGenerator.DEFAULT_TABLE_NAME, 10);
+        for (long i = 1L; i <= 21L; i++) {
+            assertThat(keyGenerator.generateKey().longValue(), is(i));
+        }
+        assertThat(getMaxId("t_order"), is(30L));
+    }
+    
+    @Test
+    public void assertGenerateKeyByGeneratorsShareSequenceTable() {
+        SegmentKeyGenerator keyGenerator1 = new SegmentKeyGenerator(dataSource, "t_order", SegmentKeyGenerator.DEFAULT_TABLE_NAME, 10);
+        SegmentKeyGenerator keyGenerator2 = new SegmentKeyGenerator(dataSource, "t_order", SegmentKeyGenerator.DEFAULT_TABLE_NAME, 10);
+        SegmentKeyGenerator keyGenerator3 = new SegmentKeyGenerator(dataSource, "t_order_item", SegmentKeyGenerator.DEFAULT_TABLE_NAME, 10);
+        Set<Number> generatedKeys = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            assertTrue(generatedKeys.add(keyGenerator1.generateKey()));
+            assertTrue(generatedKeys.add(keyGenerator2.generateKey()));
+        }
+        assertThat(keyGenerator3.generateKey().longValue(), is(1L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWhenFirstSegmentInsertedConcurrently() throws SQLException {
+        DataSource sequenceDataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(sequenceDataSource.getConnection()).thenReturn(connection);
+        PreparedStatement updateStatement = mock(PreparedStatement.class);
+        when(updateStatement.executeUpdate()).thenReturn(0, 1);
+        when(connection.prepareStatement("UPDATE sharding_key_segment SET max_id = max_id + ? WHERE key_name = ?")).thenReturn(updateStatement);
+        PreparedStatement insertStatement = mock(PreparedStatement.class);
+        when(insertStatement.executeUpdate()).thenThrow(new SQLException("Duplicate entry 't_order' for key 'PRIMARY'", "23000", 1062));
+        when(connection.prepareStatement("INSERT INTO sharding_key_segment (key_name, max_id) VALUES (?, ?)")).thenReturn(insertStatement);
+        PreparedStatement selectStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(20L);
+        when(selectStatement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT max_id FROM sharding_key_segment WHERE key_name = ?")).thenReturn(selectStatement);
+        SegmentKeyGenerator keyGenerator = new SegmentKeyGenerator(sequenceDataSource, "t_order", SegmentKeyGenerator.DEFAULT_TABLE_NAME, 10);
+        assertThat(keyGenerator.generateKey().longValue(), is(11L));
+        verify(connection).rollback();
+        verify(connection).commit();
+    }
+    
+    private long getMaxId(final String keyName) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format("SELECT max_id FROM sharding_key_segment WHERE key_name = '%s'", keyName))) {
+            assertTrue(resultSet.next());
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.keygen.fixture;
+
+import io.shardingsphere.core.keygen.DefaultKeyGenerator;
+import io.shardingsphere.core.keygen.TimeService;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public final class BackwardsTimeService extends TimeService {
+    
+    private final long backwardsMilliseconds;
+    
+    private boolean invoked;
+    
+    @Override
+    public long getCurrentMillis() {
+        if (invoked) {
+            return DefaultKeyGenerator.EPOCH + 100L - backwardsMilliseconds;
+        }
+        invoked = true;
+        return DefaultKeyGenerator.EPOCH + 100L;
+    }
+}
@@ -30,12 +30,16 @@ import io.shardingsphere.core.merger.dql.common.StreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByRowComparatorTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResultTest;
+import io.shardingsphere.core.merger.dql.groupby.GroupByTopNMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByValueTest;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AllAggregationTests;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillFileTest;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.CompareUtilTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResultTest;
+import io.shardingsphere.core.merger.dql.orderby.OrderByValueLoserTreeTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByValueTest;
+import io.shardingsphere.core.merger.dql.pagination.DeepPaginationEngineTest;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.TopAndRowNumberDecoratorMergedResultTest;
@@ -51,14 +55,18 @@ import org.junit.runners.Suite;
         MemoryQueryResultRowTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        OrderByValueLoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
         GroupByRowComparatorTest.class, 
         GroupByStreamMergedResultTest.class, 
         GroupByMemoryMergedResultTest.class, 
+        SpillFileTest.class, 
+        GroupByTopNMergedResultTest.class, 
         AllAggregationTests.class, 
         LimitDecoratorMergedResultTest.class,
+        DeepPaginationEngineTest.class,
         RowNumberDecoratorMergedResultTest.class,
         TopAndRowNumberDecoratorMergedResultTest.class,
         DALMergeEngineTest.class,
@@ -25,6 +25,7 @@ import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResult;
+import io.shardingsphere.core.merger.dql.groupby.GroupByTopNMergedResult;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResult;
@@ -33,6 +34,7 @@ import io.shardingsphere.core.merger.dql.pagination.TopAndRowNumberDecoratorMerg
 import io.shardingsphere.core.merger.fixture.TestQueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
@@ -197,6 +199,20 @@ public final class DQLMergeEngineTest {
         assertThat(((LimitDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
     
+    @Test
+    public void assertBuildGroupByTopNMergedResultWithMySQLLimit() throws SQLException {
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setRowCount(new LimitValue(10, -1, false));
+        selectStatement.getGroupByItems().add(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem(2, OrderDirection.DESC, OrderDirection.ASC));
+        selectStatement.setOrderByBeginPosition(1);
+        selectStatement.setOrderByLastPosition(2);
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(LimitDecoratorMergedResult.class));
+        assertThat(((LimitDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByTopNMergedResult.class));
+    }
+    
     @Test
     public void assertBuildGroupByMemoryMergedResultWithOracleLimit() throws SQLException {
         selectStatement.setLimit(new Limit(DatabaseType.Oracle));
@@ -30,18 +30,25 @@ import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelec
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.io.File;
+import java.io.FilenameFilter;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -129,4 +136,105 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextForSpilledGroups() throws SQLException {
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, 2);
+        mockRows(resultSets.get(0), new Object[] {1, 10, 1, 1, 10}, new Object[] {2, 10, 2, 2, 20}, new Object[] {3, 10, 3, 3, 30});
+        mockRows(resultSets.get(1), new Object[] {1, 20, 3, 1, 20}, new Object[] {1, 20, 4, 1, 20});
+        mockRows(resultSets.get(2), new Object[] {2, 15, 1, 2, 30}, new Object[] {1, 40, 5, 1, 40});
+        MergedResult actual = mergeEngine.merge();
+        assertRow(actual, 5, 1, 40);
+        assertRow(actual, 4, 1, 20);
+        assertRow(actual, 3, 4, 50);
+        assertRow(actual, 2, 2, 20);
+        assertRow(actual, 1, 3, 40);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseForSpilledGroupsWithoutReadingAll() throws SQLException {
+        int spillFileCount = countSpillFiles();
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, 2);
+        mockRows(resultSets.get(0), new Object[] {1, 10, 1, 1, 10}, new Object[] {2, 10, 2, 2, 20}, new Object[] {3, 10, 3, 3, 30});
+        mockRows(resultSets.get(1), new Object[] {1, 20, 3, 1, 20}, new Object[] {1, 20, 4, 1, 20});
+        mockRows(resultSets.get(2), new Object[] {2, 15, 1, 2, 30}, new Object[] {1, 40, 5, 1, 40});
+        MergedResult actual = mergeEngine.merge();
+        assertRow(actual, 5, 1, 40);
+        assertTrue(countSpillFiles() > spillFileCount);
+        actual.close();
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    @Test
+    public void assertNextForParallelMerge() throws SQLException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            mergeEngine = new DQLMergeEngine(queryResults, selectStatement, 0, executorService);
+            mockRows(resultSets.get(0), new Object[] {1, 10, 1, 1, 10}, new Object[] {2, 10, 2, 2, 20}, new Object[] {1, 30, 1, 1, 30});
+            mockRows(resultSets.get(1), new Object[] {1, 20, 3, 1, 20}, new Object[] {1, 20, 2, 1, 20});
+            mockRows(resultSets.get(2), new Object[] {2, 15, 1, 2, 30}, new Object[] {1, 40, 3, 1, 40});
+            MergedResult actual = mergeEngine.merge();
+            assertRow(actual, 3, 2, 60);
+            assertRow(actual, 2, 3, 40);
+            assertRow(actual, 1, 4, 70);
+            assertFalse(actual.next());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertNextForParallelMergeWithDuplicateGroupRowsInOneShard() throws SQLException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            mergeEngine = new DQLMergeEngine(queryResults, selectStatement, 0, executorService);
+            mockRows(resultSets.get(0), new Object[] {1, 10, 1, 1, 10}, new Object[] {2, 15, 1, 2, 30}, new Object[] {3, 20, 1, 3, 60});
+            mockRows(resultSets.get(1), new Object[] {1, 40, 1, 1, 40}, new Object[] {1, 50, 1, 1, 50});
+            mockRows(resultSets.get(2));
+            MergedResult actual = mergeEngine.merge();
+            assertRow(actual, 1, 8, 190);
+            assertFalse(actual.next());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private void mockRows(final ResultSet resultSet, final Object[]... rows) throws SQLException {
+        final int[] cursor = {-1};
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < rows.length;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor[0]][(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count, final int sum) throws SQLException {
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).compareTo(new BigDecimal(sum).divide(new BigDecimal(count), 4, BigDecimal.ROUND_HALF_UP)), is(0));
+        assertThat((Integer) actual.getValue(3, Object.class), is(id));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(count)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(sum)));
+    }
+    
+    private int countSpillFiles() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-spill-");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
 }
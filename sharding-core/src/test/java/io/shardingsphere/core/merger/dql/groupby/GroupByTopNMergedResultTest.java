@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.DQLMergeEngine;
+import io.shardingsphere.core.merger.fixture.TestQueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByTopNMergedResultTest {
+    
+    private List<ResultSet> resultSets;
+    
+    private List<QueryResult> queryResults;
+    
+    private SelectStatement selectStatement;
+    
+    @Before
+    public void setUp() throws SQLException {
+        resultSets = Lists.newArrayList(mockResultSet(), mockResultSet(), mockResultSet());
+        queryResults = new ArrayList<>(resultSets.size());
+        for (ResultSet each : resultSets) {
+            queryResults.add(new TestQueryResult(each));
+        }
+        selectStatement = new SelectStatement();
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent());
+        aggregationSelectItem.setIndex(1);
+        selectStatement.getItems().add(aggregationSelectItem);
+        selectStatement.getGroupByItems().add(new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC));
+        selectStatement.setOrderByBeginPosition(1);
+        selectStatement.setOrderByLastPosition(2);
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setOffset(new LimitValue(1, -1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(2, -1, false));
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("id");
+        return result;
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        mockRows(resultSets.get(0));
+        mockRows(resultSets.get(1));
+        mockRows(resultSets.get(2));
+        MergedResult actual = new DQLMergeEngine(queryResults, selectStatement).merge();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForTopN() throws SQLException {
+        mockRows(resultSets.get(0), new Object[] {5, 1}, new Object[] {1, 2}, new Object[] {6, 4});
+        mockRows(resultSets.get(1), new Object[] {2, 1}, new Object[] {3, 3});
+        mockRows(resultSets.get(2), new Object[] {4, 2}, new Object[] {1, 5});
+        assertTrue(selectStatement.isTopNAfterStreamGroupBy());
+        MergedResult actual = new GroupByTopNMergedResult(createLabelAndIndexMap(), queryResults, selectStatement);
+        assertRow(actual, 1, 7);
+        assertRow(actual, 4, 6);
+        assertRow(actual, 2, 5);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForTopNWithLimit() throws SQLException {
+        mockRows(resultSets.get(0), new Object[] {5, 1}, new Object[] {1, 2}, new Object[] {6, 4});
+        mockRows(resultSets.get(1), new Object[] {2, 1}, new Object[] {3, 3});
+        mockRows(resultSets.get(2), new Object[] {4, 2}, new Object[] {1, 5});
+        MergedResult actual = new DQLMergeEngine(queryResults, selectStatement).merge();
+        assertRow(actual, 4, 6);
+        assertRow(actual, 2, 5);
+        assertFalse(actual.next());
+    }
+    
+    private Map<String, Integer> createLabelAndIndexMap() {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        result.put("COUNT(*)", 1);
+        result.put("id", 2);
+        return result;
+    }
+    
+    private void mockRows(final ResultSet resultSet, final Object[]... rows) throws SQLException {
+        final int[] cursor = {-1};
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < rows.length;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor[0]][(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count) throws SQLException {
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat((Integer) actual.getValue(2, Object.class), is(id));
+    }
+}
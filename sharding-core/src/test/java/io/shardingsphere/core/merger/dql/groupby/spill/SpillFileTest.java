@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertReadAppendedRows() throws SQLException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        UUID uuid = UUID.randomUUID();
+        Object[] values = {null, 1, 2L, (short) 3, (byte) 4, 5.5F, 6.6D, true, new BigDecimal("-7.70"), new BigInteger("8"), "test", 
+            new Date(9L), new Time(10L), timestamp, new java.util.Date(11L), uuid};
+        QueryResult queryResult = mockQueryResult(values);
+        SpillFile spillFile = new SpillFile(queryResult);
+        spillFile.append(queryResult);
+        spillFile.append(new MemoryQueryResultRow(queryResult));
+        assertThat(spillFile.getRowCount(), is(2L));
+        QueryResult actual = spillFile.read();
+        assertThat(actual.getColumnCount(), is(values.length));
+        assertThat(actual.getColumnLabel(2), is("column_2"));
+        for (int row = 0; row < 2; row++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), nullValue());
+            for (int i = 2; i <= values.length; i++) {
+                assertThat(actual.getValue(i, Object.class), is(values[i - 1]));
+            }
+            assertThat(actual.getValue("COLUMN_11", Object.class), is((Object) "test"));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertReadBytes() throws SQLException {
+        QueryResult queryResult = mockQueryResult(new Object[] {new byte[] {1, 2, 3}});
+        SpillFile spillFile = new SpillFile(queryResult);
+        spillFile.append(queryResult);
+        QueryResult actual = spillFile.read();
+        assertTrue(actual.next());
+        assertThat((byte[]) actual.getValue(1, Object.class), is(new byte[] {1, 2, 3}));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertDeleteWithoutReading() throws SQLException {
+        int spillFileCount = countSpillFiles();
+        QueryResult queryResult = mockQueryResult(new Object[] {1});
+        SpillFile spillFile = new SpillFile(queryResult);
+        spillFile.append(queryResult);
+        assertThat(countSpillFiles(), is(spillFileCount + 1));
+        spillFile.delete();
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    @Test
+    public void assertDeleteAfterPartiallyRead() throws SQLException {
+        int spillFileCount = countSpillFiles();
+        QueryResult queryResult = mockQueryResult(new Object[] {1});
+        SpillFile spillFile = new SpillFile(queryResult);
+        spillFile.append(queryResult);
+        spillFile.append(queryResult);
+        assertTrue(spillFile.read().next());
+        spillFile.delete();
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    private QueryResult mockQueryResult(final Object[] values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(values.length);
+        for (int i = 1; i <= values.length; i++) {
+            when(result.getColumnLabel(i)).thenReturn("column_" + i);
+            when(result.getValue(i, Object.class)).thenReturn(values[i - 1]);
+        }
+        return result;
+    }
+    
+    private int countSpillFiles() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-spill-");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    private final List<OrderItem> orderByItems = Collections.singletonList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNextForMultipleOrderByValues() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(5);
+        orderByValues.add(createOrderByValue(3, 7));
+        orderByValues.add(createOrderByValue(1, 4, 9));
+        orderByValues.add(createOrderByValue(2));
+        orderByValues.add(createOrderByValue(5, 6, 8));
+        orderByValues.add(createOrderByValue(4));
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        List<Object> actualValues = new ArrayList<>(10);
+        while (!actual.isEmpty()) {
+            actualValues.add(actual.peek().getQueryResult().getValue(1, Integer.class));
+            actual.next();
+        }
+        assertThat(actualValues, is(Arrays.<Object>asList(1, 2, 3, 4, 4, 5, 6, 7, 8, 9)));
+    }
+    
+    @Test
+    public void assertNextForSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(1, 2)));
+        assertFalse(actual.isEmpty());
+        assertThat(actual.peek().getQueryResult().getValue(1, Integer.class), is((Object) 1));
+        actual.next();
+        assertThat(actual.peek().getQueryResult().getValue(1, Integer.class), is((Object) 2));
+        actual.next();
+        assertTrue(actual.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final Integer... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        Boolean[] hasNext = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            hasNext[i] = i < values.length - 1;
+        }
+        when(queryResult.next()).thenReturn(true, hasNext);
+        Object[] restValues = new Object[values.length - 1];
+        System.arraycopy(values, 1, restValues, 0, restValues.length);
+        when(queryResult.getValue(1, Object.class)).thenReturn(values[0], restValues);
+        when(queryResult.getValue(1, Integer.class)).thenReturn(values[0], restValues);
+        OrderByValue result = new OrderByValue(queryResult, orderByItems);
+        assertTrue(result.next());
+        return result;
+    }
+}
@@ -97,4 +97,18 @@ public final class OrderByValueTest {
         assertFalse(orderByValue1.getQueryResult().next());
         assertFalse(orderByValue2.getQueryResult().next());
     }
+    
+    @Test
+    public void assertCompareToForDifferentIntegralTypes() throws SQLException {
+        when(resultSet1.getObject(1)).thenReturn(10);
+        OrderByValue orderByValue1 = new OrderByValue(
+                new TestQueryResult(resultSet1), Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC), new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(orderByValue1.next());
+        when(resultSet2.getObject(1)).thenReturn(9L);
+        when(resultSet2.getObject(2)).thenReturn("1");
+        OrderByValue orderByValue2 = new OrderByValue(
+                new TestQueryResult(resultSet2), Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC), new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+    }
 }
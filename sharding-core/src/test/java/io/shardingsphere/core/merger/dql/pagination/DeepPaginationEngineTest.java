@@ -0,0 +1,245 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.pagination;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.fixture.TestQueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import io.shardingsphere.core.parsing.parser.context.selectitem.CommonSelectItem;
+import io.shardingsphere.core.parsing.parser.context.selectitem.StarSelectItem;
+import io.shardingsphere.core.parsing.parser.context.table.Table;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DeepPaginationEngineTest {
+    
+    private SelectStatement selectStatement;
+    
+    @Before
+    public void setUp() {
+        selectStatement = new SelectStatement();
+        selectStatement.getOrderByItems().add(new OrderItem("id", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
+        Limit limit = new Limit(DatabaseType.MySQL);
+        limit.setOffset(new LimitValue(4, -1, true));
+        limit.setRowCount(new LimitValue(3, -1, false));
+        selectStatement.setLimit(limit);
+    }
+    
+    @Test
+    public void assertIsDeepPagination() {
+        assertTrue(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 4));
+    }
+    
+    @Test
+    public void assertIsNotDeepPaginationWithoutThreshold() {
+        assertFalse(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 0));
+    }
+    
+    @Test
+    public void assertIsNotDeepPaginationForOffsetLessThanThreshold() {
+        assertFalse(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 5));
+    }
+    
+    @Test
+    public void assertIsNotDeepPaginationForSingleExecutionUnit() {
+        assertFalse(DeepPaginationEngine.isDeepPagination(selectStatement, 1, 4));
+    }
+    
+    @Test
+    public void assertIsNotDeepPaginationForGroupBy() {
+        selectStatement.getGroupByItems().add(new OrderItem("id", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
+        assertFalse(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 4));
+    }
+    
+    @Test
+    public void assertIsDeepPaginationForJoinWithUniqueColumnLabels() {
+        addJoinTables();
+        selectStatement.getItems().add(new CommonSelectItem("o.id", Optional.<String>absent()));
+        selectStatement.getItems().add(new CommonSelectItem("i.id", Optional.of("item_id")));
+        assertTrue(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 4));
+    }
+    
+    @Test
+    public void assertIsNotDeepPaginationForJoinWithDuplicatedColumnLabels() {
+        addJoinTables();
+        selectStatement.getItems().add(new CommonSelectItem("o.id", Optional.<String>absent()));
+        selectStatement.getItems().add(new CommonSelectItem("i.`ID`", Optional.<String>absent()));
+        assertFalse(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 4));
+    }
+    
+    @Test
+    public void assertIsNotDeepPaginationForJoinWithUnqualifiedStar() {
+        addJoinTables();
+        selectStatement.getItems().add(new StarSelectItem(Optional.<String>absent()));
+        assertFalse(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 4));
+    }
+    
+    @Test
+    public void assertIsDeepPaginationForJoinWithQualifiedStar() {
+        addJoinTables();
+        selectStatement.getItems().add(new StarSelectItem(Optional.of("o")));
+        assertTrue(DeepPaginationEngine.isDeepPagination(selectStatement, 2, 4));
+    }
+    
+    private void addJoinTables() {
+        selectStatement.getTables().add(new Table("t_order", Optional.of("o")));
+        selectStatement.getTables().add(new Table("t_order_item", Optional.of("i")));
+    }
+    
+    @Test
+    public void assertCreateSortKeyExecutionUnits() {
+        Collection<SQLExecutionUnit> actual = new DeepPaginationEngine(selectStatement).createSortKeyExecutionUnits(Collections.singleton(createExecutionUnit()));
+        assertThat(actual.size(), is(1));
+        SQLExecutionUnit actualExecutionUnit = actual.iterator().next();
+        assertThat(actualExecutionUnit.getDataSource(), is("ds_0"));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), 
+                is("SELECT sharding_page.id FROM (SELECT * FROM t_order_0 ORDER BY id ASC LIMIT ?, ?) sharding_page ORDER BY sharding_page.id ASC"));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameterSets().get(0), is(Arrays.<Object>asList(0, 7)));
+    }
+    
+    @Test
+    public void assertCreateRangeExecutionUnits() {
+        Collection<SQLExecutionUnit> actual = new DeepPaginationEngine(selectStatement).createRangeExecutionUnits(
+                Collections.singleton(createExecutionUnit()), new DeepPaginationRange(5, 6, 1));
+        assertThat(actual.size(), is(1));
+        SQLExecutionUnit actualExecutionUnit = actual.iterator().next();
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), 
+                is("SELECT * FROM (SELECT * FROM t_order_0 ORDER BY id ASC LIMIT ?, ?) sharding_page WHERE sharding_page.id BETWEEN ? AND ? ORDER BY sharding_page.id ASC"));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameterSets().get(0), is(Arrays.<Object>asList(0, 7, 5, 6)));
+    }
+    
+    private SQLExecutionUnit createExecutionUnit() {
+        return new SQLExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_0 ORDER BY id ASC LIMIT ?, ?", Collections.singletonList(Arrays.<Object>asList(0, 7))));
+    }
+    
+    @Test
+    public void assertLocate() throws SQLException {
+        Optional<DeepPaginationRange> actual = new DeepPaginationEngine(selectStatement).locate(Arrays.asList(mockQueryResult(1, 3, 5, 5, 7, 9), mockQueryResult(2, 5, 6, 8)));
+        assertTrue(actual.isPresent());
+        assertThat((Integer) actual.get().getBeginSortKey(), is(5));
+        assertThat((Integer) actual.get().getEndSortKey(), is(6));
+        assertThat(actual.get().getSkipCount(), is(1));
+    }
+    
+    @Test
+    public void assertLocateForDescending() throws SQLException {
+        selectStatement.getOrderByItems().clear();
+        selectStatement.getOrderByItems().add(new OrderItem("id", OrderDirection.DESC, OrderDirection.ASC, Optional.<String>absent()));
+        Optional<DeepPaginationRange> actual = new DeepPaginationEngine(selectStatement).locate(Arrays.asList(mockQueryResult(9, 7, 5, 3, 1), mockQueryResult(8, 6, 5, 2)));
+        assertTrue(actual.isPresent());
+        assertThat((Integer) actual.get().getBeginSortKey(), is(5));
+        assertThat((Integer) actual.get().getEndSortKey(), is(3));
+        assertThat(actual.get().getSkipCount(), is(0));
+    }
+    
+    @Test
+    public void assertLocateForOutOfRange() throws SQLException {
+        assertFalse(new DeepPaginationEngine(selectStatement).locate(Arrays.asList(mockQueryResult(1, 3), mockQueryResult(2))).isPresent());
+    }
+    
+    @Test
+    public void assertLocateWithoutReadingSortKeysAfterPage() throws SQLException {
+        ResultSet oddResultSet = mockResultSet(createSortKeys(1, 1000));
+        ResultSet evenResultSet = mockResultSet(createSortKeys(2, 1000));
+        Optional<DeepPaginationRange> actual = new DeepPaginationEngine(selectStatement).locate(
+                Arrays.<QueryResult>asList(new TestQueryResult(oddResultSet), new TestQueryResult(evenResultSet)));
+        assertTrue(actual.isPresent());
+        assertThat((Integer) actual.get().getBeginSortKey(), is(5));
+        assertThat((Integer) actual.get().getEndSortKey(), is(7));
+        assertThat(actual.get().getSkipCount(), is(0));
+        verify(oddResultSet, times(4)).next();
+        verify(evenResultSet, times(4)).next();
+    }
+    
+    @Test
+    public void assertMerge() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mockQueryResult(5, 5), mockQueryResult(5, 6));
+        MergedResult actual = new DeepPaginationMergeEngine(queryResults, selectStatement, new DeepPaginationRange(5, 6, 1)).merge();
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(1, Object.class), is(5));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(1, Object.class), is(5));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(1, Object.class), is(6));
+        assertFalse(actual.next());
+    }
+    
+    private Integer[] createSortKeys(final int firstSortKey, final int count) {
+        Integer[] result = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = firstSortKey + i * 2;
+        }
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final Integer... sortKeys) throws SQLException {
+        return new TestQueryResult(mockResultSet(sortKeys));
+    }
+    
+    private ResultSet mockResultSet(final Integer... sortKeys) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("id");
+        final int[] cursor = {-1};
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < sortKeys.length;
+            }
+        });
+        when(resultSet.getObject(1)).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return sortKeys[cursor[0]];
+            }
+        });
+        return resultSet;
+    }
+}
@@ -17,6 +17,8 @@
 
 package io.shardingsphere.core.parsing;
 
+import io.shardingsphere.core.parsing.cache.ParsingResultCacheTest;
+import io.shardingsphere.core.parsing.cache.SQLFingerprintEngineTest;
 import io.shardingsphere.core.parsing.integrate.AllParsingIntegrateTests;
 import io.shardingsphere.core.parsing.lexer.AllLexerTests;
 import io.shardingsphere.core.parsing.parser.context.OrderItemTest;
@@ -32,7 +34,9 @@ import org.junit.runners.Suite;
         AllSQLTests.class, 
         SQLJudgeEngineTest.class, 
         OrderItemTest.class, 
-        AllParsingIntegrateTests.class
+        AllParsingIntegrateTests.class, 
+        ParsingResultCacheTest.class, 
+        SQLFingerprintEngineTest.class
     })
 public class AllParsingTests {
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        SQLStatement sqlStatement = new DQLStatement();
+        parsingResultCache.put("SELECT 1", sqlStatement);
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), is(sqlStatement));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 2"));
+        assertThat(parsingResultCache.getStatistics().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStatistics().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictByMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1L, 0L);
+        parsingResultCache.put("SELECT 1", new DQLStatement());
+        parsingResultCache.put("SELECT 2", new DQLStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+        assertThat(parsingResultCache.getStatistics().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictByMaximumSQLLength() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(100L, 10L);
+        parsingResultCache.put("SELECT 1", new DQLStatement());
+        parsingResultCache.put("SELECT 2", new DQLStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        parsingResultCache.put("SELECT 1", new DQLStatement());
+        parsingResultCache.clear();
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+    }
+}
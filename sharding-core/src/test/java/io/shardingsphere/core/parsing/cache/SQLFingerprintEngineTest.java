@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFingerprintEngineTest {
+    
+    @Test
+    public void assertExtractForSelect() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine(DatabaseType.MySQL, 
+                "SELECT COUNT(1) FROM t_order o WHERE o.user_id = 10 AND o.status IN ('init', 'paid') AND o.order_id BETWEEN 1 AND 100 ORDER BY 1 LIMIT 5, 10").extract();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("SELECT COUNT(1) FROM t_order o WHERE o.user_id = ? AND o.status IN (?, ?) AND o.order_id BETWEEN ? AND ? ORDER BY 1 LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init", "paid", 1, 100, 5, 10)));
+    }
+    
+    @Test
+    public void assertExtractForInsert() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine(DatabaseType.MySQL, 
+                "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init'), (2, 1 + 1, 'init') ON DUPLICATE KEY UPDATE status = 'paid'").extract();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, 1 + 1, ?) ON DUPLICATE KEY UPDATE status = 'paid'"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 10, "init", 2, "init")));
+    }
+    
+    @Test
+    public void assertExtractForUpdate() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine(DatabaseType.MySQL, "UPDATE t_order SET status = 'paid' WHERE order_id = 1.5").extract();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("UPDATE t_order SET status = 'paid' WHERE order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(1.5D)));
+    }
+    
+    @Test
+    public void assertExtractWithQuoteInCharsLiteral() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE status = 'it''s' AND remark = 'a\\b'").extract();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("SELECT * FROM t_order WHERE status = ? AND remark = 'a\\b'"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList("it's")));
+    }
+    
+    @Test
+    public void assertExtractWithSubQuery() {
+        assertFalse(new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id IN (SELECT user_id FROM t_user WHERE age = 10)").extract().isPresent());
+    }
+    
+    @Test
+    public void assertExtractWithPlaceholder() {
+        assertFalse(new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = ?").extract().isPresent());
+    }
+    
+    @Test
+    public void assertExtractWithPlaceholderInComment() {
+        assertFalse(new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order /* why? */ WHERE user_id = 1").extract().isPresent());
+    }
+    
+    @Test
+    public void assertExtractForDDL() {
+        assertFalse(new SQLFingerprintEngine(DatabaseType.MySQL, "CREATE TABLE t_order (order_id INT)").extract().isPresent());
+    }
+    
+    @Test
+    public void assertFillParameters() {
+        SQLFingerprint sqlFingerprint = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = 10 AND status = 'it''s' AND price = 1.50 LIMIT 5, 10").extract().get();
+        assertThat(sqlFingerprint.getTemplateSQL(), is("SELECT * FROM t_order WHERE user_id = ? AND status = ? AND price = ? LIMIT ?, ?"));
+        List<Object> actualParameters = new ArrayList<>(sqlFingerprint.getParameters());
+        actualParameters.set(3, 0);
+        actualParameters.set(4, 15);
+        assertThat(sqlFingerprint.fillParameters("SELECT * FROM t_order_0 WHERE user_id = ? AND status = ? AND price = ? LIMIT ?, ?", actualParameters).get(), 
+                is("SELECT * FROM t_order_0 WHERE user_id = 10 AND status = 'it''s' AND price = 1.50 LIMIT 0, 15"));
+    }
+    
+    @Test
+    public void assertFillParametersWithRewrittenQuotedParameter() {
+        SQLFingerprint sqlFingerprint = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE status = 'it''s'").extract().get();
+        assertThat(sqlFingerprint.fillParameters("SELECT * FROM t_order_0 WHERE status = ?", Collections.<Object>singletonList("o'clock")).get(), 
+                is("SELECT * FROM t_order_0 WHERE status = 'o''clock'"));
+    }
+    
+    @Test
+    public void assertFillParametersWithSameValues() {
+        SQLFingerprint sqlFingerprint = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = 01 AND order_id = 1").extract().get();
+        assertThat(sqlFingerprint.fillParameters("SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ?", sqlFingerprint.getParameters()).get(), 
+                is("SELECT * FROM t_order_1 WHERE user_id = 01 AND order_id = 1"));
+    }
+    
+    @Test
+    public void assertFillParametersWithSkippedParameters() {
+        SQLFingerprint sqlFingerprint = new SQLFingerprintEngine(DatabaseType.MySQL, "INSERT INTO t_order (user_id, order_id) VALUES (1, 1), (2, 1)").extract().get();
+        assertThat(sqlFingerprint.fillParameters("INSERT INTO t_order_1 (user_id, order_id) VALUES (?, ?)", sqlFingerprint.getParameters().subList(2, 4)).get(), 
+                is("INSERT INTO t_order_1 (user_id, order_id) VALUES (2, 1)"));
+    }
+    
+    @Test
+    public void assertFillParametersWithMismatchedParameters() {
+        SQLFingerprint sqlFingerprint = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = 10").extract().get();
+        assertFalse(sqlFingerprint.fillParameters("SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ?", sqlFingerprint.getParameters()).isPresent());
+    }
+}
@@ -86,6 +86,19 @@ public final class SQLBuilderTest {
         assertThat(sqlBuilder.toSQL(null, tableTokens, null, null).getSql(), is("SELECT table_x_1.id FROM table_x_1"));
     }
     
+    @Test
+    public void assertAppendTableWithTableTokensForMultipleTableUnits() {
+        SQLBuilder sqlBuilder = new SQLBuilder();
+        sqlBuilder.appendLiterals("SELECT ");
+        sqlBuilder.appendPlaceholder(new TablePlaceholder("table_x", "table_x"));
+        sqlBuilder.appendLiterals(".id FROM ");
+        sqlBuilder.appendPlaceholder(new TablePlaceholder("table_x", "table_x"));
+        assertThat(sqlBuilder.toSQL(null, Collections.singletonMap("table_x", "table_x_0"), null, null).getSql(), is("SELECT table_x_0.id FROM table_x_0"));
+        assertThat(sqlBuilder.toSQL(null, Collections.singletonMap("table_x", "table_x_1"), null, null).getSql(), is("SELECT table_x_1.id FROM table_x_1"));
+        sqlBuilder.appendLiterals(" WHERE id = 1");
+        assertThat(sqlBuilder.toSQL(null, Collections.singletonMap("table_x", "table_x_2"), null, null).getSql(), is("SELECT table_x_2.id FROM table_x_2 WHERE id = 1"));
+    }
+    
     @Test
     public void assertIndexPlaceholderAppendTableWithoutTableToken() {
         SQLBuilder sqlBuilder = new SQLBuilder();
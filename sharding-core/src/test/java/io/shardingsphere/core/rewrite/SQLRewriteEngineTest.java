@@ -325,6 +325,47 @@ public final class SQLRewriteEngineTest {
         assertThat(rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), is("SELECT x.id FROM table_1 x LIMIT 0, 2147483647"));
     }
     
+    @Test
+    public void assertRewriteForLimitForTopNAfterStreamGroupBy() {
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setOffset(new LimitValue(2, -1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(2, -1, false));
+        selectStatement.setOrderByBeginPosition(58);
+        selectStatement.setOrderByLastPosition(74);
+        selectStatement.getOrderByItems().add(new OrderItem("s", OrderDirection.DESC, OrderDirection.ASC, Optional.of("s")));
+        selectStatement.getGroupByItems().add(new OrderItem("x", "id", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
+        selectStatement.getSqlTokens().add(new TableToken(34, 0, "table_x"));
+        selectStatement.getSqlTokens().add(new OffsetToken(80, 2));
+        selectStatement.getSqlTokens().add(new RowCountToken(83, 2));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, 
+                "SELECT x.id, SUM(x.num) AS s FROM table_x x GROUP BY x.id ORDER BY s DESC LIMIT 2, 2", DatabaseType.MySQL, selectStatement, null, Collections.emptyList());
+        assertThat(rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), 
+                is("SELECT x.id, SUM(x.num) AS s FROM table_1 x GROUP BY x.id  ORDER BY id ASC LIMIT 0, 2147483647"));
+    }
+    
+    @Test
+    public void assertRewriteForLimitForTopNAfterStreamGroupByWithQualifiedOrderByItems() {
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setOffset(new LimitValue(2, -1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(2, -1, false));
+        selectStatement.setOrderByBeginPosition(74);
+        selectStatement.setOrderByLastPosition(107);
+        selectStatement.getOrderByItems().add(new OrderItem("table_x", "num", OrderDirection.DESC, OrderDirection.ASC, Optional.<String>absent()));
+        selectStatement.getOrderByItems().add(new OrderItem("s", OrderDirection.ASC, OrderDirection.ASC, Optional.of("s")));
+        selectStatement.getGroupByItems().add(new OrderItem("table_x", "id", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
+        selectStatement.getSqlTokens().add(new TableToken(7, 0, "table_x"));
+        selectStatement.getSqlTokens().add(new TableToken(23, 0, "table_x"));
+        selectStatement.getSqlTokens().add(new TableToken(46, 0, "table_x"));
+        selectStatement.getSqlTokens().add(new TableToken(63, 0, "table_x"));
+        selectStatement.getSqlTokens().add(new TableToken(83, 0, "table_x"));
+        selectStatement.getSqlTokens().add(new OffsetToken(113, 2));
+        selectStatement.getSqlTokens().add(new RowCountToken(116, 2));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT table_x.id, SUM(table_x.num) AS s FROM table_x GROUP BY table_x.id ORDER BY table_x.num DESC, s ASC LIMIT 2, 2", 
+                DatabaseType.MySQL, selectStatement, null, Collections.emptyList());
+        assertThat(rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), 
+                is("SELECT table_1.id, SUM(table_1.num) AS s FROM table_1 GROUP BY table_1.id  ORDER BY id ASC LIMIT 0, 2147483647"));
+    }
+    
     @Test
     public void assertRewriteForRowNumForMemoryGroupBy() {
         selectStatement.setLimit(new Limit(DatabaseType.Oracle));
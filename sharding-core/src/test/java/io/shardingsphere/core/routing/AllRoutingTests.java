@@ -17,14 +17,21 @@
 
 package io.shardingsphere.core.routing;
 
+import io.shardingsphere.core.routing.cache.RouteResultCacheTest;
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import io.shardingsphere.core.routing.router.masterslave.SlaveLagMonitorTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         DatabaseTest.class,
-        DatabaseHintSQLRouterTest.class
+        StatementRoutingEngineTest.class,
+        BatchInsertRoutingEngineTest.class,
+        BatchRoutingEngineTest.class,
+        DatabaseHintSQLRouterTest.class, 
+        RouteResultCacheTest.class, 
+        SlaveLagMonitorTest.class
 })
 public class AllRoutingTests {
 }
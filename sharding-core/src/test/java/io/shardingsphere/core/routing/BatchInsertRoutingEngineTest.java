@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.parser.context.insertvalue.InsertValue;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.InsertValuesToken;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BatchInsertRoutingEngineTest {
+    
+    @Test
+    public void assertIsRewritable() {
+        assertTrue(BatchInsertRoutingEngine.isRewritable(createInsertStatement(1, 2), DatabaseType.MySQL));
+    }
+    
+    @Test
+    public void assertIsNotRewritableForOracle() {
+        assertFalse(BatchInsertRoutingEngine.isRewritable(createInsertStatement(1, 2), DatabaseType.Oracle));
+    }
+    
+    @Test
+    public void assertIsNotRewritableForSQLServer() {
+        assertFalse(BatchInsertRoutingEngine.isRewritable(createInsertStatement(1, 2), DatabaseType.SQLServer));
+    }
+    
+    @Test
+    public void assertIsNotRewritableForMultipleRows() {
+        assertFalse(BatchInsertRoutingEngine.isRewritable(createInsertStatement(2, 4), DatabaseType.MySQL));
+    }
+    
+    @Test
+    public void assertIsNotRewritableForParametersOutOfValues() {
+        assertFalse(BatchInsertRoutingEngine.isRewritable(createInsertStatement(1, 3), DatabaseType.MySQL));
+    }
+    
+    @Test
+    public void assertIsNotRewritableForSelect() {
+        assertFalse(BatchInsertRoutingEngine.isRewritable(new SelectStatement(), DatabaseType.MySQL));
+    }
+    
+    @Test
+    public void assertPartitionByMaxRows() {
+        List<List<List<Object>>> actual = createBatchInsertRoutingEngine(2, 0).partition(Arrays.asList(createRow(1, "a"), createRow(2, "b"), createRow(3, "c")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.asList(createRow(1, "a"), createRow(2, "b"))));
+        assertThat(actual.get(1), is(Collections.singletonList(createRow(3, "c"))));
+    }
+    
+    @Test
+    public void assertPartitionByMaxBytes() {
+        List<List<List<Object>>> actual = createBatchInsertRoutingEngine(100, 40).partition(Arrays.asList(createRow(1, "aa"), createRow(2, "bbbbbbbbbbbbbbbbbbbb"), createRow(3, "c")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.asList(createRow(1, "aa"), createRow(2, "bbbbbbbbbbbbbbbbbbbb"))));
+        assertThat(actual.get(1), is(Collections.singletonList(createRow(3, "c"))));
+    }
+    
+    @Test
+    public void assertPartitionIntoStandardSizes() {
+        List<List<Object>> rows = new ArrayList<>(13);
+        for (int i = 0; i < 13; i++) {
+            rows.add(createRow(i, "a"));
+        }
+        List<List<List<Object>>> actual = createBatchInsertRoutingEngine(5, 0).partition(rows);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0).size(), is(5));
+        assertThat(actual.get(1).size(), is(5));
+        assertThat(actual.get(2).size(), is(2));
+        assertThat(actual.get(3), is(Collections.singletonList(createRow(12, "a"))));
+    }
+    
+    private InsertStatement createInsertStatement(final int rows, final int parametersCount) {
+        InsertStatement result = new InsertStatement();
+        result.getSqlTokens().add(new InsertValuesToken(40, "t_order"));
+        for (int i = 0; i < rows; i++) {
+            result.getInsertValues().getInsertValues().add(new InsertValue(DefaultKeyword.VALUES, "(?, ?)", 2));
+        }
+        result.setParametersIndex(parametersCount);
+        result.setInsertValuesListLastPosition(46);
+        return result;
+    }
+    
+    private BatchInsertRoutingEngine createBatchInsertRoutingEngine(final int maxRows, final int maxBytes) {
+        return new BatchInsertRoutingEngine("INSERT INTO t_order (order_id, status) VALUES (?, ?)", createInsertStatement(1, 2), maxRows, maxBytes, null, null, null, false, null, null);
+    }
+    
+    private List<Object> createRow(final int orderId, final String status) {
+        return Arrays.<Object>asList(orderId, status);
+    }
+}
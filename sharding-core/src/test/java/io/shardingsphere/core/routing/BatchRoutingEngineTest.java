@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class BatchRoutingEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    @Test
+    public void assertRouteByShardingValues() {
+        BatchParameters batchParameters = new BatchParameters();
+        batchParameters.add(Arrays.<Object>asList("a", 1, 2));
+        batchParameters.add(Arrays.<Object>asList("b", 0, 3));
+        batchParameters.add(Arrays.<Object>asList("c", 1, 2));
+        BatchRouteResult actual = createBatchRoutingEngine("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?").route(batchParameters);
+        assertThat(actual.getExecutionUnits().size(), is(2));
+        Iterator<Entry<SQLExecutionUnit, List<Integer>>> executionUnits = actual.getExecutionUnits().entrySet().iterator();
+        Entry<SQLExecutionUnit, List<Integer>> first = executionUnits.next();
+        assertThat(first.getKey().getDataSource(), is("ds_1"));
+        assertThat(first.getKey().getSqlUnit().getSql(), is("UPDATE t_order_0 SET status = ? WHERE user_id = ? AND order_id = ?"));
+        assertThat(first.getValue(), is(Arrays.asList(0, 2)));
+        assertThat(first.getKey().getSqlUnit().getParameterSets(), is(Arrays.asList(Arrays.<Object>asList("a", 1, 2), Arrays.<Object>asList("c", 1, 2))));
+        Entry<SQLExecutionUnit, List<Integer>> second = executionUnits.next();
+        assertThat(second.getKey().getDataSource(), is("ds_0"));
+        assertThat(second.getKey().getSqlUnit().getSql(), is("UPDATE t_order_1 SET status = ? WHERE user_id = ? AND order_id = ?"));
+        assertThat(second.getValue(), is(Collections.singletonList(1)));
+        assertThat(second.getKey().getSqlUnit().getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList("b", 0, 3))));
+    }
+    
+    @Test
+    public void assertRouteInsertRowByRow() {
+        BatchParameters batchParameters = new BatchParameters();
+        batchParameters.add(Arrays.<Object>asList(1, 2, "a"));
+        batchParameters.add(Arrays.<Object>asList(1, 2, "b"));
+        BatchRouteResult actual = createBatchRoutingEngine("INSERT INTO t_order (user_id, order_id, status) VALUES (?, ?, ?)").route(batchParameters);
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        Entry<SQLExecutionUnit, List<Integer>> executionUnit = actual.getExecutionUnits().entrySet().iterator().next();
+        assertThat(executionUnit.getKey().getDataSource(), is("ds_1"));
+        assertThat(executionUnit.getValue(), is(Arrays.asList(0, 1)));
+        assertThat(executionUnit.getKey().getSqlUnit().getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(1, 2, "a"), Arrays.<Object>asList(1, 2, "b"))));
+    }
+    
+    @Test
+    public void assertAddRowsWithDifferentParametersCount() {
+        BatchParameters actual = new BatchParameters();
+        actual.add(Collections.<Object>singletonList(1));
+        actual.add(Arrays.<Object>asList(2, "b"));
+        assertThat(actual.getRowCount(), is(2));
+        assertThat(actual.getRows(), is(Arrays.asList(Arrays.<Object>asList(1, null), Arrays.<Object>asList(2, "b"))));
+        assertThat(actual.getValues(1, Collections.singletonList(1)), is(Collections.<Object>singletonList("b")));
+        assertThat(actual.getValue(0, 1), is((Object) null));
+    }
+    
+    @Test
+    public void assertGetRowAfterClear() {
+        BatchParameters actual = new BatchParameters();
+        actual.add(Arrays.<Object>asList(1, "a"));
+        List<Object> row = actual.getRow(0);
+        actual.clear();
+        actual.add(Arrays.<Object>asList(2, "b", "c"));
+        assertThat(row, is(Arrays.<Object>asList(1, "a")));
+        assertThat(actual.getRow(0), is(Arrays.<Object>asList(2, "b", "c")));
+    }
+    
+    private BatchRoutingEngine createBatchRoutingEngine(final String sql) {
+        return new BatchRoutingEngine(new PreparedStatementRoutingEngine(
+                sql, shardingRule, new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap()), DatabaseType.MySQL, false, null, new ParsingResultCache(), null));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class StatementRoutingEngineTest {
+    
+    private ParsingResultCache parsingResultCache;
+    
+    private StatementRoutingEngine routingEngine;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        parsingResultCache = new ParsingResultCache();
+        routingEngine = new StatementRoutingEngine(
+                shardingRule, new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap()), DatabaseType.MySQL, false, null, parsingResultCache, null);
+    }
+    
+    @Test
+    public void assertRouteWithOriginalLiterals() {
+        SQLRouteResult actual = routingEngine.route("SELECT * FROM t_order WHERE user_id = 1 AND order_id = 01 AND status = 'it''s'");
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order_1 WHERE user_id = 1 AND order_id = 01 AND status = 'it''s'"));
+    }
+    
+    @Test
+    public void assertRouteLimitOfSameTemplateBySingleAndMultipleRouting() {
+        SQLRouteResult singleRouteResult = routingEngine.route("SELECT * FROM t_order WHERE user_id = 1 AND order_id IN (2, 4) LIMIT 5, 10");
+        assertThat(singleRouteResult.getExecutionUnits().size(), is(1));
+        assertThat(((SelectStatement) singleRouteResult.getSqlStatement()).getLimit(), nullValue());
+        assertThat(singleRouteResult.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order_0 WHERE user_id = 1 AND order_id IN (2, 4) LIMIT 5, 10"));
+        SQLRouteResult multipleRouteResult = routingEngine.route("SELECT * FROM t_order WHERE user_id = 1 AND order_id IN (2, 3) LIMIT 5, 10");
+        assertThat(multipleRouteResult.getExecutionUnits().size(), is(2));
+        SelectStatement actualStatement = (SelectStatement) multipleRouteResult.getSqlStatement();
+        assertThat(actualStatement.getLimit(), not(nullValue()));
+        assertThat(actualStatement.getLimit().getOffsetValue(), is(5));
+        assertThat(actualStatement.getLimit().getRowCountValue(), is(10));
+        Collection<String> actualSQLs = new HashSet<>();
+        for (SQLExecutionUnit each : multipleRouteResult.getExecutionUnits()) {
+            actualSQLs.add(each.getSqlUnit().getSql());
+        }
+        assertThat(actualSQLs, is((Collection<String>) new HashSet<>(Arrays.asList(
+                "SELECT * FROM t_order_0 WHERE user_id = 1 AND order_id IN (2, 3) LIMIT 0, 15", "SELECT * FROM t_order_1 WHERE user_id = 1 AND order_id IN (2, 3) LIMIT 0, 15"))));
+        assertThat(((SelectStatement) parsingResultCache.getSQLStatement("SELECT * FROM t_order WHERE user_id = ? AND order_id IN (?, ?) LIMIT ?, ?")).getLimit(), not(nullValue()));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.router.sharding.ParsingSQLRouter;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RouteResultCacheTest {
+    
+    private RouteResultCache routeResultCache;
+    
+    private ParsingResultCache parsingResultCache;
+    
+    private ParsingSQLRouter parsingSQLRouter;
+    
+    @Before
+    public void setUp() {
+        routeResultCache = new RouteResultCache(16L);
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        parsingResultCache = new ParsingResultCache();
+        parsingSQLRouter = new ParsingSQLRouter(shardingRule, new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap()), 
+                DatabaseType.MySQL, false, null, parsingResultCache, routeResultCache);
+    }
+    
+    @Test
+    public void assertGetRouteResultByStatementIdentity() {
+        SQLStatement sqlStatement = new SelectStatement();
+        CachedRouteResult routeResult = new CachedRouteResult(true, Collections.<SQLExecutionUnit>emptyList());
+        routeResultCache.put(sqlStatement, Collections.<Object>singletonList(1), routeResult);
+        assertTrue(routeResultCache.getRouteResult(sqlStatement, Collections.<Object>singletonList(1)).isPresent());
+        assertThat(routeResultCache.getRouteResult(sqlStatement, Collections.<Object>singletonList(1)).get(), is(routeResult));
+        assertFalse(routeResultCache.getRouteResult(sqlStatement, Collections.<Object>singletonList(2)).isPresent());
+        assertFalse(routeResultCache.getRouteResult(new SelectStatement(), Collections.<Object>singletonList(1)).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithSameShardingValues() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ? AND status = ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, true);
+        SQLRouteResult expected = parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2, "init"), sqlStatement);
+        List<Object> parameters = Arrays.<Object>asList(1, 2, "finish");
+        SQLRouteResult actual = parsingSQLRouter.route(sql, parameters, sqlStatement);
+        assertThat(routeResultCache.getStatistics().hitCount(), is(1L));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        SQLExecutionUnit actualExecutionUnit = actual.getExecutionUnits().iterator().next();
+        SQLExecutionUnit expectedExecutionUnit = expected.getExecutionUnits().iterator().next();
+        assertThat(actualExecutionUnit.getDataSource(), is("ds_1"));
+        assertThat(actualExecutionUnit.getDataSource(), is(expectedExecutionUnit.getDataSource()));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), is(expectedExecutionUnit.getSqlUnit().getSql()));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameterSets().get(0), is(parameters));
+    }
+    
+    @Test
+    public void assertRouteWithDifferentShardingValues() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, true);
+        parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2), sqlStatement);
+        SQLRouteResult actual = parsingSQLRouter.route(sql, Arrays.<Object>asList(2, 3), sqlStatement);
+        assertThat(routeResultCache.getStatistics().hitCount(), is(0L));
+        assertThat(routeResultCache.size(), is(2L));
+        assertThat(actual.getExecutionUnits().iterator().next().getDataSource(), is("ds_0"));
+        assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ?"));
+    }
+    
+    @Test
+    public void assertRouteInsertWithoutCache() {
+        String sql = "INSERT INTO t_order (user_id, order_id) VALUES (?, ?)";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, true);
+        parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2), sqlStatement);
+        parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2), sqlStatement);
+        assertThat(routeResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertRouteWithoutCacheIfStatementIsNotCached() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, false);
+        parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2), sqlStatement);
+        parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2), sqlStatement);
+        assertThat(routeResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertRouteLimitWithSingleRouting() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ? LIMIT ?, ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, true);
+        parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2, 5, 10), sqlStatement);
+        SQLRouteResult actual = parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 2, 5, 10), sqlStatement);
+        assertThat(routeResultCache.getStatistics().hitCount(), is(1L));
+        assertNull(((SelectStatement) actual.getSqlStatement()).getLimit());
+        assertNotNull(((SelectStatement) parsingResultCache.getSQLStatement(sql)).getLimit());
+    }
+    
+    @Test
+    public void assertRouteLimitWithMultipleRouting() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? LIMIT ?, ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, true);
+        parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 5, 10), sqlStatement);
+        List<Object> parameters = Arrays.<Object>asList(1, 20, 10);
+        SQLRouteResult actual = parsingSQLRouter.route(sql, parameters, sqlStatement);
+        assertThat(routeResultCache.getStatistics().hitCount(), is(1L));
+        assertThat(actual.getExecutionUnits().size(), is(2));
+        assertThat(((SelectStatement) actual.getSqlStatement()).getLimit().getOffsetValue(), is(20));
+        assertThat(parameters, is(Arrays.<Object>asList(1, 0, 30)));
+        assertThat(((SelectStatement) sqlStatement).getLimit(), not(sameInstance(((SelectStatement) actual.getSqlStatement()).getLimit())));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SlaveLagMonitorTest {
+    
+    private final MasterSlaveRule masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("ms_ds", "master_ds", Arrays.asList("slave_ds_0", "slave_ds_1"), null));
+    
+    private final DataSource slaveDataSource0 = mock(DataSource.class);
+    
+    private final DataSource slaveDataSource1 = mock(DataSource.class);
+    
+    private final SlaveLagProbe slaveLagProbe = mock(SlaveLagProbe.class);
+    
+    private SlaveLagMonitor slaveLagMonitor;
+    
+    @After
+    public void tearDown() {
+        slaveLagMonitor.close();
+    }
+    
+    @Test
+    public void assertRefreshWithoutStaleSlave() throws SQLException {
+        when(slaveLagProbe.getLagMillis(slaveDataSource0, 1000L)).thenReturn(10L);
+        when(slaveLagProbe.getLagMillis(slaveDataSource1, 1000L)).thenReturn(100L);
+        slaveLagMonitor = createSlaveLagMonitor(false);
+        slaveLagMonitor.refresh();
+        assertThat(masterSlaveRule.getRoutableSlaveDataSourceNames(), is(Arrays.asList("slave_ds_0", "slave_ds_1")));
+        assertThat(slaveLagMonitor.getLagMillis("slave_ds_1").get(), is(100L));
+        assertFalse(slaveLagMonitor.getLagMillis("master_ds").isPresent());
+    }
+    
+    @Test
+    public void assertRefreshWithStaleSlave() throws SQLException {
+        when(slaveLagProbe.getLagMillis(slaveDataSource0, 1000L)).thenReturn(1000L);
+        when(slaveLagProbe.getLagMillis(slaveDataSource1, 1000L)).thenReturn(10L);
+        slaveLagMonitor = createSlaveLagMonitor(false);
+        slaveLagMonitor.refresh();
+        assertThat(masterSlaveRule.getRoutableSlaveDataSourceNames(), is(Collections.singletonList("slave_ds_1")));
+        assertThat(new MasterSlaveRouter(masterSlaveRule, false).route("SELECT * FROM t_order"), is((Object) Collections.singletonList("slave_ds_1")));
+    }
+    
+    @Test
+    public void assertRefreshWithProbeFailure() throws SQLException {
+        when(slaveLagProbe.getLagMillis(slaveDataSource0, 1000L)).thenReturn(10L);
+        when(slaveLagProbe.getLagMillis(slaveDataSource1, 1000L)).thenThrow(new SQLException("connection refused"));
+        slaveLagMonitor = createSlaveLagMonitor(false);
+        slaveLagMonitor.refresh();
+        assertThat(masterSlaveRule.getRoutableSlaveDataSourceNames(), is(Collections.singletonList("slave_ds_0")));
+        assertThat(slaveLagMonitor.getLagMillis("slave_ds_1").get(), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertRefreshWithAllStaleSlavesAndRouteToSlave() throws SQLException {
+        when(slaveLagProbe.getLagMillis(slaveDataSource0, 1000L)).thenReturn(1000L);
+        when(slaveLagProbe.getLagMillis(slaveDataSource1, 1000L)).thenReturn(Long.MAX_VALUE);
+        slaveLagMonitor = createSlaveLagMonitor(false);
+        slaveLagMonitor.refresh();
+        assertThat(masterSlaveRule.getRoutableSlaveDataSourceNames(), is(Arrays.asList("slave_ds_0", "slave_ds_1")));
+    }
+    
+    @Test
+    public void assertRefreshWithAllStaleSlavesAndRouteToMaster() throws SQLException {
+        when(slaveLagProbe.getLagMillis(slaveDataSource0, 1000L)).thenReturn(1000L);
+        when(slaveLagProbe.getLagMillis(slaveDataSource1, 1000L)).thenReturn(Long.MAX_VALUE);
+        slaveLagMonitor = createSlaveLagMonitor(true);
+        slaveLagMonitor.refresh();
+        assertThat(masterSlaveRule.getRoutableSlaveDataSourceNames(), is(Collections.<String>emptyList()));
+        assertThat(new MasterSlaveRouter(masterSlaveRule, false).route("SELECT * FROM t_order"), is((Object) Collections.singletonList("master_ds")));
+    }
+    
+    @Test
+    public void assertRefreshWithHungProbe() throws SQLException {
+        final CountDownLatch probeReleased = new CountDownLatch(1);
+        when(slaveLagProbe.getLagMillis(slaveDataSource0, 1000L)).thenReturn(10L);
+        when(slaveLagProbe.getLagMillis(slaveDataSource1, 1000L)).thenAnswer(new Answer<Long>() {
+            
+            @Override
+            public Long answer(final InvocationOnMock invocation) throws InterruptedException {
+                probeReleased.await();
+                return 0L;
+            }
+        });
+        slaveLagMonitor = createSlaveLagMonitor(false);
+        try {
+            slaveLagMonitor.refresh();
+            assertThat(masterSlaveRule.getRoutableSlaveDataSourceNames(), is(Collections.singletonList("slave_ds_0")));
+            assertThat(slaveLagMonitor.getLagMillis("slave_ds_0").get(), is(10L));
+            assertThat(slaveLagMonitor.getLagMillis("slave_ds_1").get(), is(Long.MAX_VALUE));
+            slaveLagMonitor.refresh();
+            verify(slaveLagProbe, times(1)).getLagMillis(slaveDataSource1, 1000L);
+        } finally {
+            probeReleased.countDown();
+        }
+    }
+    
+    private SlaveLagMonitor createSlaveLagMonitor(final boolean masterRouteIfAllStale) {
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("slave_ds_0", slaveDataSource0);
+        dataSourceMap.put("slave_ds_1", slaveDataSource1);
+        return new SlaveLagMonitor(Collections.singletonList(masterSlaveRule), dataSourceMap, slaveLagProbe, 500L, 60000L, 1000L, masterRouteIfAllStale);
+    }
+}
@@ -17,10 +17,19 @@
 
 package io.shardingsphere.core.rule;
 
+import io.shardingsphere.core.api.algorithm.masterslave.LeastLatencyMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 
 public final class MasterSlaveRuleTest {
     
@@ -41,4 +50,33 @@ public final class MasterSlaveRuleTest {
         MasterSlaveRuleConfiguration masterSlaveRuleConfig = new MasterSlaveRuleConfiguration("master_slave", "master0", Collections.singletonList("slave0"), null);
         new MasterSlaveRule(masterSlaveRuleConfig);
     }
+    
+    @Test
+    public void assertLeastLatencyLoadBalanceAlgorithmBoundToLatencyStatisticsOfRule() {
+        LeastLatencyMasterSlaveLoadBalanceAlgorithm algorithm = new LeastLatencyMasterSlaveLoadBalanceAlgorithm();
+        MasterSlaveRule actual = new MasterSlaveRule(new MasterSlaveRuleConfiguration("ms_0", "master_0", Arrays.asList("slave_0", "slave_1"), algorithm));
+        MasterSlaveRule other = new MasterSlaveRule(new MasterSlaveRuleConfiguration("ms_1", "master_1", Arrays.asList("slave_0", "slave_1"), algorithm));
+        actual.getLatencyStatistics().start("slave_0");
+        actual.getLatencyStatistics().finish("slave_0", TimeUnit.MILLISECONDS.toNanos(50L));
+        for (int i = 0; i < 10; i++) {
+            assertThat(actual.getLoadBalanceAlgorithm().getDataSource("ms_0", "master_0", actual.getSlaveDataSourceNames()), is("slave_1"));
+        }
+        assertThat(other.getLatencyStatistics().getLoad("slave_0"), is(0D));
+        assertThat(actual.getLatencyStatistics(), not(other.getLatencyStatistics()));
+    }
+    
+    @Test
+    public void assertFindLatencyStatisticsWithLeastLatencyLoadBalanceAlgorithm() {
+        MasterSlaveRule actual = new MasterSlaveRule(
+                new MasterSlaveRuleConfiguration("ms_0", "master_0", Collections.singletonList("slave_0"), new LeastLatencyMasterSlaveLoadBalanceAlgorithm()));
+        assertThat(actual.findLatencyStatistics("slave_0").get(), is(actual.getLatencyStatistics()));
+        assertFalse(actual.findLatencyStatistics("master_0").isPresent());
+    }
+    
+    @Test
+    public void assertFindLatencyStatisticsWithoutLeastLatencyLoadBalanceAlgorithm() {
+        MasterSlaveRule actual = new MasterSlaveRule(
+                new MasterSlaveRuleConfiguration("ms_0", "master_0", Collections.singletonList("slave_0"), new RoundRobinMasterSlaveLoadBalanceAlgorithm()));
+        assertFalse(actual.findLatencyStatistics("slave_0").isPresent());
+    }
 }
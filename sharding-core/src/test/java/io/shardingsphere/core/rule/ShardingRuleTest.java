@@ -18,6 +18,8 @@
 package io.shardingsphere.core.rule;
 
 import io.shardingsphere.core.api.algorithm.fixture.TestPreciseShardingAlgorithm;
+import io.shardingsphere.core.api.algorithm.masterslave.LeastLatencyMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.api.config.TableRuleConfiguration;
 import io.shardingsphere.core.api.config.strategy.NoneShardingStrategyConfiguration;
@@ -35,6 +37,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
@@ -390,6 +393,22 @@ public final class ShardingRuleTest {
         assertTrue(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isLogicIndex("index_table", "logic_table"));
     }
     
+    @Test
+    public void assertFindLatencyStatistics() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getMasterSlaveRuleConfigs().add(
+                new MasterSlaveRuleConfiguration("ms_0", "master_0", Collections.singletonList("slave_0"), new LeastLatencyMasterSlaveLoadBalanceAlgorithm()));
+        shardingRuleConfig.getMasterSlaveRuleConfigs().add(
+                new MasterSlaveRuleConfiguration("ms_1", "master_1", Collections.singletonList("slave_1"), new LeastLatencyMasterSlaveLoadBalanceAlgorithm()));
+        shardingRuleConfig.getMasterSlaveRuleConfigs().add(new MasterSlaveRuleConfiguration("ms_2", "master_2", Collections.singletonList("slave_2"), null));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, Arrays.asList("master_0", "slave_0", "master_1", "slave_1", "master_2", "slave_2"));
+        assertFalse(actual.findLatencyStatistics("master_0").isPresent());
+        assertFalse(actual.findLatencyStatistics("slave_2").isPresent());
+        assertFalse(actual.findLatencyStatistics("ds_0").isPresent());
+        assertThat(actual.findLatencyStatistics("slave_0").get(), is(actual.findMasterSlaveRule("slave_0").get().getLatencyStatistics()));
+        assertThat(actual.findLatencyStatistics("slave_1").get(), not(actual.findLatencyStatistics("slave_0").get()));
+    }
+    
     private ShardingRule createShardingRule() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
@@ -98,6 +98,28 @@ public final class TableRuleTest {
         assertThat(actual.getActualTableNames("ds2"), is((Collection<String>) Collections.<String>emptySet()));
     }
     
+    @Test
+    public void assertGetActualDatasourceNamesWithCopy() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("LOGIC_TABLE");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames());
+        actual.getActualDatasourceNames().remove("ds0");
+        assertThat(actual.getActualDatasourceNames(), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("ds0", "ds1"))));
+    }
+    
+    @Test
+    public void assertGetActualTableNamesWithCopy() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("LOGIC_TABLE");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames());
+        actual.getActualTableNames("ds0").remove("table_0");
+        actual.getActualTableNames("ds2").add("table_0");
+        assertThat(actual.getActualTableNames("ds0"), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1", "table_2"))));
+        assertThat(actual.getActualTableNames("ds2"), is((Collection<String>) Collections.<String>emptySet()));
+    }
+    
     @Test
     public void assertFindActualTableIndex() {
         TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
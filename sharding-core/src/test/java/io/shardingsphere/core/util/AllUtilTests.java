@@ -25,7 +25,8 @@ import org.junit.runners.Suite;
         NumberUtilTest.class,
         StringUtilTest.class,
         InlineExpressionParserTest.class,
-        SQLUtilTest.class
+        SQLUtilTest.class,
+        ExecutorServiceUtilTest.class
     })
 public class AllUtilTests {
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import io.shardingsphere.core.constant.ExecutorType;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorServiceUtilTest {
+    
+    @Test
+    public void assertNewFixedThreadPoolWithPlatformThreads() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = ExecutorServiceUtil.newFixedThreadPool(ExecutorType.PLATFORM, 2, "test-%d", true);
+        try {
+            assertThat(executorService, instanceOf(ThreadPoolExecutor.class));
+            assertThat(((ThreadPoolExecutor) executorService).getMaximumPoolSize(), is(2));
+            assertThat(executorService.submit(createCurrentThreadNameCallable()).get(), is("test-0"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertNewFixedThreadPoolWithVirtualThreads() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = ExecutorServiceUtil.newFixedThreadPool(ExecutorType.VIRTUAL, 2, "test-%d", true);
+        try {
+            assertThat(executorService instanceof ThreadPoolExecutor, is(!ExecutorServiceUtil.isVirtualThreadSupported()));
+            assertThat(executorService.submit(createCurrentThreadNameCallable()).get(), is("test-0"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertNewSingleThreadExecutor() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = ExecutorServiceUtil.newSingleThreadExecutor(ExecutorType.VIRTUAL, "test", true);
+        try {
+            assertThat(executorService.submit(createCurrentThreadNameCallable()).get(), is("test"));
+            assertThat(executorService.submit(createCurrentThreadNameCallable()).get(), is("test"));
+            assertTrue(executorService.submit(new Callable<Boolean>() {
+                
+                @Override
+                public Boolean call() {
+                    return Thread.currentThread().isDaemon();
+                }
+            }).get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private Callable<String> createCurrentThreadNameCallable() {
+        return new Callable<String>() {
+            
+            @Override
+            public String call() {
+                return Thread.currentThread().getName();
+            }
+        };
+    }
+}
@@ -20,13 +20,17 @@ package io.shardingsphere.core.yaml.sharding;
 import io.shardingsphere.core.api.config.TableRuleConfiguration;
 import io.shardingsphere.core.api.config.strategy.NoneShardingStrategyConfiguration;
 import io.shardingsphere.core.keygen.DefaultKeyGenerator;
+import io.shardingsphere.core.keygen.SegmentKeyGenerator;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.junit.Test;
 
+import javax.sql.DataSource;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class YamlTableRuleConfigurationTest {
     
@@ -49,6 +53,20 @@ public final class YamlTableRuleConfigurationTest {
         assertWithShardingStrategy(actual);
     }
     
+    @Test
+    public void assertBuildFromTableRuleConfiguration() {
+        TableRuleConfiguration actual = new YamlTableRuleConfiguration(createYamlTableRuleConfig().build()).build();
+        assertTableRuleConfig(actual);
+        assertWithoutShardingStrategy(actual);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewWithKeyGeneratorWithoutNoArgumentConstructor() {
+        TableRuleConfiguration tableRuleConfig = createYamlTableRuleConfig().build();
+        tableRuleConfig.setKeyGenerator(new SegmentKeyGenerator(mock(DataSource.class), "t_order"));
+        new YamlTableRuleConfiguration(tableRuleConfig);
+    }
+    
     private YamlTableRuleConfiguration createYamlTableRuleConfig() {
         YamlTableRuleConfiguration result = new YamlTableRuleConfiguration();
         result.setLogicTable("t_order");
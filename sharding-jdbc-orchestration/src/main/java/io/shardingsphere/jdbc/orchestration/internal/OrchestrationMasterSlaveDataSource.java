@@ -33,7 +33,7 @@ import java.util.Properties;
  * @author panjuan
  */
 @Slf4j
-public class OrchestrationMasterSlaveDataSource extends MasterSlaveDataSource implements AutoCloseable {
+public class OrchestrationMasterSlaveDataSource extends MasterSlaveDataSource {
     
     private final OrchestrationFacade orchestrationFacade;
     
@@ -64,6 +64,7 @@ public class OrchestrationMasterSlaveDataSource extends MasterSlaveDataSource im
     
     @Override
     public void close() {
+        super.close();
         orchestrationFacade.close();
     }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import java.sql.SQLException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulkhead to limit concurrent executions of one data source.
+ *
+ * <p>
+ * Executions exceed the concurrency limit will wait until permitted, executions exceed the queue size will be rejected immediately.
+ * If adaptive, concurrency limit will be decreased multiplicatively when latency exceed tolerance of the lowest observed latency, 
+ * and increased additively otherwise, never exceed the max concurrency.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class DataSourceBulkhead {
+    
+    private static final double LATENCY_TOLERANCE = 2.0D;
+    
+    private static final double DECREASE_RATIO = 0.9D;
+    
+    private static final int MIN_LATENCY_RESET_SAMPLES = 1000;
+    
+    private final String dataSourceName;
+    
+    private final int maxConcurrency;
+    
+    private final int maxQueueSize;
+    
+    private final boolean adaptive;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition permitted = lock.newCondition();
+    
+    private double limit;
+    
+    private int inflight;
+    
+    private int waiting;
+    
+    private long minLatencyNanos = Long.MAX_VALUE;
+    
+    private int samples;
+    
+    public DataSourceBulkhead(final String dataSourceName, final int maxConcurrency, final int maxQueueSize, final boolean adaptive) {
+        this.dataSourceName = dataSourceName;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.adaptive = adaptive;
+        limit = maxConcurrency;
+    }
+    
+    /**
+     * Acquire permit to execute.
+     *
+     * @throws SQLException SQL exception if queue is full or interrupted while waiting
+     */
+    public void acquire() throws SQLException {
+        lock.lock();
+        try {
+            if (inflight < getLimit()) {
+                inflight++;
+                return;
+            }
+            if (waiting >= maxQueueSize) {
+                throw new SQLException(String.format("Execution on data source '%s' is rejected, concurrency limit '%s' and queue size '%s' are exhausted.", dataSourceName, getLimit(), maxQueueSize));
+            }
+            waiting++;
+            try {
+                while (inflight >= getLimit()) {
+                    permitted.await();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(String.format("Interrupted while waiting to execute on data source '%s'.", dataSourceName), ex);
+            } finally {
+                waiting--;
+            }
+            inflight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Release permit after executed.
+     *
+     * @param latencyNanos latency of execution in nanoseconds
+     */
+    public void release(final long latencyNanos) {
+        lock.lock();
+        try {
+            inflight--;
+            if (adaptive) {
+                adjustLimit(latencyNanos);
+            }
+            permitted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void adjustLimit(final long latencyNanos) {
+        if (++samples >= MIN_LATENCY_RESET_SAMPLES) {
+            samples = 0;
+            minLatencyNanos = latencyNanos;
+        }
+        minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        if (latencyNanos > minLatencyNanos * LATENCY_TOLERANCE) {
+            limit = Math.max(1D, limit * DECREASE_RATIO);
+        } else {
+            limit = Math.min(maxConcurrency, limit + 1D / limit);
+        }
+    }
+    
+    /**
+     * Get current concurrency limit.
+     *
+     * @return current concurrency limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -17,11 +17,18 @@
 
 package io.shardingsphere.core.executor;
 
+import com.google.common.base.Function;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.event.AbstractExecutionEvent;
 import io.shardingsphere.core.executor.event.DMLExecutionEvent;
@@ -31,22 +38,36 @@ import io.shardingsphere.core.executor.event.OverallExecutionEvent;
 import io.shardingsphere.core.executor.threadlocal.ExecutorDataMap;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.util.EventBusInstance;
+import io.shardingsphere.core.util.ExecutorServiceUtil;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * SQL execute engine.
@@ -65,10 +86,64 @@ public final class ExecutorEngine implements AutoCloseable {
     @Getter
     private final ListeningExecutorService executorService;
     
+    /**
+     * Executor service for merging results in parallel.
+     * 
+     * <p>
+     * Merging threads are separated from executing threads, because merging tasks are submitted and awaited by executing threads for asynchronous execution.
+     * Task is executed by caller thread if all merging threads are busy.
+     * </p>
+     */
+    @Getter
+    private final ExecutorService mergeExecutorService;
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final int maxQueueSizePerDataSource;
+    
+    private final boolean adaptiveConcurrency;
+    
+    private final ConcurrentMap<String, DataSourceBulkhead> bulkheads = new ConcurrentHashMap<>();
+    
+    private final LoadingCache<Connection, Lock> connectionLocks = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Connection, Lock>() {
+        
+        @Override
+        public Lock load(final Connection key) {
+            return new ReentrantLock();
+        }
+    });
+    
     public ExecutorEngine(final int executorSize) {
-        executorService = MoreExecutors.listeningDecorator(new ThreadPoolExecutor(
-                executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-%d").build()));
+        this(executorSize, ExecutorType.PLATFORM, 0, 0, false);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param executorSize size of executor threads
+     * @param executorType type of executor threads
+     * @param maxConcurrencyPerDataSource max concurrent executions of every data source, {@code 0} means unlimited
+     * @param maxQueueSizePerDataSource max waiting executions of every data source when concurrency limit is reached
+     * @param adaptiveConcurrency adjust concurrency limit of every data source by observed latency or not
+     */
+    public ExecutorEngine(final int executorSize, final ExecutorType executorType, final int maxConcurrencyPerDataSource, final int maxQueueSizePerDataSource, final boolean adaptiveConcurrency) {
+        executorService = MoreExecutors.listeningDecorator(ExecutorServiceUtil.newFixedThreadPool(executorType, executorSize, "Sharding-JDBC-%d", true));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+        mergeExecutorService = createMergeExecutorService(executorSize);
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+        this.maxQueueSizePerDataSource = maxQueueSizePerDataSource;
+        this.adaptiveConcurrency = adaptiveConcurrency;
+    }
+    
+    private static ExecutorService createMergeExecutorService(final int executorSize) {
+        return new ThreadPoolExecutor(0, executorSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), 
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-Merge-%d").build(), new RejectedExecutionHandler() {
+                    
+                    @Override
+                    public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+                        runnable.run();
+                    }
+                });
     }
     
     /**
@@ -89,9 +164,11 @@ public final class ExecutorEngine implements AutoCloseable {
         OverallExecutionEvent event = new OverallExecutionEvent(sqlType, baseStatementUnits.size());
         EventBusInstance.getInstance().post(event);
         Iterator<? extends BaseStatementUnit> iterator = baseStatementUnits.iterator();
+        Map<String, DataSourcePermit> permits = Collections.emptyMap();
         try {
-            T firstOutput = syncExecute(sqlType, iterator.next(), executeCallback);
-            List<ListenableFuture<T>> restFutures = asyncExecute(sqlType, Lists.newArrayList(iterator), executeCallback);
+            permits = acquirePermits(baseStatementUnits);
+            T firstOutput = syncExecute(sqlType, iterator.next(), executeCallback, permits);
+            List<ListenableFuture<T>> restFutures = asyncExecute(sqlType, Lists.newArrayList(iterator), executeCallback, permits);
             List<T> result = buildResultList(firstOutput, restFutures);
             event.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
             EventBusInstance.getInstance().post(event);
@@ -99,6 +176,7 @@ public final class ExecutorEngine implements AutoCloseable {
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
+            releasePermits(permits);
             event.setException(ex);
             event.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
             EventBusInstance.getInstance().post(event);
@@ -107,8 +185,107 @@ public final class ExecutorEngine implements AutoCloseable {
         }
     }
     
-    private <T> List<ListenableFuture<T>> asyncExecute(
-            final SQLType sqlType, final Collection<BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) {
+    /**
+     * Execute asynchronously.
+     *
+     * <p>
+     * All statement execute units will be executed by executor threads, caller thread will not be blocked to wait results.
+     * Permits of data sources are acquired by caller thread before submitting, so caller thread is blocked if concurrency limit of data sources is reached.
+     * Permits are not acquired by executor threads, because executor threads waiting for permits may starve execute units which hold permits.
+     * </p>
+     *
+     * @param sqlType SQL type
+     * @param baseStatementUnits statement execute units
+     * @param executeCallback statement execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     * @throws SQLException SQL exception if permits of data sources are rejected
+     */
+    public <T> ListenableFuture<List<T>> executeAsync(
+            final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws SQLException {
+        if (baseStatementUnits.isEmpty()) {
+            return Futures.immediateFuture(Collections.<T>emptyList());
+        }
+        final Map<String, DataSourcePermit> permits = acquirePermits(baseStatementUnits);
+        final OverallExecutionEvent event = new OverallExecutionEvent(sqlType, baseStatementUnits.size());
+        EventBusInstance.getInstance().post(event);
+        List<ListenableFuture<T>> unitFutures;
+        try {
+            unitFutures = asyncExecute(sqlType, new ArrayList<BaseStatementUnit>(baseStatementUnits), executeCallback, permits);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            releasePermits(permits);
+            throw ex;
+        }
+        Futures.addCallback(Futures.successfulAsList(unitFutures), new FutureCallback<List<T>>() {
+            
+            @Override
+            public void onSuccess(final List<T> result) {
+                releasePermits(permits);
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                releasePermits(permits);
+            }
+        });
+        ListenableFuture<List<T>> futures = Futures.allAsList(unitFutures);
+        Futures.addCallback(futures, new FutureCallback<List<T>>() {
+            
+            @Override
+            public void onSuccess(final List<T> result) {
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                event.setException(throwable instanceof Exception ? (Exception) throwable : new ExecutionException(throwable));
+                event.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
+                EventBusInstance.getInstance().post(event);
+            }
+        });
+        return Futures.transform(futures, new Function<List<T>, List<T>>() {
+            
+            @Override
+            public List<T> apply(final List<T> input) {
+                event.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
+                EventBusInstance.getInstance().post(event);
+                return input;
+            }
+        });
+    }
+    
+    private Map<String, DataSourcePermit> acquirePermits(final Collection<? extends BaseStatementUnit> baseStatementUnits) throws SQLException {
+        if (0 == maxConcurrencyPerDataSource) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> unitCounts = new TreeMap<>();
+        for (BaseStatementUnit each : baseStatementUnits) {
+            String dataSourceName = each.getSqlExecutionUnit().getDataSource();
+            unitCounts.put(dataSourceName, unitCounts.containsKey(dataSourceName) ? unitCounts.get(dataSourceName) + 1 : 1);
+        }
+        Map<String, DataSourcePermit> result = new HashMap<>(unitCounts.size(), 1);
+        try {
+            for (Entry<String, Integer> entry : unitCounts.entrySet()) {
+                DataSourceBulkhead bulkhead = getBulkhead(entry.getKey());
+                bulkhead.acquire();
+                result.put(entry.getKey(), new DataSourcePermit(bulkhead, entry.getValue()));
+            }
+        } catch (final SQLException ex) {
+            releasePermits(result);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private void releasePermits(final Map<String, DataSourcePermit> permits) {
+        for (DataSourcePermit each : permits.values()) {
+            each.release();
+        }
+    }
+    
+    private <T> List<ListenableFuture<T>> asyncExecute(final SQLType sqlType, final Collection<BaseStatementUnit> baseStatementUnits, 
+                                                       final ExecuteCallback<T> executeCallback, final Map<String, DataSourcePermit> permits) {
         List<ListenableFuture<T>> result = new ArrayList<>(baseStatementUnits.size());
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
@@ -117,20 +294,35 @@ public final class ExecutorEngine implements AutoCloseable {
                 
                 @Override
                 public T call() throws Exception {
-                    return executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap);
+                    return executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap, permits);
                 }
             }));
         }
         return result;
     }
     
-    private <T> T syncExecute(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback) throws Exception {
-        return executeInternal(sqlType, baseStatementUnit, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap());
+    private <T> T syncExecute(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback, 
+                              final Map<String, DataSourcePermit> permits) throws Exception {
+        return executeInternal(sqlType, baseStatementUnit, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap(), permits);
+    }
+    
+    private <T> T executeInternal(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback,
+                                  final boolean isExceptionThrown, final Map<String, Object> dataMap, final Map<String, DataSourcePermit> permits) throws Exception {
+        try {
+            return executeInternal(sqlType, baseStatementUnit, executeCallback, isExceptionThrown, dataMap);
+        } finally {
+            DataSourcePermit permit = permits.get(baseStatementUnit.getSqlExecutionUnit().getDataSource());
+            if (null != permit) {
+                permit.completeUnit();
+            }
+        }
     }
     
     private <T> T executeInternal(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback,
                                   final boolean isExceptionThrown, final Map<String, Object> dataMap) throws Exception {
-        synchronized (baseStatementUnit.getStatement().getConnection()) {
+        Lock lock = connectionLocks.getUnchecked(baseStatementUnit.getStatement().getConnection());
+        lock.lock();
+        try {
             T result;
             ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
             ExecutorDataMap.setDataMap(dataMap);
@@ -157,9 +349,20 @@ public final class ExecutorEngine implements AutoCloseable {
                 EventBusInstance.getInstance().post(each);
             }
             return result;
+        } finally {
+            lock.unlock();
         }
     }
     
+    private DataSourceBulkhead getBulkhead(final String dataSourceName) {
+        DataSourceBulkhead result = bulkheads.get(dataSourceName);
+        if (null == result) {
+            bulkheads.putIfAbsent(dataSourceName, new DataSourceBulkhead(dataSourceName, maxConcurrencyPerDataSource, maxQueueSizePerDataSource, adaptiveConcurrency));
+            result = bulkheads.get(dataSourceName);
+        }
+        return result;
+    }
+    
     private <T> List<T> buildResultList(final T firstOutput, final List<ListenableFuture<T>> restResultFutures) throws ExecutionException, InterruptedException {
         List<T> result = new LinkedList<>();
         result.add(firstOutput);
@@ -181,6 +384,7 @@ public final class ExecutorEngine implements AutoCloseable {
     
     @Override
     public void close() {
+        mergeExecutorService.shutdown();
         SHUTDOWN_EXECUTOR.execute(new Runnable() {
             
             @Override
@@ -196,4 +400,40 @@ public final class ExecutorEngine implements AutoCloseable {
             }
         });
     }
+    
+    /**
+     * Permit of data source bulkhead acquired by one execution.
+     * 
+     * <p>
+     * Execution units of one data source are executed by one connection serially, so only one permit is acquired for all of them. 
+     * Permit is released after all execution units of the data source are completed.
+     * </p>
+     */
+    private static final class DataSourcePermit {
+        
+        private final DataSourceBulkhead bulkhead;
+        
+        private final AtomicInteger remainingUnits;
+        
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        private final long startNanos = System.nanoTime();
+        
+        DataSourcePermit(final DataSourceBulkhead bulkhead, final int units) {
+            this.bulkhead = bulkhead;
+            remainingUnits = new AtomicInteger(units);
+        }
+        
+        void completeUnit() {
+            if (0 == remainingUnits.decrementAndGet()) {
+                release();
+            }
+        }
+        
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(System.nanoTime() - startNanos);
+            }
+        }
+    }
 }
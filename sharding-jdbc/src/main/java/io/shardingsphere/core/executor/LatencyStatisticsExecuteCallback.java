@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyRecorder;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Statement execute callback which records latency of slave data sources balanced by least latency.
+ *
+ * @author zhangliang
+ * 
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+public final class LatencyStatisticsExecuteCallback<T> implements ExecuteCallback<T> {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ExecuteCallback<T> executeCallback;
+    
+    @Override
+    public T execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+        String dataSourceName = baseStatementUnit.getSqlExecutionUnit().getDataSource();
+        DataSourceLatencyRecorder latencyRecorder = new DataSourceLatencyRecorder().start(dataSourceName, shardingRule.findLatencyStatistics(dataSourceName));
+        try {
+            return executeCallback.execute(baseStatementUnit);
+        } finally {
+            latencyRecorder.finish();
+        }
+    }
+}
@@ -17,10 +17,15 @@
 
 package io.shardingsphere.core.executor.type.prepared;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
 import io.shardingsphere.core.executor.ExecuteCallback;
 import io.shardingsphere.core.executor.ExecutorEngine;
+import io.shardingsphere.core.executor.LatencyStatisticsExecuteCallback;
+import io.shardingsphere.core.rule.ShardingRule;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.PreparedStatement;
@@ -41,6 +46,8 @@ public final class PreparedStatementExecutor {
     
     private final ExecutorEngine executorEngine;
     
+    private final ShardingRule shardingRule;
+    
     private final SQLType sqlType;
     
     private final Collection<PreparedStatementUnit> preparedStatementUnits;
@@ -52,7 +59,21 @@ public final class PreparedStatementExecutor {
      * @throws SQLException SQL exception
      */
     public List<ResultSet> executeQuery() throws SQLException {
-        return executorEngine.execute(sqlType, preparedStatementUnits, new ExecuteCallback<ResultSet>() {
+        return executorEngine.execute(sqlType, preparedStatementUnits, createExecuteQueryCallback());
+    }
+    
+    /**
+     * Execute query asynchronously.
+     * 
+     * @return future of result set list
+     * @throws SQLException SQL exception
+     */
+    public ListenableFuture<List<ResultSet>> executeQueryAsync() throws SQLException {
+        return executorEngine.executeAsync(sqlType, preparedStatementUnits, createExecuteQueryCallback());
+    }
+    
+    private ExecuteCallback<ResultSet> createExecuteQueryCallback() {
+        return new LatencyStatisticsExecuteCallback<>(shardingRule, new ExecuteCallback<ResultSet>() {
             
             @Override
             public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
@@ -68,14 +89,33 @@ public final class PreparedStatementExecutor {
      * @throws SQLException SQL exception
      */
     public int executeUpdate() throws SQLException {
-        List<Integer> results = executorEngine.execute(sqlType, preparedStatementUnits, new ExecuteCallback<Integer>() {
+        return accumulate(executorEngine.execute(sqlType, preparedStatementUnits, createExecuteUpdateCallback()));
+    }
+    
+    /**
+     * Execute update asynchronously.
+     * 
+     * @return future of effected records count
+     * @throws SQLException SQL exception
+     */
+    public ListenableFuture<Integer> executeUpdateAsync() throws SQLException {
+        return Futures.transform(executorEngine.executeAsync(sqlType, preparedStatementUnits, createExecuteUpdateCallback()), new Function<List<Integer>, Integer>() {
+            
+            @Override
+            public Integer apply(final List<Integer> input) {
+                return accumulate(input);
+            }
+        });
+    }
+    
+    private ExecuteCallback<Integer> createExecuteUpdateCallback() {
+        return new ExecuteCallback<Integer>() {
             
             @Override
             public Integer execute(final BaseStatementUnit baseStatementUnit) throws Exception {
                 return ((PreparedStatement) baseStatementUnit.getStatement()).executeUpdate();
             }
-        });
-        return accumulate(results);
+        };
     }
     
     private int accumulate(final List<Integer> results) {
@@ -93,13 +133,13 @@ public final class PreparedStatementExecutor {
      * @throws SQLException SQL exception
      */
     public boolean execute() throws SQLException {
-        List<Boolean> result = executorEngine.execute(sqlType, preparedStatementUnits, new ExecuteCallback<Boolean>() {
+        List<Boolean> result = executorEngine.execute(sqlType, preparedStatementUnits, new LatencyStatisticsExecuteCallback<>(shardingRule, new ExecuteCallback<Boolean>() {
             
             @Override
             public Boolean execute(final BaseStatementUnit baseStatementUnit) throws Exception {
                 return ((PreparedStatement) baseStatementUnit.getStatement()).execute();
             }
-        });
+        }));
         if (null == result || result.isEmpty() || null == result.get(0)) {
             return false;
         }
@@ -21,6 +21,8 @@ import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
 import io.shardingsphere.core.executor.ExecuteCallback;
 import io.shardingsphere.core.executor.ExecutorEngine;
+import io.shardingsphere.core.executor.LatencyStatisticsExecuteCallback;
+import io.shardingsphere.core.rule.ShardingRule;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.ResultSet;
@@ -42,6 +44,8 @@ public final class StatementExecutor {
     
     private final ExecutorEngine executorEngine;
     
+    private final ShardingRule shardingRule;
+    
     private final SQLType sqlType;
     
     private final Collection<StatementUnit> statementUnits;
@@ -53,13 +57,13 @@ public final class StatementExecutor {
      * @throws SQLException SQL exception
      */
     public List<ResultSet> executeQuery() throws SQLException {
-        return executorEngine.execute(sqlType, statementUnits, new ExecuteCallback<ResultSet>() {
+        return executorEngine.execute(sqlType, statementUnits, new LatencyStatisticsExecuteCallback<>(shardingRule, new ExecuteCallback<ResultSet>() {
             
             @Override
             public ResultSet execute(final BaseStatementUnit baseStatementUnit) throws Exception {
                 return baseStatementUnit.getStatement().executeQuery(baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getSql());
             }
-        });
+        }));
     }
     
     /**
@@ -216,13 +220,13 @@ public final class StatementExecutor {
     }
     
     private boolean execute(final Executor executor) throws SQLException {
-        List<Boolean> result = executorEngine.execute(sqlType, statementUnits, new ExecuteCallback<Boolean>() {
+        List<Boolean> result = executorEngine.execute(sqlType, statementUnits, new LatencyStatisticsExecuteCallback<>(shardingRule, new ExecuteCallback<Boolean>() {
             
             @Override
             public Boolean execute(final BaseStatementUnit baseStatementUnit) throws SQLException {
                 return executor.execute(baseStatementUnit.getStatement(), baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getSql());
             }
-        });
+        }));
         if (null == result || result.isEmpty() || null == result.get(0)) {
             return false;
         }
@@ -64,7 +64,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         Collection<SQLException> exceptions = new LinkedList<>();
         for (ResultSet each : resultSets) {
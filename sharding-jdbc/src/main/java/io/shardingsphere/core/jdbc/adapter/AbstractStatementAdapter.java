@@ -20,6 +20,7 @@ package io.shardingsphere.core.jdbc.adapter;
 import io.shardingsphere.core.jdbc.unsupported.AbstractUnsupportedOperationStatement;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
@@ -47,13 +48,22 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         Collection<SQLException> exceptions = new LinkedList<>();
-        for (Statement each : getRoutedStatements()) {
+        ResultSet currentResultSet = getCurrentResultSet();
+        if (null != currentResultSet) {
+            try {
+                currentResultSet.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        for (Statement each : getCachedStatements()) {
             try {
                 each.close();
             } catch (final SQLException ex) {
                 exceptions.add(ex);
             }
         }
+        getCachedStatements().clear();
         getRoutedStatements().clear();
         throwSQLExceptionIfNecessary(exceptions);
     }
@@ -182,4 +192,22 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     }
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
+    
+    /**
+     * Get statements cached for reuse, they will be closed when close this statement.
+     *
+     * @return statements cached for reuse, same with routed statements by default
+     */
+    protected Collection<? extends Statement> getCachedStatements() {
+        return getRoutedStatements();
+    }
+    
+    /**
+     * Get current result set, it will be closed when close this statement.
+     *
+     * @return current result set, null if absent
+     */
+    protected ResultSet getCurrentResultSet() {
+        return null;
+    }
 }
@@ -18,21 +18,30 @@
 package io.shardingsphere.core.jdbc.core;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.ShardingProperties;
+import io.shardingsphere.core.constant.ShardingPropertiesConstant;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.executor.ExecutorEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Sharding runtime context.
@@ -40,7 +49,6 @@ import java.util.Map.Entry;
  * @author gaohongtao
  * @author panjuan
  */
-@RequiredArgsConstructor
 @Getter
 public final class ShardingContext {
     
@@ -56,16 +64,73 @@ public final class ShardingContext {
     
     private final ShardingMetaData metaData;
     
-    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule,
-                           final DatabaseType databaseType, final ExecutorEngine executorEngine, final ShardingTableMetaData shardingTableMetaData, final boolean showSQL) {
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RouteResultCache routeResultCache;
+    
+    private final int groupByMemoryMaxRows;
+    
+    private final boolean groupByParallelMerge;
+    
+    private final int deepPaginationOffsetThreshold;
+    
+    private final int batchInsertRewriteMaxRows;
+    
+    private final int batchInsertRewriteMaxBytes;
+    
+    private final int preparedStatementCacheMaxSize;
+    
+    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, 
+                           final ExecutorEngine executorEngine, final ShardingTableMetaData shardingTableMetaData, final ShardingProperties shardingProperties) {
         this.dataSourceMap = dataSourceMap;
         this.shardingRule = shardingRule;
         this.databaseType = databaseType;
         this.executorEngine = executorEngine;
-        this.showSQL = showSQL;
+        showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
+        parsingResultCache = createParsingResultCache(shardingProperties);
+        routeResultCache = createRouteResultCache(shardingProperties);
+        groupByMemoryMaxRows = shardingProperties.getValue(ShardingPropertiesConstant.MERGE_GROUP_BY_MEMORY_MAX_ROWS);
+        groupByParallelMerge = shardingProperties.getValue(ShardingPropertiesConstant.MERGE_GROUP_BY_PARALLEL);
+        deepPaginationOffsetThreshold = shardingProperties.getValue(ShardingPropertiesConstant.PAGINATION_DEEP_OFFSET_THRESHOLD);
+        batchInsertRewriteMaxRows = shardingProperties.getValue(ShardingPropertiesConstant.BATCH_INSERT_REWRITE_MAX_ROWS);
+        batchInsertRewriteMaxBytes = shardingProperties.getValue(ShardingPropertiesConstant.BATCH_INSERT_REWRITE_MAX_BYTES);
+        preparedStatementCacheMaxSize = shardingProperties.getValue(ShardingPropertiesConstant.PREPARED_STATEMENT_CACHE_MAX_SIZE);
         metaData = new ShardingMetaData(new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType), shardingTableMetaData);
     }
     
+    private static ParsingResultCache createParsingResultCache(final ShardingProperties shardingProperties) {
+        long maximumSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_CACHE_MAX_SIZE);
+        long maximumSQLLength = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_CACHE_MAX_SQL_LENGTH);
+        return new ParsingResultCache(maximumSize, maximumSQLLength);
+    }
+    
+    private static RouteResultCache createRouteResultCache(final ShardingProperties shardingProperties) {
+        long maximumSize = shardingProperties.getValue(ShardingPropertiesConstant.ROUTE_CACHE_MAX_SIZE);
+        return maximumSize > 0L ? new RouteResultCache(maximumSize) : null;
+    }
+    
+    /**
+     * Get executor service for merging result sets in parallel.
+     * 
+     * <p>Result sets which share one connection can not be read concurrently, parallel merging is not available for them.</p>
+     * 
+     * @param resultSets result sets to be merged
+     * @return executor service, or null if parallel merging is not available
+     * @throws SQLException SQL exception
+     */
+    public ExecutorService getMergeExecutorService(final List<ResultSet> resultSets) throws SQLException {
+        if (!groupByParallelMerge) {
+            return null;
+        }
+        Set<Connection> connections = Collections.newSetFromMap(new IdentityHashMap<Connection, Boolean>(resultSets.size()));
+        for (ResultSet each : resultSets) {
+            if (!connections.add(each.getStatement().getConnection())) {
+                return null;
+            }
+        }
+        return executorEngine.getMergeExecutorService();
+    }
+    
     private static Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap) {
         Map<String, String> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
@@ -17,6 +17,10 @@
 
 package io.shardingsphere.core.jdbc.core.connection;
 
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureFallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingsphere.core.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingsphere.core.jdbc.core.ShardingContext;
 import io.shardingsphere.core.jdbc.core.statement.ShardingPreparedStatement;
@@ -30,10 +34,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -78,6 +84,85 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         return result;
     }
     
+    /**
+     * Execute query asynchronously.
+     * 
+     * <p>
+     * Routing and merging are the same as {@code ShardingPreparedStatement.executeQueryAsync()}.
+     * Statement of merged result set should be closed by caller after consumed, such as {@code resultSet.getStatement().close()}.
+     * </p>
+     * 
+     * @param sql SQL
+     * @param parameters parameters of SQL placeholder
+     * @return future of merged result set
+     * @throws SQLException SQL exception
+     */
+    public ListenableFuture<ResultSet> executeQueryAsync(final String sql, final List<Object> parameters) throws SQLException {
+        final ShardingPreparedStatement preparedStatement = createPreparedStatement(sql, parameters);
+        try {
+            return Futures.withFallback(preparedStatement.executeQueryAsync(), new FutureFallback<ResultSet>() {
+                
+                @Override
+                public ListenableFuture<ResultSet> create(final Throwable cause) throws SQLException {
+                    preparedStatement.close();
+                    return Futures.immediateFailedFuture(cause);
+                }
+            });
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            preparedStatement.close();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Execute update asynchronously.
+     * 
+     * <p>
+     * Routing is the same as {@code ShardingPreparedStatement.executeUpdateAsync()}.
+     * Statement is closed when returned future is completed.
+     * </p>
+     * 
+     * @param sql SQL
+     * @param parameters parameters of SQL placeholder
+     * @return future of effected records count
+     * @throws SQLException SQL exception
+     */
+    public ListenableFuture<Integer> executeUpdateAsync(final String sql, final List<Object> parameters) throws SQLException {
+        final ShardingPreparedStatement preparedStatement = createPreparedStatement(sql, parameters);
+        try {
+            return Futures.transform(Futures.withFallback(preparedStatement.executeUpdateAsync(), new FutureFallback<Integer>() {
+                
+                @Override
+                public ListenableFuture<Integer> create(final Throwable cause) throws SQLException {
+                    preparedStatement.close();
+                    return Futures.immediateFailedFuture(cause);
+                }
+            }), new AsyncFunction<Integer, Integer>() {
+                
+                @Override
+                public ListenableFuture<Integer> apply(final Integer input) throws SQLException {
+                    preparedStatement.close();
+                    return Futures.immediateFuture(input);
+                }
+            });
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            preparedStatement.close();
+            throw ex;
+        }
+    }
+    
+    private ShardingPreparedStatement createPreparedStatement(final String sql, final List<Object> parameters) throws SQLException {
+        ShardingPreparedStatement result = new ShardingPreparedStatement(this, sql);
+        for (int i = 0; i < parameters.size(); i++) {
+            result.setObject(i + 1, parameters.get(i));
+        }
+        return result;
+    }
+    
     @Override
     protected Map<String, DataSource> getDataSourceMap() {
         return shardingContext.getDataSourceMap();
@@ -23,12 +23,15 @@ import io.shardingsphere.core.constant.ShardingProperties;
 import io.shardingsphere.core.constant.ShardingPropertiesConstant;
 import io.shardingsphere.core.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.core.jdbc.core.connection.MasterSlaveConnection;
+import io.shardingsphere.core.routing.router.masterslave.SlaveLagMonitor;
 import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -40,7 +43,7 @@ import java.util.Properties;
  * @author zhangliang
  */
 @Getter
-public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
+public class MasterSlaveDataSource extends AbstractDataSourceAdapter implements AutoCloseable {
     
     private Map<String, DataSource> dataSourceMap;
     
@@ -48,6 +51,9 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
     
     private ShardingProperties shardingProperties;
     
+    @Getter(AccessLevel.NONE)
+    private SlaveLagMonitor slaveLagMonitor;
+    
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRuleConfiguration masterSlaveRuleConfig,
                                  final Map<String, Object> configMap, final Properties props) throws SQLException {
         super(getAllDataSources(dataSourceMap, masterSlaveRuleConfig.getMasterDataSourceName(), masterSlaveRuleConfig.getSlaveDataSourceNames()));
@@ -57,6 +63,11 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
             ConfigMapContext.getInstance().getMasterSlaveConfig().putAll(configMap);
         }
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        slaveLagMonitor = createSlaveLagMonitor();
+    }
+    
+    private SlaveLagMonitor createSlaveLagMonitor() {
+        return SlaveLagMonitor.newInstance(Collections.singletonList(masterSlaveRule), dataSourceMap, shardingProperties).orNull();
     }
     
     private static Collection<DataSource> getAllDataSources(final Map<String, DataSource> dataSourceMap, final String masterDataSourceName, final Collection<String> slaveDataSourceNames) {
@@ -91,6 +102,8 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
     public void renew(final Map<String, DataSource> dataSourceMap, final MasterSlaveRuleConfiguration masterSlaveRuleConfig) {
         this.dataSourceMap = dataSourceMap;
         this.masterSlaveRule = new MasterSlaveRule(masterSlaveRuleConfig);
+        closeSlaveLagMonitor();
+        slaveLagMonitor = createSlaveLagMonitor();
     }
     
     @Override
@@ -106,4 +119,15 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
     public boolean showSQL() {
         return shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
     }
+    
+    @Override
+    public void close() {
+        closeSlaveLagMonitor();
+    }
+    
+    private void closeSlaveLagMonitor() {
+        if (null != slaveLagMonitor) {
+            slaveLagMonitor.close();
+        }
+    }
 }
@@ -20,6 +20,7 @@ package io.shardingsphere.core.jdbc.core.datasource;
 import io.shardingsphere.core.api.ConfigMapContext;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.constant.ShardingProperties;
 import io.shardingsphere.core.constant.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ExecutorEngine;
@@ -29,12 +30,14 @@ import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
 import io.shardingsphere.core.jdbc.metadata.DataSourceMapTableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataInitializer;
+import io.shardingsphere.core.routing.router.masterslave.SlaveLagMonitor;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -57,6 +60,8 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     
     private ShardingContext shardingContext;
     
+    private SlaveLagMonitor slaveLagMonitor;
+    
     public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule) throws SQLException {
         this(dataSourceMap, shardingRule, new ConcurrentHashMap<String, Object>(), new Properties());
     }
@@ -67,12 +72,30 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
             ConfigMapContext.getInstance().getShardingConfig().putAll(configMap);
         }
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
-        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executorEngine = new ExecutorEngine(executorSize);
+        executorEngine = createExecutorEngine(shardingProperties);
         ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(
                 new TableMetaDataInitializer(executorEngine.getExecutorService(), new DataSourceMapTableMetaDataConnectionManager(dataSourceMap)).load(shardingRule));
-        boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
-        shardingContext = new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executorEngine, shardingTableMetaData, showSQL);
+        shardingContext = new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executorEngine, shardingTableMetaData, shardingProperties);
+        slaveLagMonitor = SlaveLagMonitor.newInstance(shardingRule.getMasterSlaveRules(), dataSourceMap, shardingProperties).orNull();
+    }
+    
+    private static ExecutorEngine createExecutorEngine(final ShardingProperties shardingProperties) {
+        return new ExecutorEngine(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE), 
+                ExecutorType.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.EXECUTOR_TYPE)), 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_DATASOURCE_MAX_CONCURRENCY), 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_DATASOURCE_MAX_QUEUE_SIZE), 
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.EXECUTOR_DATASOURCE_ADAPTIVE_CONCURRENCY));
+    }
+    
+    private static boolean isExecutorEngineChanged(final ShardingProperties originalShardingProperties, final ShardingProperties newShardingProperties) {
+        for (ShardingPropertiesConstant each : Arrays.asList(ShardingPropertiesConstant.EXECUTOR_SIZE, ShardingPropertiesConstant.EXECUTOR_TYPE, 
+                ShardingPropertiesConstant.EXECUTOR_DATASOURCE_MAX_CONCURRENCY, 
+                ShardingPropertiesConstant.EXECUTOR_DATASOURCE_MAX_QUEUE_SIZE, ShardingPropertiesConstant.EXECUTOR_DATASOURCE_ADAPTIVE_CONCURRENCY)) {
+            if (!originalShardingProperties.getValue(each).equals(newShardingProperties.getValue(each))) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -84,18 +107,17 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
      */
     public void renew(final Map<String, DataSource> newDataSourceMap, final ShardingRule newShardingRule, final Properties newProps) {
         ShardingProperties newShardingProperties = new ShardingProperties(null == newProps ? new Properties() : newProps);
-        int originalExecutorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        int newExecutorSize = newShardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        if (originalExecutorSize != newExecutorSize) {
+        if (isExecutorEngineChanged(shardingProperties, newShardingProperties)) {
             ExecutorEngine originalExecutorEngine = executorEngine;
-            executorEngine = new ExecutorEngine(newExecutorSize);
+            executorEngine = createExecutorEngine(newShardingProperties);
             originalExecutorEngine.close();
         }
-        boolean newShowSQL = newShardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         ShardingTableMetaData shardingMetaData = new ShardingTableMetaData(
                 new TableMetaDataInitializer(executorEngine.getExecutorService(), new DataSourceMapTableMetaDataConnectionManager(newDataSourceMap)).load(newShardingRule));
         shardingProperties = newShardingProperties;
-        shardingContext = new ShardingContext(newDataSourceMap, newShardingRule, getDatabaseType(), executorEngine, shardingMetaData, newShowSQL);
+        shardingContext = new ShardingContext(newDataSourceMap, newShardingRule, getDatabaseType(), executorEngine, shardingMetaData, newShardingProperties);
+        closeSlaveLagMonitor();
+        slaveLagMonitor = SlaveLagMonitor.newInstance(newShardingRule.getMasterSlaveRules(), newDataSourceMap, newShardingProperties).orNull();
     }
     
     @Override
@@ -106,6 +128,13 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     @Override
     public void close() {
         executorEngine.close();
+        closeSlaveLagMonitor();
+    }
+    
+    private void closeSlaveLagMonitor() {
+        if (null != slaveLagMonitor) {
+            slaveLagMonitor.close();
+        }
     }
     
     protected static Map<String, DataSource> getRawDataSourceMap(final Map<String, DataSource> dataSourceMap) {
@@ -20,7 +20,10 @@ package io.shardingsphere.core.jdbc.core.statement;
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.jdbc.adapter.AbstractMasterSlavePreparedStatementAdapter;
 import io.shardingsphere.core.jdbc.core.connection.MasterSlaveConnection;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyRecorder;
 import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.sql.PreparedStatement;
@@ -44,6 +47,9 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> routedDataSourceNames = new LinkedList<>();
+    
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
@@ -59,6 +65,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -68,6 +75,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, autoGeneratedKeys);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -77,6 +85,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnIndexes);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -86,13 +95,21 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnNames);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
         Preconditions.checkArgument(1 == routedStatements.size(), "Cannot support executeQuery for DDL");
-        return routedStatements.iterator().next().executeQuery();
+        String dataSourceName = routedDataSourceNames.iterator().next();
+        MasterSlaveRule masterSlaveRule = connection.getMasterSlaveDataSource().getMasterSlaveRule();
+        DataSourceLatencyRecorder latencyRecorder = new DataSourceLatencyRecorder().start(dataSourceName, masterSlaveRule.findLatencyStatistics(dataSourceName));
+        try {
+            return routedStatements.iterator().next().executeQuery();
+        } finally {
+            latencyRecorder.finish();
+        }
     }
     
     @Override
@@ -20,7 +20,9 @@ package io.shardingsphere.core.jdbc.core.statement;
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.jdbc.adapter.AbstractStatementAdapter;
 import io.shardingsphere.core.jdbc.core.connection.MasterSlaveConnection;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyRecorder;
 import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
+import io.shardingsphere.core.rule.MasterSlaveRule;
 import lombok.Getter;
 
 import java.sql.ResultSet;
@@ -71,9 +73,16 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public ResultSet executeQuery(final String sql) throws SQLException {
         Collection<String> dataSourceNames = masterSlaveRouter.route(sql);
         Preconditions.checkState(1 == dataSourceNames.size(), "Cannot support executeQuery for DML or DDL");
-        Statement statement = connection.getConnection(dataSourceNames.iterator().next()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        String dataSourceName = dataSourceNames.iterator().next();
+        Statement statement = connection.getConnection(dataSourceName).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
         routedStatements.add(statement);
-        return statement.executeQuery(sql);
+        MasterSlaveRule masterSlaveRule = connection.getMasterSlaveDataSource().getMasterSlaveRule();
+        DataSourceLatencyRecorder latencyRecorder = new DataSourceLatencyRecorder().start(dataSourceName, masterSlaveRule.findLatencyStatistics(dataSourceName));
+        try {
+            return statement.executeQuery(sql);
+        } finally {
+            latencyRecorder.finish();
+        }
     }
     
     @Override
@@ -18,8 +18,10 @@
 package io.shardingsphere.core.jdbc.core.statement;
 
 import com.google.common.base.Optional;
-import com.google.common.base.Predicate;
-import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureFallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.type.batch.BatchPreparedStatementExecutor;
 import io.shardingsphere.core.executor.type.batch.BatchPreparedStatementUnit;
@@ -36,13 +38,21 @@ import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.MergeEngineFactory;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.pagination.DeepPaginationEngine;
+import io.shardingsphere.core.merger.dql.pagination.DeepPaginationMergeEngine;
+import io.shardingsphere.core.merger.dql.pagination.DeepPaginationRange;
 import io.shardingsphere.core.merger.event.EventMergeType;
 import io.shardingsphere.core.merger.event.ResultSetMergeEvent;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.BatchInsertRoutingEngine;
+import io.shardingsphere.core.routing.BatchParameters;
+import io.shardingsphere.core.routing.BatchRouteResult;
+import io.shardingsphere.core.routing.BatchRoutingEngine;
 import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
@@ -51,7 +61,9 @@ import io.shardingsphere.core.routing.event.SqlRoutingEvent;
 import io.shardingsphere.core.routing.router.sharding.GeneratedKey;
 import io.shardingsphere.core.util.EventBusInstance;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -59,14 +71,24 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
 
 /**
  * PreparedStatement that support sharding.
  * 
+ * <p>
+ * Batched rows are routed in bulk when batch is executed, 
+ * so routing error of any batched row is thrown by {@code executeBatch} instead of {@code addBatch}, and no row of the batch is executed.
+ * </p>
+ * 
  * @author zhangliang
  * @author caohao
  * @author maxiaoguang
@@ -85,10 +107,16 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final PreparedStatementRoutingEngine routingEngine;
     
-    private final List<BatchPreparedStatementUnit> batchStatementUnits = new LinkedList<>();
+    private final Map<SQLExecutionUnit, BatchPreparedStatementUnit> batchStatementUnits = new LinkedHashMap<>();
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<PreparedStatementKey, PreparedStatement> cachedStatements = new LinkedHashMap<>(16, 0.75F, true);
 
+    @Getter(AccessLevel.NONE)
+    private final BatchParameters batchParameters = new BatchParameters();
+    
     private final String sql;
 
     private int batchCount;
@@ -99,9 +127,15 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Getter(AccessLevel.NONE)
     private SQLRouteResult routeResult;
     
-    @Getter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
     private ResultSet currentResultSet;
     
+    @Getter(AccessLevel.NONE)
+    private BatchInsertRoutingEngine batchInsertRoutingEngine;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile ListenableFuture<?> asyncExecutionFuture;
+    
     public ShardingPreparedStatement(final ShardingConnection connection, final String sql) {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
@@ -125,24 +159,24 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingContext();
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(), 
-                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource());
+                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), 
+                shardingContext.getParsingResultCache(), shardingContext.getRouteResultCache());
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
+        checkAsyncExecutionCompleted();
         routedStatements.clear();
         ResultSet result;
         try {
-            Collection<PreparedStatementUnit> preparedStatementUnits = route();
-            List<ResultSet> resultSets = new PreparedStatementExecutor(
-                    connection.getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits).executeQuery();
-            List<QueryResult> queryResults = new ArrayList<>(resultSets.size());
-            for (ResultSet each : resultSets) {
-                queryResults.add(new JDBCQueryResult(each));
+            sqlRoute();
+            Optional<ShardingResultSet> deepPaginationResultSet = executeDeepPaginationQuery();
+            if (deepPaginationResultSet.isPresent()) {
+                result = deepPaginationResultSet.get();
+            } else {
+                List<ResultSet> resultSets = executeQuery(routeResult.getExecutionUnits());
+                result = merge(resultSets, routeResult.getSqlStatement(), connection.getShardingContext().getMergeExecutorService(resultSets));
             }
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
-            result = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         } finally {
             clearBatch();
         }
@@ -150,44 +184,247 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
+    /**
+     * Execute query asynchronously.
+     * 
+     * <p>
+     * Route and rewrite are executed by caller thread, actual SQLs are executed and merged by executor threads without blocking caller thread.
+     * Query of deep pagination is executed by caller thread.
+     * Caller thread is blocked to wait for permits if concurrency limit of data sources is reached.
+     * Statement cannot be executed again until returned future is completed.
+     * </p>
+     * 
+     * @return future of merged result set
+     * @throws SQLException SQL exception
+     */
+    public ListenableFuture<ResultSet> executeQueryAsync() throws SQLException {
+        checkAsyncExecutionCompleted();
+        routedStatements.clear();
+        currentResultSet = null;
+        ListenableFuture<ResultSet> result;
+        try {
+            sqlRoute();
+            Optional<ShardingResultSet> deepPaginationResultSet = executeDeepPaginationQuery();
+            if (deepPaginationResultSet.isPresent()) {
+                result = Futures.<ResultSet>immediateFuture(deepPaginationResultSet.get());
+            } else {
+                final SQLStatement sqlStatement = routeResult.getSqlStatement();
+                result = Futures.transform(createPreparedStatementExecutor(sqlStatement.getType(), createPreparedStatementUnits(routeResult.getExecutionUnits())).executeQueryAsync(), 
+                        new AsyncFunction<List<ResultSet>, ResultSet>() {
+                            
+                            @Override
+                            public ListenableFuture<ResultSet> apply(final List<ResultSet> input) throws SQLException {
+                                return Futures.<ResultSet>immediateFuture(merge(input, sqlStatement, null));
+                            }
+                        });
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            clearBatch();
+            throw ex;
+        } finally {
+            clearParameters();
+        }
+        return watchAsyncExecution(result);
+    }
+    
+    private ShardingResultSet merge(final List<ResultSet> resultSets, final SQLStatement sqlStatement, final ExecutorService mergeExecutorService) throws SQLException {
+        MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getShardingRule(), getQueryResults(resultSets), sqlStatement, 
+                connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getGroupByMemoryMaxRows(), mergeExecutorService);
+        return new ShardingResultSet(resultSets, merge(mergeEngine), this);
+    }
+    
     @Override
     public int executeUpdate() throws SQLException {
+        checkAsyncExecutionCompleted();
         routedStatements.clear();
         try {
             Collection<PreparedStatementUnit> preparedStatementUnits = route();
-            return new PreparedStatementExecutor(
-                    connection.getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits).executeUpdate();
+            return createPreparedStatementExecutor(routeResult.getSqlStatement().getType(), preparedStatementUnits).executeUpdate();
         } finally {
             refreshTableMetaData();
             clearBatch();
         }
     }
     
+    /**
+     * Execute update asynchronously.
+     * 
+     * <p>
+     * Route and rewrite are executed by caller thread, actual SQLs are executed by executor threads without blocking caller thread.
+     * DDL is executed by caller thread to refresh table meta data.
+     * Caller thread is blocked to wait for permits if concurrency limit of data sources is reached.
+     * Statement cannot be executed again until returned future is completed.
+     * </p>
+     * 
+     * @return future of effected records count
+     * @throws SQLException SQL exception
+     */
+    public ListenableFuture<Integer> executeUpdateAsync() throws SQLException {
+        checkAsyncExecutionCompleted();
+        routedStatements.clear();
+        currentResultSet = null;
+        ListenableFuture<Integer> result;
+        try {
+            Collection<PreparedStatementUnit> preparedStatementUnits = route();
+            PreparedStatementExecutor preparedStatementExecutor = createPreparedStatementExecutor(routeResult.getSqlStatement().getType(), preparedStatementUnits);
+            result = SQLType.DDL == routeResult.getSqlStatement().getType() ? Futures.immediateFuture(preparedStatementExecutor.executeUpdate()) : preparedStatementExecutor.executeUpdateAsync();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            refreshTableMetaData();
+            clearBatch();
+            throw ex;
+        } finally {
+            clearParameters();
+        }
+        return watchAsyncExecution(result);
+    }
+    
+    private void checkAsyncExecutionCompleted() throws SQLException {
+        if (null != asyncExecutionFuture && !asyncExecutionFuture.isDone()) {
+            throw new SQLException("Previous asynchronous execution of this statement is not completed.");
+        }
+    }
+    
+    private <T> ListenableFuture<T> watchAsyncExecution(final ListenableFuture<T> future) {
+        ListenableFuture<T> result = Futures.transform(Futures.withFallback(future, new FutureFallback<T>() {
+            
+            @Override
+            public ListenableFuture<T> create(final Throwable cause) throws SQLException {
+                completeAsyncExecution();
+                return Futures.immediateFailedFuture(cause);
+            }
+        }), new AsyncFunction<T, T>() {
+            
+            @Override
+            public ListenableFuture<T> apply(final T input) throws SQLException {
+                completeAsyncExecution();
+                if (input instanceof ResultSet) {
+                    currentResultSet = (ResultSet) input;
+                }
+                return Futures.immediateFuture(input);
+            }
+        });
+        asyncExecutionFuture = result;
+        return result;
+    }
+    
+    private void completeAsyncExecution() throws SQLException {
+        refreshTableMetaData();
+        clearBatchStatements();
+    }
+    
     @Override
     public boolean execute() throws SQLException {
+        checkAsyncExecutionCompleted();
         routedStatements.clear();
         try {
             Collection<PreparedStatementUnit> preparedStatementUnits = route();
-            return new PreparedStatementExecutor(
-                    connection.getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits).execute();
+            return createPreparedStatementExecutor(routeResult.getSqlStatement().getType(), preparedStatementUnits).execute();
         } finally {
             refreshTableMetaData();
             clearBatch();
         }
     }
     
+    private Optional<ShardingResultSet> executeDeepPaginationQuery() throws SQLException {
+        if (!(routeResult.getSqlStatement() instanceof SelectStatement) || !DeepPaginationEngine.isDeepPagination(
+                (SelectStatement) routeResult.getSqlStatement(), routeResult.getExecutionUnits().size(), connection.getShardingContext().getDeepPaginationOffsetThreshold())) {
+            return Optional.absent();
+        }
+        SelectStatement selectStatement = (SelectStatement) routeResult.getSqlStatement();
+        DeepPaginationEngine deepPaginationEngine = new DeepPaginationEngine(selectStatement);
+        Optional<DeepPaginationRange> range;
+        try {
+            range = deepPaginationEngine.locate(getQueryResults(executeQuery(deepPaginationEngine.createSortKeyExecutionUnits(routeResult.getExecutionUnits()))));
+        } finally {
+            closeRoutedStatements();
+        }
+        if (!range.isPresent()) {
+            return Optional.absent();
+        }
+        List<ResultSet> resultSets = executeQuery(deepPaginationEngine.createRangeExecutionUnits(routeResult.getExecutionUnits(), range.get()));
+        MergeEngine mergeEngine = new DeepPaginationMergeEngine(getQueryResults(resultSets), selectStatement, range.get());
+        return Optional.of(new ShardingResultSet(resultSets, merge(mergeEngine), this));
+    }
+    
+    private List<ResultSet> executeQuery(final Collection<SQLExecutionUnit> executionUnits) throws SQLException {
+        return createPreparedStatementExecutor(routeResult.getSqlStatement().getType(), createPreparedStatementUnits(executionUnits)).executeQuery();
+    }
+    
+    private PreparedStatementExecutor createPreparedStatementExecutor(final SQLType sqlType, final Collection<PreparedStatementUnit> preparedStatementUnits) {
+        return new PreparedStatementExecutor(connection.getShardingContext().getExecutorEngine(), connection.getShardingContext().getShardingRule(), sqlType, preparedStatementUnits);
+    }
+    
+    private List<QueryResult> getQueryResults(final List<ResultSet> resultSets) {
+        List<QueryResult> result = new ArrayList<>(resultSets.size());
+        for (ResultSet each : resultSets) {
+            result.add(new JDBCQueryResult(each));
+        }
+        return result;
+    }
+    
+    private void closeRoutedStatements() throws SQLException {
+        for (PreparedStatement each : routedStatements) {
+            each.close();
+        }
+        cachedStatements.values().removeAll(routedStatements);
+        routedStatements.clear();
+    }
+    
     private Collection<PreparedStatementUnit> route() throws SQLException {
-        Collection<PreparedStatementUnit> result = new LinkedList<>();
         sqlRoute();
-        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            PreparedStatement preparedStatement = generatePreparedStatement(each);
+        return createPreparedStatementUnits(routeResult.getExecutionUnits());
+    }
+    
+    private Collection<PreparedStatementUnit> createPreparedStatementUnits(final Collection<SQLExecutionUnit> executionUnits) throws SQLException {
+        Collection<PreparedStatementUnit> result = new LinkedList<>();
+        for (SQLExecutionUnit each : executionUnits) {
+            PreparedStatement preparedStatement = getPreparedStatement(each);
             routedStatements.add(preparedStatement);
             replaySetParameter(preparedStatement, each.getSqlUnit().getParameterSets().get(0));
             result.add(new PreparedStatementUnit(each, preparedStatement));
         }
+        evictCachedStatements();
         return result;
     }
     
+    private PreparedStatement getPreparedStatement(final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
+        PreparedStatementKey key = new PreparedStatementKey(sqlExecutionUnit.getDataSource(), sqlExecutionUnit.getSqlUnit().getSql());
+        PreparedStatement result = cachedStatements.get(key);
+        if (null == result || result.isClosed()) {
+            result = generatePreparedStatement(sqlExecutionUnit);
+            cachedStatements.put(key, result);
+        }
+        replayMethodsInvocation(result);
+        return result;
+    }
+    
+    private void evictCachedStatements() throws SQLException {
+        Iterator<PreparedStatement> iterator = cachedStatements.values().iterator();
+        while (cachedStatements.size() > connection.getShardingContext().getPreparedStatementCacheMaxSize() && iterator.hasNext()) {
+            PreparedStatement each = iterator.next();
+            if (!isInUse(each)) {
+                iterator.remove();
+                each.close();
+            }
+        }
+    }
+    
+    private boolean isInUse(final PreparedStatement preparedStatement) {
+        if (routedStatements.contains(preparedStatement)) {
+            return true;
+        }
+        for (BatchPreparedStatementUnit each : batchStatementUnits.values()) {
+            if (each.getStatement() == preparedStatement) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private PreparedStatement generatePreparedStatement(final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
         Connection connection = this.connection.getConnection(sqlExecutionUnit.getDataSource());
         return returnGeneratedKeys ? connection.prepareStatement(sqlExecutionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
@@ -211,6 +448,55 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         EventBusInstance.getInstance().post(event);
     }
     
+    private List<SQLRouteResult> batchInsertRoute() {
+        SqlRoutingEvent event = new SqlRoutingEvent(sql);
+        EventBusInstance.getInstance().post(event);
+        List<SQLRouteResult> result;
+        try {
+            result = getBatchInsertRoutingEngine().route(batchParameters.getRows());
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            event.setException(ex);
+            event.setEventRoutingType(EventRoutingType.ROUTE_FAILURE);
+            EventBusInstance.getInstance().post(event);
+            throw ex;
+        }
+        event.setEventRoutingType(EventRoutingType.ROUTE_SUCCESS);
+        EventBusInstance.getInstance().post(event);
+        return result;
+    }
+    
+    private BatchRouteResult batchRoute() {
+        SqlRoutingEvent event = new SqlRoutingEvent(sql);
+        EventBusInstance.getInstance().post(event);
+        BatchRouteResult result;
+        try {
+            result = new BatchRoutingEngine(routingEngine).route(batchParameters);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            event.setException(ex);
+            event.setEventRoutingType(EventRoutingType.ROUTE_FAILURE);
+            EventBusInstance.getInstance().post(event);
+            throw ex;
+        }
+        event.setEventRoutingType(EventRoutingType.ROUTE_SUCCESS);
+        EventBusInstance.getInstance().post(event);
+        return result;
+    }
+    
+    private BatchInsertRoutingEngine getBatchInsertRoutingEngine() {
+        if (null == batchInsertRoutingEngine) {
+            ShardingContext shardingContext = connection.getShardingContext();
+            batchInsertRoutingEngine = new BatchInsertRoutingEngine(sql, (InsertStatement) routingEngine.parse(), 
+                    shardingContext.getBatchInsertRewriteMaxRows(), shardingContext.getBatchInsertRewriteMaxBytes(), shardingContext.getShardingRule(), 
+                    shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), 
+                    shardingContext.getParsingResultCache());
+        }
+        return batchInsertRoutingEngine;
+    }
+    
     private void refreshTableMetaData() {
         if (null != routeResult && null != connection && SQLType.DDL == routeResult.getSqlStatement().getType() && !routeResult.getSqlStatement().getTables().isEmpty()) {
             String logicTableName = routeResult.getSqlStatement().getTables().getSingleTableName();
@@ -221,20 +507,26 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     @Override
-    public void clearBatch() {
+    public void clearBatch() throws SQLException {
         currentResultSet = null;
         clearParameters();
+        clearBatchStatements();
+    }
+    
+    private void clearBatchStatements() throws SQLException {
+        for (BatchPreparedStatementUnit each : batchStatementUnits.values()) {
+            each.getStatement().clearBatch();
+        }
         batchStatementUnits.clear();
+        batchParameters.clear();
         batchCount = 0;
     }
     
     @Override
     public void addBatch() throws SQLException {
+        checkAsyncExecutionCompleted();
         try {
-            for (BatchPreparedStatementUnit each : routeBatch()) {
-                each.getStatement().addBatch();
-                each.mapAddBatchCount(batchCount);
-            }
+            batchParameters.add(getParameters());
             batchCount++;
         } finally {
             currentResultSet = null;
@@ -242,44 +534,72 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
-    private List<BatchPreparedStatementUnit> routeBatch() throws SQLException {
-        List<BatchPreparedStatementUnit> result = new ArrayList<>();
-        sqlRoute();
-        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            BatchPreparedStatementUnit batchStatementUnit = getPreparedBatchStatement(each);
-            replaySetParameter(batchStatementUnit.getStatement(), each.getSqlUnit().getParameterSets().get(0));
-            result.add(batchStatementUnit);
-        }
-        return result;
-    }
-    
-    private BatchPreparedStatementUnit getPreparedBatchStatement(final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
-        Optional<BatchPreparedStatementUnit> preparedBatchStatement = Iterators.tryFind(batchStatementUnits.iterator(), new Predicate<BatchPreparedStatementUnit>() {
-            
-            @Override
-            public boolean apply(final BatchPreparedStatementUnit input) {
-                return Objects.equals(input.getSqlExecutionUnit(), sqlExecutionUnit);
-            }
-        });
-        if (preparedBatchStatement.isPresent()) {
-            preparedBatchStatement.get().getSqlExecutionUnit().getSqlUnit().getParameterSets().add(sqlExecutionUnit.getSqlUnit().getParameterSets().get(0));
-            return preparedBatchStatement.get();
-        }
-        BatchPreparedStatementUnit result = new BatchPreparedStatementUnit(sqlExecutionUnit, generatePreparedStatement(sqlExecutionUnit));
-        batchStatementUnits.add(result);
-        return result;
+    private boolean isBatchInsertRewritable() {
+        ShardingContext shardingContext = connection.getShardingContext();
+        return shardingContext.getBatchInsertRewriteMaxRows() > 0 && BatchInsertRoutingEngine.isRewritable(routingEngine.parse(), shardingContext.getDatabaseType());
     }
     
     @Override
     public int[] executeBatch() throws SQLException {
+        checkAsyncExecutionCompleted();
         try {
+            if (batchParameters.isEmpty()) {
+                return new int[0];
+            }
+            if (isBatchInsertRewritable()) {
+                return executeBatchInsert();
+            }
+            routeBatch();
             return new BatchPreparedStatementExecutor(connection.getShardingContext().getExecutorEngine(),
-                    connection.getShardingContext().getDatabaseType(), routeResult.getSqlStatement().getType(), batchStatementUnits, batchCount).executeBatch();
+                    connection.getShardingContext().getDatabaseType(), routeResult.getSqlStatement().getType(), batchStatementUnits.values(), batchCount).executeBatch();
         } finally {
             clearBatch();
         }
     }
     
+    private void routeBatch() throws SQLException {
+        BatchRouteResult batchRouteResult = batchRoute();
+        routeResult = batchRouteResult.getLastRouteResult();
+        for (Entry<SQLExecutionUnit, List<Integer>> entry : batchRouteResult.getExecutionUnits().entrySet()) {
+            BatchPreparedStatementUnit batchStatementUnit = new BatchPreparedStatementUnit(entry.getKey(), getPreparedStatement(entry.getKey()));
+            batchStatementUnits.put(entry.getKey(), batchStatementUnit);
+            Iterator<List<Object>> parameterSets = entry.getKey().getSqlUnit().getParameterSets().iterator();
+            for (int each : entry.getValue()) {
+                replaySetParameter(batchStatementUnit.getStatement(), parameterSets.next());
+                batchStatementUnit.getStatement().addBatch();
+                batchStatementUnit.mapAddBatchCount(each);
+            }
+        }
+        evictCachedStatements();
+    }
+    
+    private int[] executeBatchInsert() throws SQLException {
+        int[] result = new int[batchParameters.getRowCount()];
+        List<SQLRouteResult> routeResults = batchInsertRoute();
+        int count = 0;
+        for (SQLRouteResult each : routeResults) {
+            routedStatements.clear();
+            int rows = ((InsertStatement) each.getSqlStatement()).getInsertValues().getInsertValues().size();
+            int updated = createPreparedStatementExecutor(each.getSqlStatement().getType(), createPreparedStatementUnits(each.getExecutionUnits())).executeUpdate();
+            Arrays.fill(result, count, count + rows, rows == updated ? 1 : Statement.SUCCESS_NO_INFO);
+            count += rows;
+        }
+        routeResult = combineRouteResults(routeResults);
+        return result;
+    }
+    
+    private SQLRouteResult combineRouteResults(final List<SQLRouteResult> routeResults) {
+        SQLRouteResult lastRouteResult = routeResults.get(routeResults.size() - 1);
+        if (null == lastRouteResult.getGeneratedKey()) {
+            return lastRouteResult;
+        }
+        GeneratedKey generatedKey = new GeneratedKey(lastRouteResult.getGeneratedKey().getColumn());
+        for (SQLRouteResult each : routeResults) {
+            generatedKey.getGeneratedKeys().addAll(each.getGeneratedKey().getGeneratedKeys());
+        }
+        return new SQLRouteResult(lastRouteResult.getSqlStatement(), generatedKey);
+    }
+    
     @Override
     public ResultSet getGeneratedKeys() throws SQLException {
         Optional<GeneratedKey> generatedKey = getGeneratedKey();
@@ -317,12 +637,18 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), 
+                    connection.getShardingContext().getGroupByMemoryMaxRows(), connection.getShardingContext().getMergeExecutorService(resultSets));
             currentResultSet = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         }
         return currentResultSet;
     }
     
+    @Override
+    protected Collection<PreparedStatement> getCachedStatements() {
+        return cachedStatements.values();
+    }
+    
     private MergedResult merge(final MergeEngine mergeEngine) throws SQLException {
         ResultSetMergeEvent event = new ResultSetMergeEvent();
         try {
@@ -340,4 +666,13 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             throw ex;
         }
     }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PreparedStatementKey {
+        
+        private final String dataSource;
+        
+        private final String sql;
+    }
 }
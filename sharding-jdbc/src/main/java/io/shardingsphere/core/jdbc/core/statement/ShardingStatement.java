@@ -84,7 +84,7 @@ public class ShardingStatement extends AbstractStatementAdapter {
     @Getter(AccessLevel.NONE)
     private SQLRouteResult routeResult;
     
-    @Getter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
     private ResultSet currentResultSet;
     
     public ShardingStatement(final ShardingConnection connection) {
@@ -113,7 +113,8 @@ public class ShardingStatement extends AbstractStatementAdapter {
                 queryResults.add(new JDBCQueryResult(each));
             }
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), 
+                    connection.getShardingContext().getGroupByMemoryMaxRows(), connection.getShardingContext().getMergeExecutorService(resultSets));
             result = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         } finally {
             currentResultSet = null;
@@ -216,7 +217,8 @@ public class ShardingStatement extends AbstractStatementAdapter {
             statementUnits.add(new StatementUnit(each, statement));
             routedStatements.add(statement);
         }
-        return new StatementExecutor(connection.getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), statementUnits);
+        return new StatementExecutor(
+                connection.getShardingContext().getExecutorEngine(), connection.getShardingContext().getShardingRule(), routeResult.getSqlStatement().getType(), statementUnits);
     }
     
     private void clearPrevious() throws SQLException {
@@ -232,7 +234,8 @@ public class ShardingStatement extends AbstractStatementAdapter {
         EventBusInstance.getInstance().post(event);
         try {
             routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(), 
-                    shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource()).route(sql);
+                    shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), 
+                    shardingContext.getParsingResultCache(), shardingContext.getRouteResultCache()).route(sql);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -291,7 +294,8 @@ public class ShardingStatement extends AbstractStatementAdapter {
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), 
+                    connection.getShardingContext().getGroupByMemoryMaxRows(), connection.getShardingContext().getMergeExecutorService(resultSets));
             currentResultSet = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         }
         return currentResultSet;
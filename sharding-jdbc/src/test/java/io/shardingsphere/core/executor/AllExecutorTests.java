@@ -29,7 +29,9 @@ import org.junit.runners.Suite;
         ExecutorExceptionHandlerTest.class, 
         StatementExecutorTest.class, 
         PreparedStatementExecutorTest.class,
-        BatchPreparedStatementExecutorTest.class
+        BatchPreparedStatementExecutorTest.class, 
+        DataSourceBulkheadTest.class, 
+        LatencyStatisticsExecuteCallbackTest.class
     })
 public class AllExecutorTests {
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceBulkheadTest {
+    
+    @Test(expected = SQLException.class)
+    public void assertAcquireRejectedWithoutQueue() throws SQLException {
+        DataSourceBulkhead bulkhead = new DataSourceBulkhead("ds_0", 1, 0, false);
+        bulkhead.acquire();
+        bulkhead.acquire();
+    }
+    
+    @Test
+    public void assertAcquireAfterReleased() throws SQLException, InterruptedException {
+        final DataSourceBulkhead bulkhead = new DataSourceBulkhead("ds_0", 1, 1, false);
+        bulkhead.acquire();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    bulkhead.acquire();
+                    acquired.countDown();
+                } catch (final SQLException ignored) {
+                }
+            }
+        });
+        waiter.start();
+        bulkhead.release(1L);
+        assertTrue(acquired.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertAdaptiveLimitDecreasedAndRecovered() throws SQLException {
+        DataSourceBulkhead bulkhead = new DataSourceBulkhead("ds_0", 10, 0, true);
+        bulkhead.acquire();
+        bulkhead.release(100L);
+        for (int i = 0; i < 10; i++) {
+            bulkhead.acquire();
+            bulkhead.release(1000L);
+        }
+        assertThat(bulkhead.getLimit(), is(3));
+        for (int i = 0; i < 100; i++) {
+            bulkhead.acquire();
+            bulkhead.release(100L);
+        }
+        assertThat(bulkhead.getLimit(), is(10));
+    }
+}
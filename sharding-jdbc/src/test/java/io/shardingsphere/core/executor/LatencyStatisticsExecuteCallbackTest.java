@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import io.shardingsphere.core.api.algorithm.masterslave.LeastLatencyMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class LatencyStatisticsExecuteCallbackTest {
+    
+    @Test
+    public void assertExecuteForSlaveDataSource() throws Exception {
+        ShardingRule shardingRule = createShardingRule(new LeastLatencyMasterSlaveLoadBalanceAlgorithm());
+        assertThat(createCallback(shardingRule).execute(createStatementUnit("slave_0")), is("slave_0"));
+        assertTrue(getMasterSlaveRule(shardingRule).getLatencyStatistics().getLoad("slave_0") > 0D);
+    }
+    
+    @Test
+    public void assertExecuteForMasterDataSource() throws Exception {
+        ShardingRule shardingRule = createShardingRule(new LeastLatencyMasterSlaveLoadBalanceAlgorithm());
+        assertThat(createCallback(shardingRule).execute(createStatementUnit("master_0")), is("master_0"));
+        assertThat(getMasterSlaveRule(shardingRule).getLatencyStatistics().getLoad("master_0"), is(0D));
+    }
+    
+    @Test
+    public void assertExecuteForSlaveDataSourceWithoutLeastLatencyLoadBalanceAlgorithm() throws Exception {
+        ShardingRule shardingRule = createShardingRule(new RoundRobinMasterSlaveLoadBalanceAlgorithm());
+        assertThat(createCallback(shardingRule).execute(createStatementUnit("slave_0")), is("slave_0"));
+        assertThat(getMasterSlaveRule(shardingRule).getLatencyStatistics().getLoad("slave_0"), is(0D));
+    }
+    
+    private ShardingRule createShardingRule(final MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getMasterSlaveRuleConfigs().add(new MasterSlaveRuleConfiguration("ms_0", "master_0", Collections.singletonList("slave_0"), loadBalanceAlgorithm));
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("master_0", "slave_0"));
+    }
+    
+    private MasterSlaveRule getMasterSlaveRule(final ShardingRule shardingRule) {
+        return shardingRule.findMasterSlaveRule("slave_0").get();
+    }
+    
+    private ExecuteCallback<String> createCallback(final ShardingRule shardingRule) {
+        return new LatencyStatisticsExecuteCallback<>(shardingRule, new ExecuteCallback<String>() {
+            
+            @Override
+            public String execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+                Thread.sleep(1L);
+                return baseStatementUnit.getSqlExecutionUnit().getDataSource();
+            }
+        });
+    }
+    
+    private BaseStatementUnit createStatementUnit(final String dataSourceName) {
+        BaseStatementUnit result = mock(BaseStatementUnit.class);
+        when(result.getSqlExecutionUnit()).thenReturn(new SQLExecutionUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.<List<Object>>emptyList())));
+        return result;
+    }
+}
@@ -73,9 +73,10 @@ public final class StatementAdapterTest extends AbstractShardingJDBCDatabaseAndT
     @Test
     public void assertClose() throws SQLException {
         for (Statement each : statements.values()) {
-            each.executeQuery(sql);
+            ResultSet resultSet = each.executeQuery(sql);
             each.close();
             assertTrue(each.isClosed());
+            assertTrue(resultSet.isClosed());
             assertTrue(((ShardingStatement) each).getRoutedStatements().isEmpty());
         }
     }
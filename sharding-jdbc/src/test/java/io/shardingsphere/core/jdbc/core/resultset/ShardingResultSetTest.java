@@ -46,6 +46,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -75,6 +76,13 @@ public final class ShardingResultSetTest {
         assertFalse(shardingResultSet.wasNull());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingResultSet.close();
+        verify(mergeResultSet).close();
+        assertTrue(shardingResultSet.isClosed());
+    }
+    
     @Test
     public void assertGetBooleanWithColumnIndex() throws SQLException {
         when(mergeResultSet.getValue(1, boolean.class)).thenReturn(true);
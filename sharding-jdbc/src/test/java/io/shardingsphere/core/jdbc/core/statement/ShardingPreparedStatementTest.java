@@ -18,27 +18,41 @@
 package io.shardingsphere.core.jdbc.core.statement;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import io.shardingsphere.core.common.base.AbstractShardingJDBCDatabaseAndTableTest;
+import io.shardingsphere.core.constant.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.event.DMLExecutionEvent;
+import io.shardingsphere.core.executor.event.DQLExecutionEvent;
 import io.shardingsphere.core.executor.event.EventExecutionType;
 import io.shardingsphere.core.jdbc.JDBCTestSQL;
+import io.shardingsphere.core.jdbc.core.ShardingContext;
+import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
+import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.core.util.EventBusInstance;
 import io.shardingsphere.core.util.SQLPlaceholderUtil;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDatabaseAndTableTest {
     
@@ -89,6 +103,35 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         EventBusInstance.getInstance().unregister(listener);
     }
     
+    @Test
+    public void assertExecuteBatchWithUnroutableRow() throws SQLException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?")) {
+            preparedStatement.setString(1, "BATCH");
+            preparedStatement.setInt(2, 10);
+            preparedStatement.setInt(3, 1000);
+            preparedStatement.addBatch();
+            preparedStatement.setString(1, "BATCH");
+            preparedStatement.setInt(2, -1);
+            preparedStatement.setInt(3, -1);
+            preparedStatement.addBatch();
+            try {
+                preparedStatement.executeBatch();
+                fail("Expected routing error of batched row.");
+            } catch (final IllegalStateException ex) {
+                assertThat(ex.getMessage(), is("no database route info"));
+            }
+            assertThat(preparedStatement.executeBatch().length, is(0));
+            try (
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT status FROM t_order WHERE user_id = 10 AND order_id = 1000")) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getString(1), is("init"));
+            }
+        }
+    }
+    
     @Test
     public void assertAddBatchWithoutGenerateKeyColumn() throws SQLException {
         String sql = SQLPlaceholderUtil.replacePreparedStatement(JDBCTestSQL.INSERT_WITH_AUTO_INCREMENT_COLUMN_SQL);
@@ -228,6 +271,40 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertUpdateBatchWithShardingValues() throws SQLException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("UPDATE t_order SET status = ? WHERE order_id = ? AND user_id = ?")) {
+            addUpdateStatusBatch(preparedStatement, "batch_0", 1000, 10);
+            addUpdateStatusBatch(preparedStatement, "batch_1", 1100, 11);
+            addUpdateStatusBatch(preparedStatement, "batch_2", 1000, 10);
+            addUpdateStatusBatch(preparedStatement, "batch_3", 1999, 10);
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(4));
+            assertThat(result[0], is(1));
+            assertThat(result[1], is(1));
+            assertThat(result[2], is(1));
+            assertThat(result[3], is(0));
+            try (
+                    PreparedStatement queryStatement = connection.prepareStatement("SELECT status FROM t_order WHERE order_id = ? AND user_id = ?")) {
+                queryStatement.setInt(1, 1000);
+                queryStatement.setInt(2, 10);
+                try (ResultSet resultSet = queryStatement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getString(1), is("batch_2"));
+                }
+            }
+        }
+    }
+    
+    private void addUpdateStatusBatch(final PreparedStatement preparedStatement, final String status, final int orderId, final int userId) throws SQLException {
+        preparedStatement.setString(1, status);
+        preparedStatement.setInt(2, orderId);
+        preparedStatement.setInt(3, userId);
+        preparedStatement.addBatch();
+    }
+    
     @Test
     public void assertClearBatch() throws SQLException {
         try (
@@ -243,4 +320,257 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
             assertThat(result.length, is(0));
         }
     }
+    
+    @Test
+    public void assertAddBatchAfterClearBatch() throws SQLException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(JDBCTestSQL.INSERT_ORDER_ITEM_WITH_ALL_PLACEHOLDERS_SQL)) {
+            preparedStatement.setInt(1, 3101);
+            preparedStatement.setInt(2, 11);
+            preparedStatement.setInt(3, 11);
+            preparedStatement.setString(4, "BATCH");
+            preparedStatement.addBatch();
+            preparedStatement.clearBatch();
+            preparedStatement.setInt(1, 3103);
+            preparedStatement.setInt(2, 11);
+            preparedStatement.setInt(3, 11);
+            preparedStatement.setString(4, "BATCH");
+            preparedStatement.addBatch();
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(1));
+            assertThat(result[0], is(1));
+            try (
+                    PreparedStatement queryStatement = connection.prepareStatement("SELECT item_id FROM t_order_item WHERE order_id = ? AND user_id = ? AND status = ?")) {
+                queryStatement.setInt(1, 11);
+                queryStatement.setInt(2, 11);
+                queryStatement.setString(3, "BATCH");
+                ResultSet resultSet = queryStatement.executeQuery();
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(3103));
+                assertFalse(resultSet.next());
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteBatchWithBatchInsertRewrite() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.BATCH_INSERT_REWRITE_MAX_ROWS.getKey(), "2");
+        ShardingContext shardingContext = getShardingDataSource().getConnection().getShardingContext();
+        ShardingDataSource dataSource = new ShardingDataSource(shardingContext.getDataSourceMap(), shardingContext.getShardingRule(), Collections.<String, Object>emptyMap(), props);
+        final List<String> executedSQLs = new CopyOnWriteArrayList<>();
+        Object listener = new Object() {
+            
+            @Subscribe
+            public void subscribe(final DMLExecutionEvent event) {
+                if (event.getEventExecutionType() == EventExecutionType.BEFORE_EXECUTE) {
+                    executedSQLs.add(event.getSqlUnit().getSql());
+                }
+            }
+        };
+        EventBusInstance.getInstance().register(listener);
+        String sql = SQLPlaceholderUtil.replacePreparedStatement(JDBCTestSQL.INSERT_WITH_AUTO_INCREMENT_COLUMN_SQL);
+        int[] shardingValues = {31, 41, 32, 42};
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                Statement queryStatement = connection.createStatement()) {
+            for (int each : shardingValues) {
+                preparedStatement.setInt(1, each);
+                preparedStatement.setInt(2, each);
+                preparedStatement.setString(3, "BATCH");
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(4));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+            ResultSet generateKeyResultSet = preparedStatement.getGeneratedKeys();
+            for (int each : shardingValues) {
+                assertTrue(generateKeyResultSet.next());
+                try (ResultSet rs = queryStatement.executeQuery(String.format(JDBCTestSQL.SELECT_WITH_AUTO_INCREMENT_COLUMN_SQL, each, each))) {
+                    assertTrue(rs.next());
+                    assertThat(rs.getLong(1), is(generateKeyResultSet.getLong(1)));
+                }
+            }
+            assertFalse(generateKeyResultSet.next());
+        } finally {
+            EventBusInstance.getInstance().unregister(listener);
+            dataSource.close();
+        }
+        assertThat(executedSQLs.size(), is(2));
+        for (String each : executedSQLs) {
+            assertTrue(each.contains("), ("));
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryAsync() throws SQLException, ExecutionException, InterruptedException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM t_order_item WHERE order_id IN (?, ?)")) {
+            preparedStatement.setInt(1, 1000);
+            preparedStatement.setInt(2, 1001);
+            ListenableFuture<ResultSet> future = preparedStatement.unwrap(ShardingPreparedStatement.class).executeQueryAsync();
+            try (ResultSet resultSet = future.get()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(4));
+                assertFalse(resultSet.next());
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteUpdateAsync() throws SQLException, ExecutionException, InterruptedException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("UPDATE t_order_item SET status = ? WHERE order_id IN (?, ?)")) {
+            preparedStatement.setString(1, "ASYNC");
+            preparedStatement.setInt(2, 1000);
+            preparedStatement.setInt(3, 1001);
+            assertThat(preparedStatement.unwrap(ShardingPreparedStatement.class).executeUpdateAsync().get(), is(4));
+        }
+    }
+    
+    @Test
+    public void assertGetResultSetAfterExecuteQueryAsync() throws SQLException, ExecutionException, InterruptedException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM t_order_item WHERE order_id IN (?, ?)")) {
+            preparedStatement.setInt(1, 1000);
+            preparedStatement.setInt(2, 1001);
+            try (ResultSet resultSet = preparedStatement.unwrap(ShardingPreparedStatement.class).executeQueryAsync().get()) {
+                assertThat(preparedStatement.getResultSet(), is(resultSet));
+            }
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteQueryWhenAsyncExecutionNotCompleted() throws SQLException, ReflectiveOperationException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM t_order_item WHERE order_id IN (?, ?)")) {
+            Field field = ShardingPreparedStatement.class.getDeclaredField("asyncExecutionFuture");
+            field.setAccessible(true);
+            field.set(preparedStatement.unwrap(ShardingPreparedStatement.class), SettableFuture.create());
+            preparedStatement.setInt(1, 1000);
+            preparedStatement.setInt(2, 1001);
+            preparedStatement.executeQuery();
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryAsyncByConnection() throws SQLException, ExecutionException, InterruptedException {
+        try (ShardingConnection connection = getShardingDataSource().getConnection()) {
+            ResultSet resultSet = connection.executeQueryAsync("SELECT COUNT(*) FROM t_order_item WHERE order_id IN (?, ?)", Arrays.<Object>asList(1000, 1001)).get();
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt(1), is(4));
+            resultSet.getStatement().close();
+            assertTrue(resultSet.getStatement().isClosed());
+        }
+    }
+    
+    @Test
+    public void assertExecuteUpdateAsyncByConnection() throws SQLException, ExecutionException, InterruptedException {
+        try (ShardingConnection connection = getShardingDataSource().getConnection()) {
+            assertThat(connection.executeUpdateAsync("UPDATE t_order_item SET status = ? WHERE order_id IN (?, ?)", Arrays.<Object>asList("ASYNC", 1000, 1001)).get(), is(4));
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryForDeepPagination() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PAGINATION_DEEP_OFFSET_THRESHOLD.getKey(), "1");
+        ShardingContext shardingContext = getShardingDataSource().getConnection().getShardingContext();
+        ShardingDataSource dataSource = new ShardingDataSource(shardingContext.getDataSourceMap(), shardingContext.getShardingRule(), Collections.<String, Object>emptyMap(), props);
+        final List<String> executedSQLs = new CopyOnWriteArrayList<>();
+        Object listener = new Object() {
+            
+            @Subscribe
+            public void subscribe(final DQLExecutionEvent event) {
+                if (event.getEventExecutionType() == EventExecutionType.BEFORE_EXECUTE) {
+                    executedSQLs.add(event.getSqlUnit().getSql());
+                }
+            }
+        };
+        EventBusInstance.getInstance().register(listener);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("SELECT * FROM t_order_item ORDER BY order_id LIMIT ?, ?")) {
+            preparedStatement.setInt(1, 3);
+            preparedStatement.setInt(2, 3);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt("order_id"), is(1001));
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt("order_id"), is(1100));
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt("order_id"), is(1100));
+            assertFalse(resultSet.next());
+        } finally {
+            EventBusInstance.getInstance().unregister(listener);
+            dataSource.close();
+        }
+        assertThat(executedSQLs.size(), is(8));
+        assertTrue(executedSQLs.get(0).startsWith("SELECT sharding_page.order_id FROM (SELECT * FROM t_order_item_"));
+        assertTrue(executedSQLs.get(7).startsWith("SELECT * FROM (SELECT * FROM t_order_item_"));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithCachedRoutedStatements() throws SQLException {
+        List<PreparedStatement> firstRoutedStatements;
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("SELECT * FROM t_order_item WHERE order_id = ?")) {
+            preparedStatement.setInt(1, 1001);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt("order_id"), is(1001));
+            }
+            firstRoutedStatements = new ArrayList<>(((ShardingPreparedStatement) preparedStatement).getRoutedStatements());
+            assertFalse(firstRoutedStatements.isEmpty());
+            preparedStatement.setInt(1, 1001);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt("order_id"), is(1001));
+            }
+            assertThat(new ArrayList<>(((ShardingPreparedStatement) preparedStatement).getRoutedStatements()), is(firstRoutedStatements));
+        }
+        for (PreparedStatement each : firstRoutedStatements) {
+            assertTrue(each.isClosed());
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWithEvictedCachedRoutedStatements() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PREPARED_STATEMENT_CACHE_MAX_SIZE.getKey(), "0");
+        ShardingContext shardingContext = getShardingDataSource().getConnection().getShardingContext();
+        ShardingDataSource dataSource = new ShardingDataSource(shardingContext.getDataSourceMap(), shardingContext.getShardingRule(), Collections.<String, Object>emptyMap(), props);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("SELECT * FROM t_order_item WHERE order_id = ?")) {
+            preparedStatement.setInt(1, 1001);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt("order_id"), is(1001));
+            }
+            List<PreparedStatement> firstRoutedStatements = new ArrayList<>(((ShardingPreparedStatement) preparedStatement).getRoutedStatements());
+            preparedStatement.setInt(1, 1100);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt("order_id"), is(1100));
+            }
+            for (PreparedStatement each : firstRoutedStatements) {
+                assertTrue(each.isClosed());
+            }
+            for (PreparedStatement each : ((ShardingPreparedStatement) preparedStatement).getRoutedStatements()) {
+                assertFalse(each.isClosed());
+            }
+        } finally {
+            dataSource.close();
+        }
+    }
 }
@@ -18,12 +18,20 @@
 package io.shardingsphere.core.jdbc.core.statement;
 
 import io.shardingsphere.core.common.base.AbstractShardingJDBCDatabaseAndTableTest;
+import io.shardingsphere.core.constant.ShardingPropertiesConstant;
+import io.shardingsphere.core.jdbc.core.ShardingContext;
+import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
+import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FilenameFilter;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -63,4 +71,39 @@ public final class ShardingStatementTest extends AbstractShardingJDBCDatabaseAnd
             assertThat(generatedKeysResultSet.getLong(1), is(7L));
         }
     }
+    
+    @Test
+    public void assertCloseSpilledResultSetWhenCloseStatement() throws SQLException {
+        ShardingContext shardingContext;
+        try (ShardingConnection connection = getShardingDataSource().getConnection()) {
+            shardingContext = connection.getShardingContext();
+        }
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MERGE_GROUP_BY_MEMORY_MAX_ROWS.getKey(), "1");
+        ShardingDataSource spillingDataSource = new ShardingDataSource(shardingContext.getDataSourceMap(), shardingContext.getShardingRule(), new HashMap<String, Object>(), props);
+        int spillFileCount = countSpillFiles();
+        try (
+                Connection connection = spillingDataSource.getConnection();
+                Statement stmt = connection.createStatement()) {
+            ResultSet resultSet = stmt.executeQuery("SELECT order_id, COUNT(*) AS items_count FROM t_order_item GROUP BY order_id ORDER BY items_count DESC");
+            assertTrue(resultSet.next());
+            assertTrue(countSpillFiles() > spillFileCount);
+            stmt.close();
+            assertTrue(resultSet.isClosed());
+            assertThat(countSpillFiles(), is(spillFileCount));
+        } finally {
+            spillingDataSource.close();
+        }
+    }
+    
+    private int countSpillFiles() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-spill-");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
 }
@@ -17,6 +17,8 @@
 
 package io.shardingsphere.proxy.backend;
 
+import com.google.common.base.Optional;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 
 import java.sql.SQLException;
@@ -50,4 +52,19 @@ public interface BackendHandler {
      * @throws SQLException SQL exception
      */
     ResultPacket getResultValue() throws SQLException;
+    
+    /**
+     * Get result value which can be written to client without decoding and encoding.
+     *
+     * @return passthrough result value, absent if result value should be got by {@code getResultValue()}
+     * @throws SQLException SQL exception
+     */
+    Optional<DatabasePacket> getPassthroughResultValue() throws SQLException;
+    
+    /**
+     * Close backend handler and release resources held by result values.
+     *
+     * @throws SQLException SQL exception
+     */
+    void close() throws SQLException;
 }
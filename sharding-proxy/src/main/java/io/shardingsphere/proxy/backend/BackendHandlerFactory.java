@@ -27,6 +27,8 @@ import io.shardingsphere.proxy.transport.common.packet.CommandPacketRebuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * Backend handler factory.
  *
@@ -49,4 +51,20 @@ public final class BackendHandlerFactory {
         return RULE_REGISTRY.isProxyBackendUseNio()
                 ? new SQLPacketsBackendHandler(rebuilder, databaseType) : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createTextProtocolInstance(backendConnection));
     }
+    
+    /**
+     * Create new instance of binary protocol backend handler.
+     * 
+     * @param sql SQL to be executed
+     * @param parameters SQL parameters
+     * @param backendConnection backend connection
+     * @param databaseType database type
+     * @param connectionId frontend connection ID
+     * @return instance of binary protocol backend handler
+     */
+    public static BackendHandler newBinaryProtocolInstance(final String sql, final List<Object> parameters, 
+                                                           final BackendConnection backendConnection, final DatabaseType databaseType, final int connectionId) {
+        return RULE_REGISTRY.isProxyBackendUseNio() ? new SQLPacketsBackendHandler(connectionId, sql, databaseType, parameters)
+                : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createBinaryProtocolInstance(parameters, backendConnection));
+    }
 }
@@ -35,6 +35,7 @@ import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteResponse;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteUpdateResponse;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.config.ProxyTableMetaDataConnectionManager;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
@@ -113,7 +114,8 @@ public final class JDBCBackendHandler implements BackendHandler {
             return ((ExecuteUpdateResponse) executeResponse).merge();
         }
         mergedResult = MergeEngineFactory.newInstance(
-                RULE_REGISTRY.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, RULE_REGISTRY.getMetaData().getTable()).merge();
+                RULE_REGISTRY.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, RULE_REGISTRY.getMetaData().getTable(), 
+                RULE_REGISTRY.getGroupByMemoryMaxRows()).merge();
         QueryResponsePackets result = ((ExecuteQueryResponse) executeResponse).getQueryResponsePackets();
         currentSequenceId = result.getPackets().size();
         return result;
@@ -150,4 +152,16 @@ public final class JDBCBackendHandler implements BackendHandler {
         }
         return new ResultPacket(++currentSequenceId, data, columnCount, queryResponsePackets.getColumnTypes());
     }
+    
+    @Override
+    public Optional<DatabasePacket> getPassthroughResultValue() {
+        return Optional.absent();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != mergedResult) {
+            mergedResult.close();
+        }
+    }
 }
@@ -18,12 +18,14 @@
 package io.shardingsphere.proxy.backend.jdbc.execute;
 
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyRecorder;
 import io.shardingsphere.proxy.backend.SQLExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.unit.ExecuteQueryResponseUnit;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.unit.ExecuteResponseUnit;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.unit.ExecuteUpdateResponseUnit;
 import io.shardingsphere.proxy.backend.jdbc.wrapper.JDBCExecutorWrapper;
+import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
@@ -67,10 +69,10 @@ public abstract class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private List<ColumnType> columnTypes;
     
-    protected ExecuteResponseUnit executeWithMetadata(final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+    protected ExecuteResponseUnit executeWithMetadata(final String dataSourceName, final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
         backendConnection.add(statement);
         setFetchSize(statement);
-        if (!jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys)) {
+        if (!executeSQL(dataSourceName, statement, sql, isReturnGeneratedKeys)) {
             return new ExecuteUpdateResponseUnit(new OKPacket(1, statement.getUpdateCount(), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
         }
         ResultSet resultSet = statement.getResultSet();
@@ -82,10 +84,10 @@ public abstract class JDBCExecuteEngine implements SQLExecuteEngine {
         return new ExecuteQueryResponseUnit(getHeaderPackets(resultSetMetaData), createQueryResult(resultSet));
     }
     
-    protected ExecuteResponseUnit executeWithoutMetadata(final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+    protected ExecuteResponseUnit executeWithoutMetadata(final String dataSourceName, final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
         backendConnection.add(statement);
         setFetchSize(statement);
-        if (!jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys)) {
+        if (!executeSQL(dataSourceName, statement, sql, isReturnGeneratedKeys)) {
             return new ExecuteUpdateResponseUnit(new OKPacket(1, statement.getUpdateCount(), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
         }
         ResultSet resultSet = statement.getResultSet();
@@ -93,6 +95,15 @@ public abstract class JDBCExecuteEngine implements SQLExecuteEngine {
         return new ExecuteQueryResponseUnit(null, createQueryResult(resultSet));
     }
     
+    private boolean executeSQL(final String dataSourceName, final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        DataSourceLatencyRecorder latencyRecorder = new DataSourceLatencyRecorder().start(dataSourceName, RuleRegistry.getInstance().findLatencyStatistics(dataSourceName));
+        try {
+            return jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys);
+        } finally {
+            latencyRecorder.finish();
+        }
+    }
+    
     protected abstract void setFetchSize(Statement statement) throws SQLException;
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
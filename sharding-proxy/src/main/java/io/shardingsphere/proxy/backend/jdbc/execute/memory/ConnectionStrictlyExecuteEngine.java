@@ -70,14 +70,15 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
     private List<Future<Collection<ExecuteResponseUnit>>> asyncExecute(final boolean isReturnGeneratedKeys, final Map<String, Collection<SQLUnit>> sqlUnitGroups) throws SQLException {
         List<Future<Collection<ExecuteResponseUnit>>> result = new LinkedList<>();
         for (Entry<String, Collection<SQLUnit>> entry : sqlUnitGroups.entrySet()) {
-            final Map<SQLUnit, Statement> sqlUnitStatementMap = createSQLUnitStatement(entry.getKey(), entry.getValue(), isReturnGeneratedKeys);
+            final String dataSourceName = entry.getKey();
+            final Map<SQLUnit, Statement> sqlUnitStatementMap = createSQLUnitStatement(dataSourceName, entry.getValue(), isReturnGeneratedKeys);
             result.add(getExecutorService().submit(new Callable<Collection<ExecuteResponseUnit>>() {
                 
                 @Override
                 public Collection<ExecuteResponseUnit> call() throws SQLException {
                     Collection<ExecuteResponseUnit> result = new LinkedList<>();
                     for (Entry<SQLUnit, Statement> each : sqlUnitStatementMap.entrySet()) {
-                        result.add(executeWithoutMetadata(each.getValue(), each.getKey().getSql(), isReturnGeneratedKeys));
+                        result.add(executeWithoutMetadata(dataSourceName, each.getValue(), each.getKey().getSql(), isReturnGeneratedKeys));
                     }
                     return result;
                 }
@@ -104,9 +105,9 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
             Statement statement = getJdbcExecutorWrapper().createStatement(connection, actualSQL, isReturnGeneratedKeys);
             ExecuteResponseUnit response;
             if (hasMetaData) {
-                response = executeWithoutMetadata(statement, actualSQL, isReturnGeneratedKeys);
+                response = executeWithoutMetadata(dataSourceName, statement, actualSQL, isReturnGeneratedKeys);
             } else {
-                response = executeWithMetadata(statement, actualSQL, isReturnGeneratedKeys);
+                response = executeWithMetadata(dataSourceName, statement, actualSQL, isReturnGeneratedKeys);
                 hasMetaData = true;
             }
             result.add(response);
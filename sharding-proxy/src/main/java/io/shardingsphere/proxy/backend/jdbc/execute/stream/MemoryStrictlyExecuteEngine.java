@@ -70,13 +70,14 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
     private List<Future<ExecuteResponseUnit>> asyncExecute(final boolean isReturnGeneratedKeys, final Collection<SQLExecutionUnit> sqlExecutionUnits) throws SQLException {
         List<Future<ExecuteResponseUnit>> result = new LinkedList<>();
         for (SQLExecutionUnit each : sqlExecutionUnits) {
+            final String dataSourceName = each.getDataSource();
             final String actualSQL = each.getSqlUnit().getSql();
             final Statement statement = getJdbcExecutorWrapper().createStatement(getBackendConnection().getConnection(each.getDataSource()), actualSQL, isReturnGeneratedKeys);
             result.add(getExecutorService().submit(new Callable<ExecuteResponseUnit>() {
                 
                 @Override
                 public ExecuteResponseUnit call() throws SQLException {
-                    return executeWithoutMetadata(statement, actualSQL, isReturnGeneratedKeys);
+                    return executeWithoutMetadata(dataSourceName, statement, actualSQL, isReturnGeneratedKeys);
                 }
             }));
         }
@@ -86,7 +87,7 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
     private ExecuteResponseUnit syncExecute(final boolean isReturnGeneratedKeys, final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
         Statement statement = getJdbcExecutorWrapper().createStatement(
                 getBackendConnection().getConnection(sqlExecutionUnit.getDataSource()), sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
-        return executeWithMetadata(statement, sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
+        return executeWithMetadata(sqlExecutionUnit.getDataSource(), statement, sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
     }
     
     private ExecuteResponse getExecuteQueryResponse(final ExecuteQueryResponseUnit firstResponseUnit, final List<Future<ExecuteResponseUnit>> futureList) {
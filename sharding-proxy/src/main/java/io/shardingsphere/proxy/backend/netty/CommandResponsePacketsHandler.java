@@ -17,9 +17,28 @@
 
 package io.shardingsphere.proxy.backend.netty;
 
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPreparePacket;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SQL execute backend handler.
@@ -29,6 +48,192 @@ import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
  */
 public abstract class CommandResponsePacketsHandler extends ChannelInboundHandlerAdapter {
     
+    private static final int MAX_PREPARED_STATEMENTS = 256;
+    
+    private final Queue<PendingCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+    
+    private final Map<String, Integer> preparedStatementIds = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private final AtomicInteger awaitingRowsCount = new AtomicInteger();
+    
+    /**
+     * Write command to backend database without waiting for responses of previous commands.
+     * 
+     * <p>Responses are returned by backend database in order of commands, so they are correlated to frontend connections in FIFO order.</p>
+     * 
+     * @param channel channel of backend database connection
+     * @param connectionId frontend connection ID
+     * @param command command packet
+     */
+    public final void writeCommand(final Channel channel, final int connectionId, final DatabasePacket command) {
+        synchronized (pendingCommands) {
+            pendingCommands.offer(new PendingCommand(connectionId, false, null));
+            channel.writeAndFlush(command);
+        }
+    }
+    
+    /**
+     * Prepare server side prepared statement on backend database without waiting for response.
+     * 
+     * <p>
+     * Statement will be prepared on backend database at first time and reused by all frontend connections, 
+     * so prepare commands of all execution units can be written before any of them is responded.
+     * </p>
+     * 
+     * @param channel channel of backend database connection
+     * @param connectionId frontend connection ID
+     * @param sql actual SQL to be prepared
+     * @return statement being prepared
+     */
+    public final PreparingStatement prepare(final Channel channel, final int connectionId, final String sql) {
+        synchronized (pendingCommands) {
+            Integer statementId = preparedStatementIds.get(sql);
+            if (null != statementId) {
+                return new PreparingStatement(channel, sql, Futures.immediateFuture(statementId), true);
+            }
+            SettableFuture<Integer> preparedStatementId = SettableFuture.create();
+            pendingCommands.offer(new PendingCommand(connectionId, false, preparedStatementId));
+            channel.writeAndFlush(new ComStmtPreparePacket(0, sql));
+            return new PreparingStatement(channel, sql, preparedStatementId, false);
+        }
+    }
+    
+    /**
+     * Write execute command of server side prepared statement to backend database.
+     * 
+     * <p>
+     * Least recently used statements will be closed if too many statements prepared on one channel, 
+     * and reused statement closed before executing will be prepared again.
+     * If statement failed to be prepared, the command is failed with the cause instead of waiting for response which never comes.
+     * </p>
+     * 
+     * @param preparingStatement statement being prepared
+     * @param connectionId frontend connection ID
+     * @param parameters parameters to be bound
+     * @param timeoutSeconds timeout seconds of preparing statement
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     * @throws TimeoutException timeout exception
+     */
+    public final void writeExecuteCommand(final PreparingStatement preparingStatement, final int connectionId, final List<Object> parameters, final int timeoutSeconds) 
+            throws InterruptedException, ExecutionException, TimeoutException {
+        int statementId;
+        try {
+            statementId = preparingStatement.getStatementId().get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (final ExecutionException | TimeoutException ex) {
+            failCommand(connectionId, ex instanceof ExecutionException ? ex.getCause() : ex);
+            throw ex;
+        }
+        Channel channel = preparingStatement.getChannel();
+        synchronized (pendingCommands) {
+            Integer existedStatementId = preparedStatementIds.get(preparingStatement.getSql());
+            if (null != existedStatementId) {
+                if (!preparingStatement.isReused() && existedStatementId != statementId) {
+                    channel.writeAndFlush(new ComStmtClosePacket(0, statementId));
+                }
+                writeExecuteCommand(channel, connectionId, existedStatementId, parameters);
+                return;
+            }
+            if (!preparingStatement.isReused()) {
+                preparedStatementIds.put(preparingStatement.getSql(), statementId);
+                closeEldestPreparedStatement(channel);
+                writeExecuteCommand(channel, connectionId, statementId, parameters);
+                return;
+            }
+        }
+        writeExecuteCommand(prepare(channel, connectionId, preparingStatement.getSql()), connectionId, parameters, timeoutSeconds);
+    }
+    
+    private void writeExecuteCommand(final Channel channel, final int connectionId, final int statementId, final List<Object> parameters) {
+        pendingCommands.offer(new PendingCommand(connectionId, true, null));
+        channel.writeAndFlush(new ComStmtExecutePacket(0, statementId, parameters));
+    }
+    
+    private void closeEldestPreparedStatement(final Channel channel) {
+        if (preparedStatementIds.size() <= MAX_PREPARED_STATEMENTS) {
+            return;
+        }
+        Iterator<Integer> iterator = preparedStatementIds.values().iterator();
+        int eldestStatementId = iterator.next();
+        iterator.remove();
+        channel.writeAndFlush(new ComStmtClosePacket(0, eldestStatementId));
+    }
+    
+    /**
+     * Stop reading from channel unless rows on it are awaited.
+     * 
+     * <p>
+     * Responses of all commands pipelined to one channel are read in order, 
+     * so reading is not stopped for too many buffered rows of one result while rows of any result on the channel are awaited.
+     * </p>
+     * 
+     * @param channel channel of backend database connection
+     */
+    public final void stopReadIfNoRowsAwaited(final Channel channel) {
+        if (0 == awaitingRowsCount.get()) {
+            channel.config().setAutoRead(false);
+        }
+    }
+    
+    /**
+     * Start awaiting rows of a result on channel, reading from channel is resumed until awaiting finished.
+     * 
+     * @param channel channel of backend database connection
+     */
+    public final void startAwaitingRows(final Channel channel) {
+        awaitingRowsCount.incrementAndGet();
+        resumeRead(channel);
+    }
+    
+    /**
+     * Finish awaiting rows of a result on channel.
+     */
+    public final void finishAwaitingRows() {
+        awaitingRowsCount.decrementAndGet();
+    }
+    
+    /**
+     * Resume reading from channel.
+     * 
+     * @param channel channel of backend database connection
+     */
+    public final void resumeRead(final Channel channel) {
+        if (!channel.config().isAutoRead()) {
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    /**
+     * Get count of commands waiting for responses.
+     * 
+     * @return count of commands waiting for responses
+     */
+    public final int getPendingCommandCount() {
+        return pendingCommands.size();
+    }
+    
+    protected final Optional<PendingCommand> getRespondingCommand() {
+        return Optional.fromNullable(pendingCommands.peek());
+    }
+    
+    protected final void finishResponse() {
+        pendingCommands.poll();
+    }
+    
+    protected final void clearPendingCommands() {
+        synchronized (pendingCommands) {
+            for (PendingCommand each : pendingCommands) {
+                if (each.isPrepare()) {
+                    each.getPreparedStatementId().setException(new IllegalStateException("Backend channel is inactive."));
+                }
+            }
+            pendingCommands.clear();
+            preparedStatementIds.clear();
+        }
+    }
+    
+    protected abstract void failCommand(int connectionId, Throwable cause);
+    
     protected abstract void auth(ChannelHandlerContext context, MySQLPacketPayload payload);
     
     protected abstract void eofPacket(ChannelHandlerContext context, MySQLPacketPayload payload);
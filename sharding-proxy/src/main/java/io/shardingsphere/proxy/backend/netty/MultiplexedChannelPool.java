@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Multiplexed channel pool.
+ * 
+ * <p>
+ * Channels to one backend database are held all the time and shared by all frontend connections. 
+ * Commands are pipelined to the channel with least commands waiting for responses, 
+ * so frontend connections do not wait for acquiring channels.
+ * Only works for commands of auto commit sessions, because session states are not bound to channels.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Slf4j
+public final class MultiplexedChannelPool {
+    
+    private final ChannelPool channelPool;
+    
+    private final AtomicReferenceArray<Channel> channels;
+    
+    private final int connectionTimeoutSeconds;
+    
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    
+    public MultiplexedChannelPool(final ChannelPool channelPool, final int maxConnections, final int connectionTimeoutSeconds) {
+        this.channelPool = channelPool;
+        channels = new AtomicReferenceArray<>(maxConnections);
+        this.connectionTimeoutSeconds = connectionTimeoutSeconds;
+    }
+    
+    /**
+     * Connect all channels to backend database.
+     * 
+     * @throws InterruptedException interrupted exception
+     */
+    public void init() throws InterruptedException {
+        for (int i = 0; i < channels.length(); i++) {
+            try {
+                getActiveChannel(i);
+            } catch (final ExecutionException | TimeoutException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+        }
+    }
+    
+    /**
+     * Write command to channel with least commands waiting for responses.
+     * 
+     * @param connectionId frontend connection ID
+     * @param command command packet
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     * @throws TimeoutException timeout exception
+     */
+    public void writeCommand(final int connectionId, final DatabasePacket command) throws InterruptedException, ExecutionException, TimeoutException {
+        Channel channel = selectChannel();
+        channel.pipeline().get(CommandResponsePacketsHandler.class).writeCommand(channel, connectionId, command);
+    }
+    
+    /**
+     * Prepare server side prepared statement on channel with least commands waiting for responses.
+     * 
+     * @param connectionId frontend connection ID
+     * @param sql actual SQL to be prepared
+     * @return statement being prepared
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     * @throws TimeoutException timeout exception
+     */
+    public PreparingStatement prepare(final int connectionId, final String sql) throws InterruptedException, ExecutionException, TimeoutException {
+        Channel channel = selectChannel();
+        return channel.pipeline().get(CommandResponsePacketsHandler.class).prepare(channel, connectionId, sql);
+    }
+    
+    /**
+     * Write execute command of server side prepared statement to channel which statement prepared on.
+     * 
+     * @param connectionId frontend connection ID
+     * @param preparingStatement statement being prepared
+     * @param parameters parameters to be bound
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     * @throws TimeoutException timeout exception
+     */
+    public void writeExecuteCommand(final int connectionId, final PreparingStatement preparingStatement, final List<Object> parameters) 
+            throws InterruptedException, ExecutionException, TimeoutException {
+        preparingStatement.getChannel().pipeline().get(CommandResponsePacketsHandler.class).writeExecuteCommand(preparingStatement, connectionId, parameters, connectionTimeoutSeconds);
+    }
+    
+    private Channel selectChannel() throws InterruptedException, ExecutionException, TimeoutException {
+        int startIndex = (nextIndex.getAndIncrement() & Integer.MAX_VALUE) % channels.length();
+        CommandResponsePacketsHandler selectedHandler = null;
+        Channel result = null;
+        for (int i = 0; i < channels.length(); i++) {
+            Channel channel = getActiveChannel((startIndex + i) % channels.length());
+            CommandResponsePacketsHandler handler = channel.pipeline().get(CommandResponsePacketsHandler.class);
+            if (null == selectedHandler || handler.getPendingCommandCount() < selectedHandler.getPendingCommandCount()) {
+                selectedHandler = handler;
+                result = channel;
+            }
+            if (0 == selectedHandler.getPendingCommandCount()) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private Channel getActiveChannel(final int index) throws InterruptedException, ExecutionException, TimeoutException {
+        Channel result = channels.get(index);
+        if (null != result && result.isActive()) {
+            return result;
+        }
+        synchronized (this) {
+            result = channels.get(index);
+            if (null != result && result.isActive()) {
+                return result;
+            }
+            if (null != result) {
+                channelPool.release(result);
+            }
+            result = channelPool.acquire().get(connectionTimeoutSeconds, TimeUnit.SECONDS);
+            channels.set(index, result);
+            return result;
+        }
+    }
+}
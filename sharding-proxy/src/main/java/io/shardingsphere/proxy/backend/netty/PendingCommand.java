@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty;
+
+import com.google.common.util.concurrent.SettableFuture;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Command written to backend database and waiting for response.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PendingCommand {
+    
+    private final int connectionId;
+    
+    private final boolean binaryProtocol;
+    
+    private final SettableFuture<Integer> preparedStatementId;
+    
+    /**
+     * Judge whether command is prepare statement command.
+     *
+     * @return is prepare statement command or not
+     */
+    public boolean isPrepare() {
+        return null != preparedStatementId;
+    }
+}
@@ -17,10 +17,8 @@
 
 package io.shardingsphere.proxy.backend.netty;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
-import io.netty.channel.Channel;
-import io.netty.channel.pool.SimpleChannelPool;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.merger.MergeEngineFactory;
@@ -29,9 +27,12 @@ import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
 import io.shardingsphere.core.parsing.SQLJudgeEngine;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.StatementRoutingEngine;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyRecorder;
 import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
 import io.shardingsphere.proxy.backend.BackendHandler;
 import io.shardingsphere.proxy.backend.ResultPacket;
@@ -52,11 +53,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -76,9 +76,13 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
     
     private final CommandPacketRebuilder rebuilder;
     
+    private final int connectionId;
+    
+    private final String sql;
+    
     private final DatabaseType databaseType;
     
-    private final Map<String, List<Channel>> channelsMap = Maps.newHashMap();
+    private final List<Object> parameters;
     
     private SynchronizedFuture synchronizedFuture;
     
@@ -86,11 +90,28 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
     
     private int columnCount;
     
+    private List<ColumnType> columnTypes = Collections.emptyList();
+    
     private MergedResult mergedResult;
     
+    private MySQLQueryResult passthroughResult;
+    
+    private List<QueryResult> queryResults = Collections.emptyList();
+    
     public SQLPacketsBackendHandler(final CommandPacketRebuilder rebuilder, final DatabaseType databaseType) {
         this.rebuilder = rebuilder;
+        connectionId = rebuilder.connectionId();
+        sql = rebuilder.sql();
         this.databaseType = databaseType;
+        parameters = null;
+    }
+    
+    public SQLPacketsBackendHandler(final int connectionId, final String sql, final DatabaseType databaseType, final List<Object> parameters) {
+        rebuilder = null;
+        this.connectionId = connectionId;
+        this.sql = sql;
+        this.databaseType = databaseType;
+        this.parameters = parameters;
     }
     
     @Override
@@ -99,33 +120,48 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
     }
     
     private CommandResponsePackets executeForMasterSlave() {
-        String dataSourceName = new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), RULE_REGISTRY.isShowSQL()).route(rebuilder.sql()).iterator().next();
+        String dataSourceName = new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), RULE_REGISTRY.isShowSQL()).route(sql).iterator().next();
         synchronizedFuture = new SynchronizedFuture(1);
-        MySQLResultCache.getInstance().putFuture(rebuilder.connectionId(), synchronizedFuture);
-        executeCommand(dataSourceName, rebuilder.sql());
-        List<QueryResult> queryResults = synchronizedFuture.get(RULE_REGISTRY.getProxyBackendConnectionTimeout(), TimeUnit.SECONDS);
-        MySQLResultCache.getInstance().deleteFuture(rebuilder.connectionId());
+        MySQLResultCache.getInstance().putFuture(connectionId, synchronizedFuture);
+        DataSourceLatencyRecorder latencyRecorder = new DataSourceLatencyRecorder().start(dataSourceName, RULE_REGISTRY.findLatencyStatistics(dataSourceName));
+        try {
+            executeCommand(dataSourceName, sql, parameters);
+            queryResults = synchronizedFuture.get(RULE_REGISTRY.getProxyBackendConnectionTimeout(), TimeUnit.SECONDS);
+        } finally {
+            latencyRecorder.finish();
+        }
+        MySQLResultCache.getInstance().deleteFuture(connectionId);
         List<CommandResponsePackets> packets = new LinkedList<>();
         for (QueryResult each : queryResults) {
             packets.add(((MySQLQueryResult) each).getCommandResponsePackets());
         }
-        return merge(new SQLJudgeEngine(rebuilder.sql()).judge(), packets, queryResults);
+        return merge(new SQLJudgeEngine(sql).judge(), packets, queryResults);
     }
     
     private CommandResponsePackets executeForSharding() {
-        StatementRoutingEngine routingEngine = new StatementRoutingEngine(
-                RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), RULE_REGISTRY.getMetaData().getDataSource());
-        SQLRouteResult routeResult = routingEngine.route(rebuilder.sql());
+        SQLRouteResult routeResult = route();
         if (routeResult.getExecutionUnits().isEmpty()) {
             return new CommandResponsePackets(new OKPacket(1));
         }
         synchronizedFuture = new SynchronizedFuture(routeResult.getExecutionUnits().size());
-        MySQLResultCache.getInstance().putFuture(rebuilder.connectionId(), synchronizedFuture);
+        MySQLResultCache.getInstance().putFuture(connectionId, synchronizedFuture);
+        DataSourceLatencyRecorder latencyRecorder = new DataSourceLatencyRecorder();
         for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            executeCommand(each.getDataSource(), each.getSqlUnit().getSql());
+            latencyRecorder.start(each.getDataSource(), RULE_REGISTRY.findLatencyStatistics(each.getDataSource()));
         }
-        List<QueryResult> queryResults = synchronizedFuture.get(RULE_REGISTRY.getProxyBackendConnectionTimeout(), TimeUnit.SECONDS);
-        MySQLResultCache.getInstance().deleteFuture(rebuilder.connectionId());
+        try {
+            if (null == parameters) {
+                for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+                    executeCommand(each.getDataSource(), each.getSqlUnit().getSql(), null);
+                }
+            } else {
+                executePreparedCommands(routeResult.getExecutionUnits());
+            }
+            queryResults = synchronizedFuture.get(RULE_REGISTRY.getProxyBackendConnectionTimeout(), TimeUnit.SECONDS);
+        } finally {
+            latencyRecorder.finish();
+        }
+        MySQLResultCache.getInstance().deleteFuture(connectionId);
         
         List<CommandResponsePackets> packets = Lists.newArrayListWithCapacity(queryResults.size());
         for (QueryResult each : queryResults) {
@@ -135,6 +171,7 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
             }
             if (0 == columnCount) {
                 columnCount = queryResult.getColumnCount();
+                columnTypes = queryResult.getColumnTypes();
             }
             packets.add(queryResult.getCommandResponsePackets());
         }
@@ -149,21 +186,49 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
         return result;
     }
     
-    private void executeCommand(final String dataSourceName, final String sql) {
+    private SQLRouteResult route() {
+        if (null == parameters) {
+            return new StatementRoutingEngine(RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), 
+                    RULE_REGISTRY.getMetaData().getDataSource(), RULE_REGISTRY.getParsingResultCache(), RULE_REGISTRY.getRouteResultCache()).route(sql);
+        }
+        return new PreparedStatementRoutingEngine(sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), 
+                RULE_REGISTRY.getMetaData().getDataSource(), RULE_REGISTRY.getParsingResultCache(), RULE_REGISTRY.getRouteResultCache()).route(parameters);
+    }
+    
+    private void executeCommand(final String dataSourceName, final String actualSQL, final List<Object> parameters) {
+        if (null != parameters) {
+            executePreparedCommands(Collections.singletonList(new SQLExecutionUnit(dataSourceName, new SQLUnit(actualSQL, Collections.singletonList(parameters)))));
+            return;
+        }
         try {
-            if (null == channelsMap.get(dataSourceName)) {
-                channelsMap.put(dataSourceName, Lists.<Channel>newArrayList());
-            }
-            SimpleChannelPool pool = ShardingProxyClient.getInstance().getPoolMap().get(dataSourceName);
-            Channel channel = pool.acquire().get(RULE_REGISTRY.getProxyBackendConnectionTimeout(), TimeUnit.SECONDS);
-            channelsMap.get(dataSourceName).add(channel);
-            MySQLResultCache.getInstance().putConnection(channel.id().asShortText(), rebuilder.connectionId());
-            channel.writeAndFlush(rebuilder.rebuild(rebuilder.sequenceId(), rebuilder.connectionId(), sql));
+            ShardingProxyClient.getInstance().getChannelPool(dataSourceName).writeCommand(connectionId, rebuilder.rebuild(rebuilder.sequenceId(), connectionId, actualSQL));
         } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
             log.error(ex.getMessage(), ex);
         }
     }
     
+    private void executePreparedCommands(final Collection<SQLExecutionUnit> executionUnits) {
+        List<SQLExecutionUnit> preparedExecutionUnits = new ArrayList<>(executionUnits.size());
+        List<PreparingStatement> preparingStatements = new ArrayList<>(executionUnits.size());
+        for (SQLExecutionUnit each : executionUnits) {
+            try {
+                preparingStatements.add(ShardingProxyClient.getInstance().getChannelPool(each.getDataSource()).prepare(connectionId, each.getSqlUnit().getSql()));
+                preparedExecutionUnits.add(each);
+            } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+        }
+        for (int i = 0; i < preparedExecutionUnits.size(); i++) {
+            SQLExecutionUnit executionUnit = preparedExecutionUnits.get(i);
+            try {
+                ShardingProxyClient.getInstance().getChannelPool(executionUnit.getDataSource()).writeExecuteCommand(
+                        connectionId, preparingStatements.get(i), executionUnit.getSqlUnit().getParameterSets().get(0));
+            } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+        }
+    }
+    
     private CommandResponsePackets merge(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         CommandResponsePackets headPackets = new CommandResponsePackets();
         for (CommandResponsePackets each : packets) {
@@ -177,6 +242,11 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
         if (SQLType.DML == sqlStatement.getType()) {
             return mergeDML(headPackets);
         }
+        if (SQLType.DQL == sqlStatement.getType() && 1 == queryResults.size()) {
+            passthroughResult = (MySQLQueryResult) queryResults.get(0);
+            currentSequenceId = passthroughResult.getCurrentSequenceId();
+            return packets.get(0);
+        }
         if (SQLType.DQL == sqlStatement.getType() || SQLType.DAL == sqlStatement.getType()) {
             return mergeDQLorDAL(sqlStatement, packets, queryResults);
         }
@@ -198,7 +268,8 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
     
     private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         try {
-            mergedResult = MergeEngineFactory.newInstance(RULE_REGISTRY.getShardingRule(), queryResults, sqlStatement, RULE_REGISTRY.getMetaData().getTable()).merge();
+            mergedResult = MergeEngineFactory.newInstance(
+                    RULE_REGISTRY.getShardingRule(), queryResults, sqlStatement, RULE_REGISTRY.getMetaData().getTable(), RULE_REGISTRY.getGroupByMemoryMaxRows()).merge();
         } catch (final SQLException ex) {
             return new CommandResponsePackets(new ErrPacket(1, ex));
         }
@@ -207,15 +278,7 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
     
     @Override
     public boolean next() throws SQLException {
-        if (null == mergedResult || !mergedResult.next()) {
-            for (Entry<String, List<Channel>> entry : channelsMap.entrySet()) {
-                for (Channel each : entry.getValue()) {
-                    ShardingProxyClient.getInstance().getPoolMap().get(entry.getKey()).release(each);
-                }
-            }
-            return false;
-        }
-        return true;
+        return null != passthroughResult ? passthroughResult.next() : null != mergedResult && mergedResult.next();
     }
     
     @Override
@@ -224,6 +287,27 @@ public final class SQLPacketsBackendHandler implements BackendHandler {
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             data.add(mergedResult.getValue(columnIndex, Object.class));
         }
-        return new ResultPacket(++currentSequenceId, data, columnCount, Collections.<ColumnType>emptyList());
+        return new ResultPacket(++currentSequenceId, data, columnCount, columnTypes);
+    }
+    
+    @Override
+    public Optional<DatabasePacket> getPassthroughResultValue() {
+        if (null == passthroughResult) {
+            return Optional.absent();
+        }
+        return Optional.<DatabasePacket>of(passthroughResult.getPassthroughRow().withSequenceId(++currentSequenceId));
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (null != mergedResult) {
+                mergedResult.close();
+            }
+        } finally {
+            for (QueryResult each : queryResults) {
+                ((MySQLQueryResult) each).close();
+            }
+        }
     }
 }
@@ -20,29 +20,22 @@ package io.shardingsphere.proxy.backend.netty;
 import com.google.common.collect.Maps;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
-import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.pool.AbstractChannelPoolMap;
-import io.netty.channel.pool.ChannelPoolMap;
 import io.netty.channel.pool.FixedChannelPool;
-import io.netty.channel.pool.SimpleChannelPool;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.proxy.config.RuleRegistry;
-import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Sharding-Proxy Client.
@@ -50,7 +43,6 @@ import java.util.concurrent.TimeoutException;
  * @author wangkai
  * @author linjiaqi
  */
-@Slf4j
 public final class ShardingProxyClient {
     
     private static final ShardingProxyClient INSTANCE = new ShardingProxyClient();
@@ -67,8 +59,7 @@ public final class ShardingProxyClient {
     
     private EventLoopGroup workerGroup;
     
-    @Getter
-    private ChannelPoolMap<String, SimpleChannelPool> poolMap;
+    private final Map<String, MultiplexedChannelPool> channelPools = new ConcurrentHashMap<>();
     
     /**
      * Start Sharding-Proxy.
@@ -127,29 +118,26 @@ public final class ShardingProxyClient {
     }
     
     private void initPoolMap(final Bootstrap bootstrap) throws InterruptedException {
-        poolMap = new AbstractChannelPoolMap<String, SimpleChannelPool>() {
-            @Override
-            protected SimpleChannelPool newPool(final String datasourceName) {
-                DataSourceConfig dataSourceConfig = dataSourceConfigMap.get(datasourceName);
-                return new FixedChannelPool(bootstrap.remoteAddress(dataSourceConfig.getIp(), dataSourceConfig.getPort()), new NettyChannelPoolHandler(dataSourceConfig), MAX_CONNECTIONS);
-            }
-        };
-        for (String each : dataSourceConfigMap.keySet()) {
-            SimpleChannelPool pool = poolMap.get(each);
-            Channel[] channels = new Channel[MAX_CONNECTIONS];
-            for (int i = 0; i < MAX_CONNECTIONS; i++) {
-                try {
-                    channels[i] = pool.acquire().get(CONNECTION_TIMEOUT, TimeUnit.SECONDS);
-                } catch (final ExecutionException | TimeoutException ex) {
-                    log.error(ex.getMessage(), ex);
-                }
-            }
-            for (int i = 0; i < MAX_CONNECTIONS; i++) {
-                pool.release(channels[i]);
-            }
+        for (Entry<String, DataSourceConfig> entry : dataSourceConfigMap.entrySet()) {
+            DataSourceConfig dataSourceConfig = entry.getValue();
+            FixedChannelPool pool = new FixedChannelPool(
+                    bootstrap.remoteAddress(dataSourceConfig.getIp(), dataSourceConfig.getPort()), new NettyChannelPoolHandler(dataSourceConfig), MAX_CONNECTIONS);
+            MultiplexedChannelPool channelPool = new MultiplexedChannelPool(pool, MAX_CONNECTIONS, CONNECTION_TIMEOUT);
+            channelPool.init();
+            channelPools.put(entry.getKey(), channelPool);
         }
     }
     
+    /**
+     * Get channel pool of backend database.
+     *
+     * @param dataSourceName data source name
+     * @return channel pool of backend database
+     */
+    public MultiplexedChannelPool getChannelPool(final String dataSourceName) {
+        return channelPools.get(dataSourceName);
+    }
+    
     /**
      * Get instance of sharding-proxy client.
      *
@@ -17,18 +17,24 @@
 
 package io.shardingsphere.proxy.backend.netty.mysql;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.SettableFuture;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.shardingsphere.proxy.backend.netty.CommandResponsePacketsHandler;
 import io.shardingsphere.proxy.backend.constant.AuthType;
 import io.shardingsphere.proxy.backend.netty.DataSourceConfig;
+import io.shardingsphere.proxy.backend.netty.PendingCommand;
+import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
 import io.shardingsphere.proxy.transport.mysql.constant.PacketHeader;
+import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerInfo;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.PassthroughRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -40,6 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
 import java.util.Map;
 
 /**
@@ -52,12 +59,18 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MySQLBackendHandler extends CommandResponsePacketsHandler {
     
+    private static final int EOF_PACKET_MAX_PAYLOAD_LENGTH = 9;
+    
     private final DataSourceConfig dataSourceConfig;
     
     private final Map<Integer, MySQLQueryResult> resultMap = Maps.newHashMap();
     
     private AuthType authType = AuthType.UN_AUTH;
     
+    private int preparedStatementId;
+    
+    private int remainingPrepareResponsePackets = -1;
+    
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message) {
         MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message);
@@ -79,7 +92,12 @@ public class MySQLBackendHandler extends CommandResponsePacketsHandler {
         } else if (AuthType.AUTH_FAILED == authType) {
             log.error("mysql auth failed, cannot handle channel read message");
         } else {
-            if (PacketHeader.EOF.getValue() == header) {
+            Optional<PendingCommand> respondingCommand = getRespondingCommand();
+            if (respondingCommand.isPresent() && respondingCommand.get().isPrepare()) {
+                prepareResponsePacket(payload, respondingCommand.get().getPreparedStatementId());
+            } else if (resultMap.containsKey(getConnectionId(context))) {
+                resultSetPacket(context, payload, header);
+            } else if (PacketHeader.EOF.getValue() == header) {
                 eofPacket(context, payload);
             } else if (PacketHeader.OK.getValue() == header) {
                 okPacket(context, payload);
@@ -91,6 +109,55 @@ public class MySQLBackendHandler extends CommandResponsePacketsHandler {
         }
     }
     
+    private void resultSetPacket(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int header) {
+        if (PacketHeader.EOF.getValue() == header && payload.getByteBuf().readableBytes() - MySQLPacket.SEQUENCE_LENGTH <= EOF_PACKET_MAX_PAYLOAD_LENGTH) {
+            eofPacket(context, payload);
+        } else if (PacketHeader.ERR.getValue() == header) {
+            errPacket(context, payload);
+        } else {
+            commonPacket(context, payload);
+        }
+    }
+    
+    private void prepareResponsePacket(final MySQLPacketPayload payload, final SettableFuture<Integer> preparedStatementIdFuture) {
+        try {
+            if (remainingPrepareResponsePackets < 0) {
+                payload.getByteBuf().markReaderIndex();
+                payload.readInt1();
+                if (PacketHeader.ERR.getValue() == payload.readInt1()) {
+                    payload.getByteBuf().resetReaderIndex();
+                    ErrPacket errPacket = new ErrPacket(payload);
+                    preparedStatementIdFuture.setException(new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode()));
+                    finishResponse();
+                    return;
+                }
+                preparedStatementId = payload.readInt4();
+                int columnsCount = payload.readInt2();
+                int parametersCount = payload.readInt2();
+                remainingPrepareResponsePackets = (parametersCount > 0 ? parametersCount + 1 : 0) + (columnsCount > 0 ? columnsCount + 1 : 0);
+            } else {
+                remainingPrepareResponsePackets--;
+            }
+            if (0 == remainingPrepareResponsePackets) {
+                remainingPrepareResponsePackets = -1;
+                preparedStatementIdFuture.set(preparedStatementId);
+                finishResponse();
+            }
+        } finally {
+            payload.close();
+        }
+    }
+    
+    @Override
+    protected void failCommand(final int connectionId, final Throwable cause) {
+        MySQLQueryResult mysqlQueryResult = new MySQLQueryResult();
+        mysqlQueryResult.setGenericResponse(cause instanceof SQLException
+                ? new ErrPacket(1, (SQLException) cause) : new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, cause.getMessage()));
+        if (MySQLResultCache.getInstance().getFuture(connectionId) != null) {
+            MySQLResultCache.getInstance().getFuture(connectionId).setResponse(mysqlQueryResult);
+        }
+    }
+    
     @Override
     protected void auth(final ChannelHandlerContext context, final MySQLPacketPayload payload) {
         try {
@@ -108,63 +175,71 @@ public class MySQLBackendHandler extends CommandResponsePacketsHandler {
     
     @Override
     protected void okPacket(final ChannelHandlerContext context, final MySQLPacketPayload payload) {
-        int connectionId = MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText());
+        int connectionId = getConnectionId(context);
         try {
             MySQLQueryResult mysqlQueryResult = new MySQLQueryResult();
             mysqlQueryResult.setGenericResponse(new OKPacket(payload));
             resultMap.put(connectionId, mysqlQueryResult);
-            setResponse(context);
+            setResponse(connectionId);
         } finally {
             resultMap.remove(connectionId);
             payload.close();
+            finishResponseIfAuthorized();
         }
     }
     
     @Override
     protected void errPacket(final ChannelHandlerContext context, final MySQLPacketPayload payload) {
-        int connectionId = MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText());
+        int connectionId = getConnectionId(context);
         try {
             MySQLQueryResult mysqlQueryResult = new MySQLQueryResult();
             mysqlQueryResult.setGenericResponse(new ErrPacket(payload));
             resultMap.put(connectionId, mysqlQueryResult);
-            setResponse(context);
+            setResponse(connectionId);
         } finally {
             resultMap.remove(connectionId);
             payload.close();
+            finishResponseIfAuthorized();
         }
     }
     
     @Override
     protected void eofPacket(final ChannelHandlerContext context, final MySQLPacketPayload payload) {
-        int connectionId = MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText());
+        int connectionId = getConnectionId(context);
         MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
         if (mysqlQueryResult.isColumnFinished()) {
             mysqlQueryResult.setRowFinished(new EofPacket(payload));
             resultMap.remove(connectionId);
             payload.close();
+            finishResponse();
         } else {
             mysqlQueryResult.setColumnFinished(new EofPacket(payload));
-            setResponse(context);
+            setResponse(connectionId);
         }
     }
     
     @Override
     protected void commonPacket(final ChannelHandlerContext context, final MySQLPacketPayload payload) {
-        int connectionId = MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText());
+        int connectionId = getConnectionId(context);
         MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
         if (mysqlQueryResult == null) {
-            mysqlQueryResult = new MySQLQueryResult(payload);
+            Optional<PendingCommand> respondingCommand = getRespondingCommand();
+            boolean binaryProtocol = respondingCommand.isPresent() && respondingCommand.get().isBinaryProtocol();
+            mysqlQueryResult = new MySQLQueryResult(payload, context.channel(), RuleRegistry.getInstance().getProxyBackendMaxBufferedRows(), binaryProtocol);
             resultMap.put(connectionId, mysqlQueryResult);
         } else if (mysqlQueryResult.needColumnDefinition()) {
             mysqlQueryResult.addColumnDefinition(new ColumnDefinition41Packet(payload));
         } else {
-            mysqlQueryResult.addTextResultSetRow(new TextResultSetRowPacket(payload, mysqlQueryResult.getColumnCount()));
+            mysqlQueryResult.addRow(new PassthroughRowPacket(payload));
         }
     }
     
     @Override
     public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
         //TODO delete connection map.
+        clearPendingCommands();
+        resultMap.clear();
+        remainingPrepareResponsePackets = -1;
         super.channelInactive(ctx);
     }
     
@@ -187,10 +262,27 @@ public class MySQLBackendHandler extends CommandResponsePacketsHandler {
         return null;
     }
     
-    private void setResponse(final ChannelHandlerContext context) {
-        int connectionId = MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText());
+    private int getConnectionId(final ChannelHandlerContext context) {
+        if (AuthType.AUTH_SUCCESS == authType) {
+            Optional<PendingCommand> result = getRespondingCommand();
+            if (result.isPresent()) {
+                return result.get().getConnectionId();
+            }
+        }
+        return MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText());
+    }
+    
+    private void finishResponseIfAuthorized() {
+        if (AuthType.AUTH_SUCCESS == authType) {
+            finishResponse();
+        }
+    }
+    
+    private void setResponse(final int connectionId) {
         if (MySQLResultCache.getInstance().getFuture(connectionId) != null) {
             MySQLResultCache.getInstance().getFuture(connectionId).setResponse(resultMap.get(connectionId));
+        } else {
+            resultMap.get(connectionId).close();
         }
     }
 }
@@ -18,24 +18,33 @@
 package io.shardingsphere.proxy.backend.netty.mysql;
 
 import com.google.common.collect.Lists;
+import io.netty.channel.Channel;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.proxy.backend.netty.CommandResponsePacketsHandler;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.PassthroughRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.BinaryProtocolValue;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.NullBitmap;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MySQL packet query result.
@@ -45,6 +54,11 @@ import java.util.concurrent.LinkedBlockingQueue;
  */
 @Slf4j
 public final class MySQLQueryResult implements QueryResult {
+    
+    private static final long POLL_INTERVAL_MILLISECONDS = 100L;
+    
+    private static final int BINARY_ROW_NULL_BITMAP_OFFSET = 2;
+    
     @Getter
     private final CommandResponsePackets commandResponsePackets;
     
@@ -58,14 +72,30 @@ public final class MySQLQueryResult implements QueryResult {
     
     private final BlockingQueue<MySQLPacket> resultSet;
     
+    private final Channel backendChannel;
+    
+    private final CommandResponsePacketsHandler backendHandler;
+    
+    private final int maxBufferedRows;
+    
+    private final boolean binaryProtocol;
+    
     @Getter
     private int currentSequenceId;
     
+    private PassthroughRowPacket currentRawRow;
+    
     private TextResultSetRowPacket currentRow;
     
     @Getter
     private boolean columnFinished;
     
+    private volatile boolean consuming;
+    
+    private volatile boolean readStopped;
+    
+    private volatile boolean closed;
+    
     public MySQLQueryResult() {
         commandResponsePackets = new CommandResponsePackets();
         columnCount = 0;
@@ -73,9 +103,21 @@ public final class MySQLQueryResult implements QueryResult {
         columnLabelAndIndexMap = null;
         columnDefinitions = null;
         resultSet = null;
+        backendChannel = null;
+        backendHandler = null;
+        maxBufferedRows = 0;
+        binaryProtocol = false;
     }
     
-    public MySQLQueryResult(final MySQLPacketPayload payload) {
+    /**
+     * Constructor.
+     * 
+     * @param payload payload of field count packet
+     * @param backendChannel channel of backend database connection, stop reading from it when too many rows buffered after consuming started and no rows on it are awaited
+     * @param maxBufferedRows max rows buffered before consumed, {@code 0} means unlimited
+     * @param binaryProtocol rows are encoded by binary protocol or not
+     */
+    public MySQLQueryResult(final MySQLPacketPayload payload, final Channel backendChannel, final int maxBufferedRows, final boolean binaryProtocol) {
         FieldCountPacket fieldCountPacket = new FieldCountPacket(payload);
         commandResponsePackets = new CommandResponsePackets(fieldCountPacket);
         columnCount = fieldCountPacket.getColumnCount();
@@ -84,6 +126,10 @@ public final class MySQLQueryResult implements QueryResult {
         columnDefinitions = Lists.newArrayListWithCapacity(fieldCountPacket.getColumnCount());
         currentSequenceId = fieldCountPacket.getSequenceId();
         resultSet = new LinkedBlockingQueue<>();
+        this.backendChannel = backendChannel;
+        backendHandler = backendChannel.pipeline().get(CommandResponsePacketsHandler.class);
+        this.maxBufferedRows = maxBufferedRows;
+        this.binaryProtocol = binaryProtocol;
     }
     
     /**
@@ -115,11 +161,11 @@ public final class MySQLQueryResult implements QueryResult {
     }
     
     /**
-     * Add TextResultSetRow to the QueryResult.
-     * @param textResultSetRow textResultSetRow
+     * Add undecoded result set row to the QueryResult.
+     * @param row row packet received from backend database
      */
-    public void addTextResultSetRow(final TextResultSetRowPacket textResultSetRow) {
-        put(textResultSetRow);
+    public void addRow(final PassthroughRowPacket row) {
+        put(row);
     }
     
     /**
@@ -141,25 +187,152 @@ public final class MySQLQueryResult implements QueryResult {
     }
     
     private void put(final MySQLPacket mysqlPacket) {
+        resultSet.offer(mysqlPacket);
+        if (closed) {
+            releaseBufferedRows();
+            return;
+        }
+        if (maxBufferedRows > 0 && consuming && resultSet.size() >= maxBufferedRows && backendChannel.config().isAutoRead()) {
+            readStopped = true;
+            backendHandler.stopReadIfNoRowsAwaited(backendChannel);
+        }
+    }
+    
+    private MySQLPacket take() throws InterruptedException, SQLException {
+        consuming = true;
+        MySQLPacket result = resultSet.poll();
+        if (null == result) {
+            result = awaitRow();
+        }
+        if (readStopped && resultSet.size() <= maxBufferedRows / 2) {
+            readStopped = false;
+            backendHandler.resumeRead(backendChannel);
+        }
+        return result;
+    }
+    
+    private MySQLPacket awaitRow() throws InterruptedException, SQLException {
+        backendHandler.startAwaitingRows(backendChannel);
         try {
-            resultSet.put(mysqlPacket);
-        } catch (final InterruptedException ex) {
-            log.error(ex.getMessage(), ex);
+            MySQLPacket result = resultSet.poll(POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+            while (null == result) {
+                if (closed) {
+                    throw new SQLException("Query result is closed.");
+                }
+                if (!backendChannel.isActive()) {
+                    throw new SQLException("Backend channel is inactive before all rows received.");
+                }
+                backendHandler.resumeRead(backendChannel);
+                result = resultSet.poll(POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+            return result;
+        } finally {
+            backendHandler.finishAwaitingRows();
         }
     }
     
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
+        releaseCurrentRow();
         try {
-            MySQLPacket mysqlPacket = resultSet.take();
-            currentRow = (mysqlPacket instanceof TextResultSetRowPacket) ? (TextResultSetRowPacket) mysqlPacket : null;
-            return null != currentRow;
+            MySQLPacket mysqlPacket = take();
+            currentRawRow = (mysqlPacket instanceof PassthroughRowPacket) ? (PassthroughRowPacket) mysqlPacket : null;
+            return null != currentRawRow;
         } catch (final InterruptedException ex) {
             log.error(ex.getMessage(), ex);
         }
         return false;
     }
     
+    private void releaseCurrentRow() {
+        if (null != currentRawRow) {
+            currentRawRow.getPayload().release();
+            currentRawRow = null;
+        }
+        currentRow = null;
+    }
+    
+    /**
+     * Close query result, release buffered rows and rows received later, and resume reading from backend channel.
+     * 
+     * <p>Should be called by consumer when query result will not be read any more.</p>
+     */
+    public void close() {
+        if (null == resultSet || closed) {
+            return;
+        }
+        closed = true;
+        releaseCurrentRow();
+        releaseBufferedRows();
+        readStopped = false;
+        backendHandler.resumeRead(backendChannel);
+    }
+    
+    private void releaseBufferedRows() {
+        MySQLPacket each = resultSet.poll();
+        while (null != each) {
+            if (each instanceof PassthroughRowPacket) {
+                ((PassthroughRowPacket) each).getPayload().release();
+            }
+            each = resultSet.poll();
+        }
+    }
+    
+    /**
+     * Get current row without decoding, the ownership of row payload is transferred to caller.
+     * 
+     * @return current row packet received from backend database
+     */
+    public PassthroughRowPacket getPassthroughRow() {
+        PassthroughRowPacket result = currentRawRow;
+        currentRawRow = null;
+        return result;
+    }
+    
+    private TextResultSetRowPacket getCurrentRow() {
+        if (null == currentRow) {
+            try (MySQLPacketPayload payload = new MySQLPacketPayload(currentRawRow.getPayload())) {
+                currentRow = new TextResultSetRowPacket(currentRawRow.getSequenceId(), binaryProtocol ? readBinaryRow(payload) : readTextRow(payload));
+            }
+            currentRawRow = null;
+        }
+        return currentRow;
+    }
+    
+    private List<Object> readTextRow(final MySQLPacketPayload payload) {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(payload.readStringLenenc());
+        }
+        return result;
+    }
+    
+    private List<Object> readBinaryRow(final MySQLPacketPayload payload) {
+        payload.readInt1();
+        NullBitmap nullBitmap = new NullBitmap(columnCount, BINARY_ROW_NULL_BITMAP_OFFSET);
+        for (int i = 0; i < nullBitmap.getNullBitmap().length; i++) {
+            nullBitmap.getNullBitmap()[i] = payload.readInt1();
+        }
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(nullBitmap.isNullParameter(i) ? null : new BinaryProtocolValue(columnDefinitions.get(i).getColumnType(), payload).read());
+        }
+        return result;
+    }
+    
+    /**
+     * Get column types.
+     * 
+     * @return column types
+     */
+    public List<ColumnType> getColumnTypes() {
+        List<ColumnType> result = new ArrayList<>(columnCount);
+        for (ColumnDefinition41Packet each : columnDefinitions) {
+            result.add(each.getColumnType());
+        }
+        return result;
+    }
+    
     @Override
     public int getColumnCount() {
         return columnCount;
@@ -172,32 +345,32 @@ public final class MySQLQueryResult implements QueryResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.getData().get(columnIndex - 1);
+        return getCurrentRow().getData().get(columnIndex - 1);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return getCurrentRow().getData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getData().get(columnIndex - 1);
+        return getCurrentRow().getData().get(columnIndex - 1);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return getCurrentRow().getData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.getData().get(columnIndex - 1);
+        return (InputStream) getCurrentRow().getData().get(columnIndex - 1);
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return (InputStream) getCurrentRow().getData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
     // TODO
@@ -17,10 +17,12 @@
 
 package io.shardingsphere.proxy.config;
 
+import com.google.common.base.Optional;
 import com.google.common.eventbus.Subscribe;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.constant.ShardingProperties;
 import io.shardingsphere.core.constant.ShardingPropertiesConstant;
 import io.shardingsphere.core.constant.TransactionType;
@@ -28,6 +30,9 @@ import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataInitializer;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLatencyStatistics;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ProxyAuthority;
@@ -81,16 +86,26 @@ public final class RuleRegistry {
     
     private int maxWorkingThreads;
     
+    private ExecutorType executorType;
+    
     private boolean proxyBackendUseNio;
     
     private int proxyBackendSimpleDbConnections;
     
     private int proxyBackendConnectionTimeout;
     
+    private int proxyBackendMaxBufferedRows;
+    
     private ProxyAuthority proxyAuthority;
     
     private ShardingMetaData metaData;
     
+    private ParsingResultCache parsingResultCache;
+    
+    private RouteResultCache routeResultCache;
+    
+    private int groupByMemoryMaxRows;
+    
     /**
      * Get instance of sharding rule registry.
      *
@@ -113,9 +128,11 @@ public final class RuleRegistry {
         transactionType = TransactionType.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.PROXY_TRANSACTION_MODE));
         transactionManager = ProxyTransactionLoader.load(transactionType);
         maxWorkingThreads = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_MAX_WORKING_THREADS);
+        executorType = ExecutorType.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.EXECUTOR_TYPE));
         proxyBackendUseNio = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
         proxyBackendSimpleDbConnections = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_SIMPLE_DB_CONNECTIONS);
         proxyBackendConnectionTimeout = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT);
+        proxyBackendMaxBufferedRows = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_MAX_BUFFERED_ROWS);
         shardingRule = new ShardingRule(
                 null == config.getShardingRule() ? new ShardingRuleConfiguration() : config.getShardingRule().getShardingRuleConfiguration(), config.getDataSources().keySet());
         if (null != config.getMasterSlaveRule()) {
@@ -125,6 +142,11 @@ public final class RuleRegistry {
         backendDataSource = new JDBCBackendDataSource(transactionType, config.getDataSources());
         dataSourceConfigurationMap = config.getDataSources();
         proxyAuthority = config.getProxyAuthority();
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_CACHE_MAX_SIZE), 
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_CACHE_MAX_SQL_LENGTH));
+        long routeCacheMaxSize = shardingProperties.getValue(ShardingPropertiesConstant.ROUTE_CACHE_MAX_SIZE);
+        routeResultCache = routeCacheMaxSize > 0L ? new RouteResultCache(routeCacheMaxSize) : null;
+        groupByMemoryMaxRows = shardingProperties.getValue(ShardingPropertiesConstant.MERGE_GROUP_BY_MEMORY_MAX_ROWS);
     }
     
     /**
@@ -156,6 +178,19 @@ public final class RuleRegistry {
         return shardingRule.getTableRules().isEmpty() && null != masterSlaveRule;
     }
     
+    /**
+     * Find latency statistics of slave data source.
+     *
+     * @param dataSourceName data source name
+     * @return latency statistics of master-slave rule which contains slave data source
+     */
+    public Optional<DataSourceLatencyStatistics> findLatencyStatistics(final String dataSourceName) {
+        if (null != masterSlaveRule && masterSlaveRule.getSlaveDataSourceNames().contains(dataSourceName)) {
+            return masterSlaveRule.findLatencyStatistics(dataSourceName);
+        }
+        return null == shardingRule ? Optional.<DataSourceLatencyStatistics>absent() : shardingRule.findLatencyStatistics(dataSourceName);
+    }
+    
     /**
      * Renew rule registry.
      *
@@ -18,13 +18,14 @@
 package io.shardingsphere.proxy.frontend.common.executor;
 
 import io.netty.channel.ChannelId;
+import io.shardingsphere.core.util.ExecutorServiceUtil;
+import io.shardingsphere.proxy.config.RuleRegistry;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Channel thread executor group.
@@ -59,7 +60,7 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        executorServices.put(channelId, ExecutorServiceUtil.newSingleThreadExecutor(RuleRegistry.getInstance().getExecutorType(), "Sharding-Proxy-Channel-" + channelId.asShortText(), false));
     }
     
     /**
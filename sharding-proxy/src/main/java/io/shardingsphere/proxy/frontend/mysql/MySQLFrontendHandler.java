@@ -29,7 +29,9 @@ import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketFactory;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.PassthroughRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -41,6 +43,10 @@ import io.shardingsphere.proxy.util.MySQLResultCache;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * MySQL frontend handler.
@@ -52,8 +58,14 @@ import java.sql.SQLException;
 @RequiredArgsConstructor
 public final class MySQLFrontendHandler extends FrontendHandler {
     
+    private static final long WRITABLE_CHECK_INTERVAL_MILLISECONDS = 100L;
+    
     private final AuthorityHandler authorityHandler = new AuthorityHandler();
     
+    private final Lock writableLock = new ReentrantLock();
+    
+    private final Condition writableCondition = writableLock.newCondition();
+    
     @Override
     protected void handshake(final ChannelHandlerContext context) {
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
@@ -80,15 +92,35 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         new ExecutorGroup(context.channel().id()).getExecutorService().execute(new CommandExecutor(context, message));
     }
     
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) {
+        BinaryStatementRegistry.getInstance().closeConnection(MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText()));
+        super.channelInactive(context);
+    }
+    
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            synchronized (this) {
-                this.notifyAll();
+            writableLock.lock();
+            try {
+                writableCondition.signalAll();
+            } finally {
+                writableLock.unlock();
             }
         }
     }
     
+    private void awaitWritable(final ChannelHandlerContext context) throws InterruptedException {
+        writableLock.lock();
+        try {
+            while (!context.channel().isWritable() && context.channel().isActive()) {
+                writableCondition.await(WRITABLE_CHECK_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            writableLock.unlock();
+        }
+    }
+    
     @RequiredArgsConstructor
     class CommandExecutor implements Runnable {
         
@@ -103,15 +135,12 @@ public final class MySQLFrontendHandler extends FrontendHandler {
             try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
                  BackendConnection backendConnection = new BackendConnection()) {
                 CommandPacket commandPacket = getCommandPacket(payload, backendConnection);
-                Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
-                if (!responsePackets.isPresent()) {
-                    return;
-                }
-                for (DatabasePacket each : responsePackets.get().getPackets()) {
-                    context.writeAndFlush(each);
-                }
-                if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
-                    writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
+                try {
+                    writeResponse(commandPacket);
+                } finally {
+                    if (commandPacket instanceof QueryCommandPacket) {
+                        ((QueryCommandPacket) commandPacket).close();
+                    }
                 }
             } catch (final SQLException ex) {
                 context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
@@ -122,26 +151,35 @@ public final class MySQLFrontendHandler extends FrontendHandler {
             }
         }
         
+        private void writeResponse(final CommandPacket commandPacket) throws SQLException, InterruptedException {
+            Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
+            if (!responsePackets.isPresent()) {
+                return;
+            }
+            for (DatabasePacket each : responsePackets.get().getPackets()) {
+                context.writeAndFlush(each);
+            }
+            if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
+                writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
+            }
+        }
+        
         private CommandPacket getCommandPacket(final MySQLPacketPayload payload, final BackendConnection backendConnection) {
             int sequenceId = payload.readInt1();
             int connectionId = MySQLResultCache.getInstance().getConnection(context.channel().id().asShortText());
             return CommandPacketFactory.getCommandPacket(sequenceId, connectionId, payload, backendConnection);
         }
         
-        private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount) throws SQLException {
+        private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount) throws SQLException, InterruptedException {
             currentSequenceId = headPacketsCount;
             while (queryCommandPacket.next()) {
-                while (!context.channel().isWritable()) {
-                    synchronized (MySQLFrontendHandler.this) {
-                        try {
-                            MySQLFrontendHandler.this.wait();
-                        } catch (final InterruptedException ignore) {
-                        }
-                    }
+                awaitWritable(context);
+                if (!context.channel().isActive()) {
+                    return;
                 }
                 DatabasePacket resultValue = queryCommandPacket.getResultValue();
                 currentSequenceId = resultValue.getSequenceId();
-                context.writeAndFlush(resultValue);
+                context.writeAndFlush(resultValue instanceof PassthroughRowPacket ? ((PassthroughRowPacket) resultValue).toByteBuf(context.alloc()) : resultValue);
             }
             context.writeAndFlush(new EofPacket(++currentSequenceId));
         }
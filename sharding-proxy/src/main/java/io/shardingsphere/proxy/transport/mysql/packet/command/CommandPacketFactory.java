@@ -59,11 +59,11 @@ public final class CommandPacketFactory {
             case COM_QUERY:
                 return new ComQueryPacket(sequenceId, connectionId, payload, backendConnection);
             case COM_STMT_PREPARE:
-                return new ComStmtPreparePacket(sequenceId, payload);
+                return new ComStmtPreparePacket(sequenceId, connectionId, payload);
             case COM_STMT_EXECUTE:
-                return new ComStmtExecutePacket(sequenceId, payload, backendConnection);
+                return new ComStmtExecutePacket(sequenceId, connectionId, payload, backendConnection);
             case COM_STMT_CLOSE:
-                return new ComStmtClosePacket(sequenceId, payload);
+                return new ComStmtClosePacket(sequenceId, connectionId, payload);
             case COM_PING:
                 return new ComPingPacket(sequenceId);
             case COM_SLEEP:
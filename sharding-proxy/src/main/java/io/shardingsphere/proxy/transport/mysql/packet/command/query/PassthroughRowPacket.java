@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Result set row packet received from backend database, which can be forwarded to client without decoding.
+ *
+ * <p>Payload is the retained buffer received from backend database, it will be released after written.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PassthroughRowPacket implements MySQLPacket {
+    
+    private final int sequenceId;
+    
+    private final ByteBuf payload;
+    
+    public PassthroughRowPacket(final MySQLPacketPayload payload) {
+        this(payload.readInt1(), payload.getByteBuf());
+    }
+    
+    /**
+     * Create passthrough row packet with another sequence ID, payload is shared.
+     *
+     * @param sequenceId sequence ID
+     * @return passthrough row packet
+     */
+    public PassthroughRowPacket withSequenceId(final int sequenceId) {
+        return new PassthroughRowPacket(sequenceId, payload);
+    }
+    
+    /**
+     * Convert to byte buffer of whole packet include header, payload is not copied.
+     *
+     * @param allocator byte buffer allocator
+     * @return byte buffer of whole packet
+     */
+    public ByteBuf toByteBuf(final ByteBufAllocator allocator) {
+        ByteBuf header = allocator.buffer(PAYLOAD_LENGTH + SEQUENCE_LENGTH);
+        header.writeMediumLE(payload.readableBytes());
+        header.writeByte(sequenceId);
+        return allocator.compositeBuffer(2).addComponents(true, header, payload);
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        try {
+            payload.getByteBuf().writeBytes(this.payload);
+        } finally {
+            this.payload.release();
+        }
+    }
+}
@@ -45,4 +45,11 @@ public interface QueryCommandPacket extends CommandPacket {
      * @throws SQLException SQL exception
      */
     DatabasePacket getResultValue() throws SQLException;
+    
+    /**
+     * Close result values.
+     *
+     * @throws SQLException SQL exception
+     */
+    void close() throws SQLException;
 }
@@ -33,9 +33,25 @@ import java.util.List;
 @Setter
 public final class BinaryStatement {
     
-    private final String sql;
-    
-    private final int parametersCount;
+    private final BinaryStatementTemplate template;
     
     private List<BinaryStatementParameterType> parameterTypes;
+    
+    /**
+     * Get SQL.
+     * 
+     * @return SQL
+     */
+    public String getSql() {
+        return template.getSql();
+    }
+    
+    /**
+     * Get parameters count.
+     * 
+     * @return parameters count
+     */
+    public int getParametersCount() {
+        return template.getParametersCount();
+    }
 }
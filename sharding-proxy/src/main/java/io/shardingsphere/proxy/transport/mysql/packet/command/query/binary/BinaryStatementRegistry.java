@@ -17,9 +17,16 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
 
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheStats;
 import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,19 +34,34 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * Binary prepared statement registry.
  *
+ * <p>
+ * Statements are registered by frontend connection, and released when closed by client or the connection is disconnected.
+ * Templates of statements are shared by all connections in a bounded cache with reference counting.
+ * Least recently used template which is not referenced by any statement will be evicted when the cache is full,
+ * template will not be cached if all cached templates are referenced.
+ * </p>
+ *
  * @author zhangliang
  * @author zhangyonglun
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public final class BinaryStatementRegistry {
     
-    private static final BinaryStatementRegistry INSTANCE = new BinaryStatementRegistry();
+    private static final int DEFAULT_MAX_TEMPLATES = 4096;
+    
+    private static final BinaryStatementRegistry INSTANCE = new BinaryStatementRegistry(DEFAULT_MAX_TEMPLATES);
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
+    private final int maxTemplates;
     
-    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
+    private final Map<String, CachedTemplate> templates = new LinkedHashMap<>(16, 0.75F, true);
     
-    private final AtomicInteger sequence = new AtomicInteger();
+    private final ConcurrentMap<Integer, ConnectionBinaryStatements> connectionStatements = new ConcurrentHashMap<>();
+    
+    private long hitCount;
+    
+    private long missCount;
+    
+    private long evictionCount;
     
     /**
      * Get prepared statement registry instance.
@@ -51,30 +73,167 @@ public final class BinaryStatementRegistry {
     }
     
     /**
-     * Register SQL.
+     * Find cached template of SQL.
      * 
      * @param sql SQL
-     * @param parametersCount parameters count
+     * @return cached template
+     */
+    public synchronized Optional<BinaryStatementTemplate> findTemplate(final String sql) {
+        CachedTemplate result = templates.get(sql);
+        if (null == result) {
+            missCount++;
+            return Optional.absent();
+        }
+        hitCount++;
+        return Optional.of(result.getTemplate());
+    }
+    
+    /**
+     * Register statement.
+     * 
+     * @param connectionId frontend connection ID
+     * @param template template of statement
      * @return statement ID
      */
-    public int register(final String sql, final int parametersCount) {
-        Integer result = statementIdAssigner.get(sql);
+    public int register(final int connectionId, final BinaryStatementTemplate template) {
+        BinaryStatementTemplate sharedTemplate = acquireTemplate(template);
+        ConnectionBinaryStatements statements = getConnectionStatements(connectionId);
+        int result = statements.getSequence().incrementAndGet();
+        statements.getStatements().put(result, new BinaryStatement(sharedTemplate));
+        return result;
+    }
+    
+    private ConnectionBinaryStatements getConnectionStatements(final int connectionId) {
+        ConnectionBinaryStatements result = connectionStatements.get(connectionId);
         if (null != result) {
             return result;
         }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new BinaryStatement(sql, parametersCount));
-        return result;
+        result = new ConnectionBinaryStatements();
+        ConnectionBinaryStatements existed = connectionStatements.putIfAbsent(connectionId, result);
+        return null == existed ? result : existed;
     }
     
     /**
      * Get binary prepared statement.
      *
+     * @param connectionId frontend connection ID
+     * @param statementId statement ID
+     * @return binary prepared statement, return {@code null} if not registered
+     */
+    public BinaryStatement getBinaryStatement(final int connectionId, final int statementId) {
+        ConnectionBinaryStatements statements = connectionStatements.get(connectionId);
+        return null == statements ? null : statements.getStatements().get(statementId);
+    }
+    
+    /**
+     * Close binary prepared statement.
+     *
+     * @param connectionId frontend connection ID
      * @param statementId statement ID
-     * @return binary prepared statement
      */
-    public BinaryStatement getBinaryStatement(final int statementId) {
-        return binaryStatements.get(statementId);
+    public void close(final int connectionId, final int statementId) {
+        ConnectionBinaryStatements statements = connectionStatements.get(connectionId);
+        if (null == statements) {
+            return;
+        }
+        BinaryStatement binaryStatement = statements.getStatements().remove(statementId);
+        if (null != binaryStatement) {
+            releaseTemplate(binaryStatement.getTemplate());
+        }
+    }
+    
+    /**
+     * Close all binary prepared statements of frontend connection.
+     *
+     * @param connectionId frontend connection ID
+     */
+    public void closeConnection(final int connectionId) {
+        ConnectionBinaryStatements statements = connectionStatements.remove(connectionId);
+        if (null == statements) {
+            return;
+        }
+        for (BinaryStatement each : statements.getStatements().values()) {
+            releaseTemplate(each.getTemplate());
+        }
+    }
+    
+    private synchronized BinaryStatementTemplate acquireTemplate(final BinaryStatementTemplate template) {
+        CachedTemplate cachedTemplate = templates.get(template.getSql());
+        if (null == cachedTemplate) {
+            evictTemplates(maxTemplates - 1);
+            if (templates.size() >= maxTemplates) {
+                return template;
+            }
+            cachedTemplate = new CachedTemplate(template);
+            templates.put(template.getSql(), cachedTemplate);
+        }
+        cachedTemplate.setReferenceCount(cachedTemplate.getReferenceCount() + 1);
+        return cachedTemplate.getTemplate();
+    }
+    
+    private synchronized void releaseTemplate(final BinaryStatementTemplate template) {
+        CachedTemplate cachedTemplate = templates.get(template.getSql());
+        if (null != cachedTemplate && cachedTemplate.getTemplate() == template) {
+            cachedTemplate.setReferenceCount(cachedTemplate.getReferenceCount() - 1);
+        }
+    }
+    
+    private void evictTemplates(final int maxSize) {
+        Iterator<CachedTemplate> iterator = templates.values().iterator();
+        while (templates.size() > maxSize && iterator.hasNext()) {
+            if (0 == iterator.next().getReferenceCount()) {
+                iterator.remove();
+                evictionCount++;
+            }
+        }
+    }
+    
+    /**
+     * Get count of cached templates.
+     *
+     * @return count of cached templates
+     */
+    public synchronized int getTemplateCount() {
+        return templates.size();
+    }
+    
+    /**
+     * Get statistics of cached templates.
+     *
+     * @return statistics of cached templates
+     */
+    public synchronized CacheStats getStatistics() {
+        return new CacheStats(hitCount, missCount, 0L, 0L, 0L, evictionCount);
+    }
+    
+    /**
+     * Get count of registered statements of all frontend connections.
+     *
+     * @return count of registered statements
+     */
+    public int getStatementCount() {
+        int result = 0;
+        for (ConnectionBinaryStatements each : connectionStatements.values()) {
+            result += each.getStatements().size();
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedTemplate {
+        
+        private final BinaryStatementTemplate template;
+        
+        @Setter
+        private int referenceCount;
+    }
+    
+    @Getter
+    private static final class ConnectionBinaryStatements {
+        
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        private final ConcurrentMap<Integer, BinaryStatement> statements = new ConcurrentHashMap<>();
     }
 }
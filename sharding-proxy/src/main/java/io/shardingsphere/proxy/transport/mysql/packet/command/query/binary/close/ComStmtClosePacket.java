@@ -20,7 +20,9 @@ package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.clos
 import com.google.common.base.Optional;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,21 +39,32 @@ public class ComStmtClosePacket implements CommandPacket {
     @Getter
     private final int sequenceId;
     
+    private final int connectionId;
+    
     private final int statementId;
     
-    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    public ComStmtClosePacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload) {
         this.sequenceId = sequenceId;
+        this.connectionId = connectionId;
         statementId = payload.readInt4();
     }
     
+    public ComStmtClosePacket(final int sequenceId, final int statementId) {
+        this.sequenceId = sequenceId;
+        connectionId = 0;
+        this.statementId = statementId;
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(CommandPacketType.COM_STMT_CLOSE.getValue());
+        payload.writeInt4(statementId);
     }
     
     @Override
     public Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_CLOSE received for Sharding-Proxy: {}", statementId);
-        // TODO :yonglun need to clean PreparedStatementRegistry?
+        BinaryStatementRegistry.getInstance().close(connectionId, statementId);
         return Optional.absent();
     }
 }
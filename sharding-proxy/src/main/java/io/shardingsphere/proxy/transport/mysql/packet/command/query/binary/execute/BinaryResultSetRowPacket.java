@@ -74,7 +74,9 @@ public final class BinaryResultSetRowPacket implements MySQLPacket {
     
     private void writeValues(final MySQLPacketPayload payload) {
         for (int i = 0; i < columnsCount; i++) {
-            new BinaryProtocolValue(columnTypes.get(i), payload).write(data.get(i));
+            if (null != data.get(i)) {
+                new BinaryProtocolValue(columnTypes.get(i), payload).write(data.get(i));
+            }
         }
     }
 }
@@ -19,15 +19,16 @@ package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.exec
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.proxy.backend.BackendHandler;
+import io.shardingsphere.proxy.backend.BackendHandlerFactory;
 import io.shardingsphere.proxy.backend.ResultPacket;
-import io.shardingsphere.proxy.backend.jdbc.JDBCBackendHandler;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
-import io.shardingsphere.proxy.backend.jdbc.execute.JDBCExecuteEngineFactory;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.constant.NewParametersBoundFlag;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
@@ -36,8 +37,12 @@ import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.Binar
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -57,6 +62,8 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     @Getter
     private final int sequenceId;
     
+    private final int connectionId;
+    
     private final int statementId;
     
     private final BinaryStatement binaryStatement;
@@ -67,14 +74,18 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     private final NewParametersBoundFlag newParametersBoundFlag;
     
+    private final List<BinaryStatementParameterType> parameterTypes;
+    
     private final List<Object> parameters;
     
     private final BackendHandler backendHandler;
     
-    public ComStmtExecutePacket(final int sequenceId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+    public ComStmtExecutePacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
         this.sequenceId = sequenceId;
+        this.connectionId = connectionId;
         statementId = payload.readInt4();
-        binaryStatement = BinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = BinaryStatementRegistry.getInstance().getBinaryStatement(connectionId, statementId);
+        Preconditions.checkState(null != binaryStatement, "Unknown prepared statement handler (%s) given to mysqld_stmt_execute.", statementId);
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -86,9 +97,68 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
         if (NewParametersBoundFlag.PARAMETER_TYPE_EXIST == newParametersBoundFlag) {
             binaryStatement.setParameterTypes(getParameterTypes(payload, parametersCount));
         }
+        parameterTypes = binaryStatement.getParameterTypes();
         parameters = getParameters(payload, parametersCount);
-        // TODO netty backend not implemented yet
-        backendHandler = new JDBCBackendHandler(binaryStatement.getSql(), JDBCExecuteEngineFactory.createBinaryProtocolInstance(parameters, backendConnection));
+        backendHandler = BackendHandlerFactory.newBinaryProtocolInstance(binaryStatement.getSql(), parameters, backendConnection, DatabaseType.MySQL, connectionId);
+    }
+    
+    public ComStmtExecutePacket(final int sequenceId, final int statementId, final List<Object> parameters) {
+        this.sequenceId = sequenceId;
+        connectionId = 0;
+        this.statementId = statementId;
+        binaryStatement = null;
+        flags = 0;
+        nullBitmap = new NullBitmap(parameters.size(), NULL_BITMAP_OFFSET);
+        newParametersBoundFlag = NewParametersBoundFlag.PARAMETER_TYPE_EXIST;
+        parameterTypes = new ArrayList<>(parameters.size());
+        this.parameters = new ArrayList<>(parameters.size());
+        for (int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+            Object parameter = parameters.get(parameterIndex);
+            if (null == parameter) {
+                nullBitmap.setNullBit(parameterIndex);
+            }
+            parameterTypes.add(new BinaryStatementParameterType(getColumnType(parameter), 0));
+            this.parameters.add(getBinaryValue(parameter));
+        }
+        backendHandler = null;
+    }
+    
+    private ColumnType getColumnType(final Object parameter) {
+        if (null == parameter) {
+            return ColumnType.MYSQL_TYPE_NULL;
+        }
+        if (parameter instanceof Long || parameter instanceof Integer || parameter instanceof Short || parameter instanceof Byte) {
+            return ColumnType.MYSQL_TYPE_LONGLONG;
+        }
+        if (parameter instanceof Boolean) {
+            return ColumnType.MYSQL_TYPE_TINY;
+        }
+        if (parameter instanceof Double || parameter instanceof Float) {
+            return ColumnType.MYSQL_TYPE_DOUBLE;
+        }
+        if (parameter instanceof BigDecimal) {
+            return ColumnType.MYSQL_TYPE_NEWDECIMAL;
+        }
+        if (parameter instanceof Time) {
+            return ColumnType.MYSQL_TYPE_TIME;
+        }
+        if (parameter instanceof Date) {
+            return ColumnType.MYSQL_TYPE_DATETIME;
+        }
+        return ColumnType.MYSQL_TYPE_VAR_STRING;
+    }
+    
+    private Object getBinaryValue(final Object parameter) {
+        if (parameter instanceof Integer || parameter instanceof Short || parameter instanceof Byte) {
+            return ((Number) parameter).longValue();
+        }
+        if (parameter instanceof Boolean) {
+            return (Boolean) parameter ? 1 : 0;
+        }
+        if (parameter instanceof Date && !(parameter instanceof Timestamp) && !(parameter instanceof Time)) {
+            return new Timestamp(((Date) parameter).getTime());
+        }
+        return parameter;
     }
     
     private List<BinaryStatementParameterType> getParameterTypes(final MySQLPacketPayload payload, final int parametersCount) {
@@ -111,20 +181,28 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     @Override
     public void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(CommandPacketType.COM_STMT_EXECUTE.getValue());
         payload.writeInt4(statementId);
         payload.writeInt1(flags);
         payload.writeInt4(ITERATION_COUNT);
+        if (parameters.isEmpty()) {
+            return;
+        }
         for (int each : nullBitmap.getNullBitmap()) {
             payload.writeInt1(each);
         }
         payload.writeInt1(newParametersBoundFlag.getValue());
-        int count = 0;
-        for (Object each : parameters) {
-            BinaryStatementParameterType parameterType = binaryStatement.getParameterTypes().get(count);
-            payload.writeInt1(parameterType.getColumnType().getValue());
-            payload.writeInt1(parameterType.getUnsignedFlag());
-            payload.writeStringLenenc(null == each ? "" : each.toString());
-            count++;
+        if (NewParametersBoundFlag.PARAMETER_TYPE_EXIST == newParametersBoundFlag) {
+            for (BinaryStatementParameterType each : parameterTypes) {
+                payload.writeInt1(each.getColumnType().getValue());
+                payload.writeInt1(each.getUnsignedFlag());
+            }
+        }
+        for (int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+            Object parameter = parameters.get(parameterIndex);
+            if (null != parameter) {
+                new BinaryProtocolValue(parameterTypes.get(parameterIndex).getColumnType(), payload).write(parameter);
+            }
         }
     }
     
@@ -141,7 +219,16 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     @Override
     public DatabasePacket getResultValue() throws SQLException {
+        Optional<DatabasePacket> passthroughResultValue = backendHandler.getPassthroughResultValue();
+        if (passthroughResultValue.isPresent()) {
+            return passthroughResultValue.get();
+        }
         ResultPacket resultPacket = backendHandler.getResultValue();
         return new BinaryResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getColumnCount(), resultPacket.getData(), resultPacket.getColumnTypes());
     }
+    
+    @Override
+    public void close() throws SQLException {
+        backendHandler.close();
+    }
 }
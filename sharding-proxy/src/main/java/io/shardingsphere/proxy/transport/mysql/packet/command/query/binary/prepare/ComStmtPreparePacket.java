@@ -28,9 +28,11 @@ import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementTemplate;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -52,15 +54,25 @@ public final class ComStmtPreparePacket implements CommandPacket {
     @Getter
     private final int sequenceId;
     
+    private final int connectionId;
+    
     private final String sql;
     
-    public ComStmtPreparePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    public ComStmtPreparePacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload) {
         this.sequenceId = sequenceId;
+        this.connectionId = connectionId;
         sql = payload.readStringEOF();
     }
     
+    public ComStmtPreparePacket(final int sequenceId, final String sql) {
+        this.sequenceId = sequenceId;
+        connectionId = 0;
+        this.sql = sql;
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(CommandPacketType.COM_STMT_PREPARE.getValue());
         payload.writeStringEOF(sql);
     }
     
@@ -68,21 +80,29 @@ public final class ComStmtPreparePacket implements CommandPacket {
     public Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_PREPARE received for Sharding-Proxy: {}", sql);
         int currentSequenceId = 0;
-        SQLStatement sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable()).parse(true);
+        Optional<BinaryStatementTemplate> cachedTemplate = PREPARED_STATEMENT_REGISTRY.findTemplate(sql);
+        BinaryStatementTemplate template = cachedTemplate.isPresent() ? cachedTemplate.get() : createTemplate();
         CommandResponsePackets result = new CommandResponsePackets(new ComStmtPrepareOKPacket(
-                ++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(sql, sqlStatement.getParametersIndex()), getNumColumns(sqlStatement), sqlStatement.getParametersIndex(), 0));
-        for (int i = 0; i < sqlStatement.getParametersIndex(); i++) {
+                ++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(connectionId, template), template.getColumnsCount(), template.getParametersCount(), 0));
+        for (int i = 0; i < template.getParametersCount(); i++) {
             // TODO add column name
-            result.getPackets().add(new ColumnDefinition41Packet(++currentSequenceId, ShardingConstant.LOGIC_SCHEMA_NAME,
-                    sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "", "", "", "", 100, ColumnType.MYSQL_TYPE_VARCHAR, 0));
+            result.getPackets().add(new ColumnDefinition41Packet(++currentSequenceId, ShardingConstant.LOGIC_SCHEMA_NAME, template.getTableName(), "", "", "", 100, ColumnType.MYSQL_TYPE_VARCHAR, 0));
         }
-        if (sqlStatement.getParametersIndex() > 0) {
+        if (template.getParametersCount() > 0) {
             result.getPackets().add(new EofPacket(++currentSequenceId));
         }
         // TODO add If numColumns > 0
         return Optional.of(result);
     }
     
+    private BinaryStatementTemplate createTemplate() {
+        SQLStatement sqlStatement = new SQLParsingEngine(
+                DatabaseType.MySQL, sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), RULE_REGISTRY.getParsingResultCache()).parse(true);
+        log.debug("Statistics of binary statement templates: {}", PREPARED_STATEMENT_REGISTRY.getStatistics());
+        return new BinaryStatementTemplate(
+                sql, sqlStatement.getParametersIndex(), getNumColumns(sqlStatement), sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "");
+    }
+    
     private int getNumColumns(final SQLStatement sqlStatement) {
         if (sqlStatement instanceof SelectStatement) {
             return ((SelectStatement) sqlStatement).getItems().size();
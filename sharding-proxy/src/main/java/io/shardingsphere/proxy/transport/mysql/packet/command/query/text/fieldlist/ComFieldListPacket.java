@@ -79,8 +79,12 @@ public final class ComFieldListPacket implements CommandPacket, CommandPacketReb
     public Optional<CommandResponsePackets> execute() throws SQLException {
         log.debug("Table name received for Sharding-Proxy: {}", table);
         log.debug("Field wildcard received for Sharding-Proxy: {}", fieldWildcard);
-        CommandResponsePackets responsePackets = backendHandler.execute();
-        return Optional.of(responsePackets.getHeadPacket() instanceof ErrPacket ? responsePackets : getColumnDefinition41Packets());
+        try {
+            CommandResponsePackets responsePackets = backendHandler.execute();
+            return Optional.of(responsePackets.getHeadPacket() instanceof ErrPacket ? responsePackets : getColumnDefinition41Packets());
+        } finally {
+            backendHandler.close();
+        }
     }
     
     private CommandResponsePackets getColumnDefinition41Packets() throws SQLException {
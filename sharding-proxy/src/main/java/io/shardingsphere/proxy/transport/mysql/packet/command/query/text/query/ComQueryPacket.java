@@ -97,10 +97,19 @@ public final class ComQueryPacket implements QueryCommandPacket, CommandPacketRe
     
     @Override
     public DatabasePacket getResultValue() throws SQLException {
+        Optional<DatabasePacket> passthroughResultValue = backendHandler.getPassthroughResultValue();
+        if (passthroughResultValue.isPresent()) {
+            return passthroughResultValue.get();
+        }
         ResultPacket resultPacket = backendHandler.getResultValue();
         return new TextResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData());
     }
     
+    @Override
+    public void close() throws SQLException {
+        backendHandler.close();
+    }
+    
     @Override
     public int connectionId() {
         return connectionId;
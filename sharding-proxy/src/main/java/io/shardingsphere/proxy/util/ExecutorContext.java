@@ -19,11 +19,10 @@ package io.shardingsphere.proxy.util;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.shardingsphere.core.util.ExecutorServiceUtil;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import lombok.Getter;
 
-import java.util.concurrent.Executors;
-
 /**
  * Executor context.
  *
@@ -34,7 +33,8 @@ public final class ExecutorContext {
     private static final ExecutorContext INSTANCE = new ExecutorContext();
     
     @Getter
-    private final ListeningExecutorService executorService = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(RuleRegistry.getInstance().getMaxWorkingThreads()));
+    private final ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
+            ExecutorServiceUtil.newFixedThreadPool(RuleRegistry.getInstance().getExecutorType(), RuleRegistry.getInstance().getMaxWorkingThreads(), "Sharding-Proxy-%d", false));
     
     /**
      * Get executor context instance.
@@ -17,6 +17,11 @@
 
 package io.shardingsphere.proxy;
 
+import io.shardingsphere.proxy.backend.netty.MultiplexedChannelPoolTest;
+import io.shardingsphere.proxy.backend.netty.mysql.MySQLQueryResultTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.PassthroughRowPacketTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistryTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.AuthPluginDataTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.AuthorityHandlerTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.ConnectionIdGeneratorTest;
@@ -31,9 +36,14 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         AuthorityHandlerTest.class,
         AuthPluginDataTest.class,
+        BinaryStatementRegistryTest.class,
+        ComStmtExecutePacketTest.class,
         ConnectionIdGeneratorTest.class,
         HandshakePacketTest.class,
         HandshakeResponse41PacketTest.class,
+        MultiplexedChannelPoolTest.class,
+        MySQLQueryResultTest.class,
+        PassthroughRowPacketTest.class,
         RandomGeneratorTest.class
 })
 public class AllTests {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty;
+
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.proxy.backend.netty.mysql.MySQLBackendHandler;
+import io.shardingsphere.proxy.backend.netty.mysql.MySQLQueryResult;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
+import io.shardingsphere.proxy.util.MySQLResultCache;
+import io.shardingsphere.proxy.util.SynchronizedFuture;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MultiplexedChannelPoolTest {
+    
+    private final EmbeddedChannel channel1 = new EmbeddedChannel(new MySQLBackendHandler(null));
+    
+    private final EmbeddedChannel channel2 = new EmbeddedChannel(new MySQLBackendHandler(null));
+    
+    private MultiplexedChannelPool multiplexedChannelPool;
+    
+    @Before
+    public void setUp() throws InterruptedException {
+        ChannelPool channelPool = mock(ChannelPool.class);
+        when(channelPool.acquire()).thenReturn(channel1.eventLoop().<Channel>newSucceededFuture(channel1), channel2.eventLoop().<Channel>newSucceededFuture(channel2));
+        multiplexedChannelPool = new MultiplexedChannelPool(channelPool, 2, 1);
+        multiplexedChannelPool.init();
+    }
+    
+    @Test
+    public void assertWriteCommandToChannelWithLeastPendingCommands() throws InterruptedException, ExecutionException, TimeoutException {
+        for (int i = 0; i < 5; i++) {
+            multiplexedChannelPool.writeCommand(i, new ComQueryPacket(0, i, "SELECT 1"));
+        }
+        assertThat(getPendingCommandCount(channel1), is(3));
+        assertThat(getPendingCommandCount(channel2), is(2));
+        assertThat(channel1.outboundMessages().size(), is(3));
+        assertThat(channel2.outboundMessages().size(), is(2));
+    }
+    
+    @Test
+    public void assertPrepareAllUnitsBeforeExecuting() throws InterruptedException, ExecutionException, TimeoutException {
+        PreparingStatement preparingStatement1 = multiplexedChannelPool.prepare(1, "SELECT * FROM t_order_0 WHERE order_id = ?");
+        PreparingStatement preparingStatement2 = multiplexedChannelPool.prepare(1, "SELECT * FROM t_order_1 WHERE order_id = ?");
+        assertFalse(preparingStatement1.isReused());
+        assertFalse(preparingStatement2.isReused());
+        assertThat(channel1.outboundMessages().size(), is(1));
+        assertThat(channel2.outboundMessages().size(), is(1));
+        ((SettableFuture<Integer>) preparingStatement1.getStatementId()).set(1);
+        multiplexedChannelPool.writeExecuteCommand(1, preparingStatement1, Collections.<Object>singletonList(10));
+        assertThat(channel1.outboundMessages().size(), is(2));
+        assertThat(getPendingCommandCount(channel1), is(2));
+        PreparingStatement actual = channel1.pipeline().get(CommandResponsePacketsHandler.class).prepare(channel1, 2, "SELECT * FROM t_order_0 WHERE order_id = ?");
+        assertTrue(actual.isReused());
+        assertThat(actual.getStatementId().get(), is(1));
+        assertThat(channel1.outboundMessages().size(), is(2));
+    }
+    
+    @Test
+    public void assertRespondErrorWhenPrepareFailed() throws InterruptedException, ExecutionException, TimeoutException {
+        SynchronizedFuture synchronizedFuture = new SynchronizedFuture(1);
+        MySQLResultCache.getInstance().putFuture(3, synchronizedFuture);
+        try {
+            PreparingStatement preparingStatement = multiplexedChannelPool.prepare(3, "SELEC * FROM t_order WHERE order_id = ?");
+            ((SettableFuture<Integer>) preparingStatement.getStatementId()).setException(new SQLException("You have an error in your SQL syntax", "42000", 1064));
+            try {
+                multiplexedChannelPool.writeExecuteCommand(3, preparingStatement, Collections.<Object>singletonList(10));
+                fail("Expected ExecutionException to be thrown");
+            } catch (final ExecutionException ex) {
+                assertThat(ex.getCause(), instanceOf(SQLException.class));
+            }
+            List<QueryResult> actual = synchronizedFuture.get(0, TimeUnit.SECONDS);
+            assertThat(actual.size(), is(1));
+            ErrPacket errPacket = (ErrPacket) ((MySQLQueryResult) actual.get(0)).getCommandResponsePackets().getHeadPacket();
+            assertThat(errPacket.getErrorCode(), is(1064));
+            assertThat(errPacket.getSqlState(), is("42000"));
+            assertThat(errPacket.getErrorMessage(), is("You have an error in your SQL syntax"));
+        } finally {
+            MySQLResultCache.getInstance().deleteFuture(3);
+        }
+    }
+    
+    private int getPendingCommandCount(final Channel channel) {
+        return channel.pipeline().get(CommandResponsePacketsHandler.class).getPendingCommandCount();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.shardingsphere.proxy.backend.netty.CommandResponsePacketsHandler;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.PassthroughRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLQueryResultTest {
+    
+    private static final int MAX_BUFFERED_ROWS = 1024;
+    
+    @Test
+    public void assertStopAndResumeReadingBackendChannel() throws SQLException {
+        EmbeddedChannel backendChannel = new EmbeddedChannel(new MySQLBackendHandler(null));
+        writeCommand(backendChannel, 1);
+        MySQLQueryResult actual = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), backendChannel, 4, false);
+        for (int i = 0; i < 3; i++) {
+            actual.addRow(createRow(i));
+        }
+        assertTrue(actual.next());
+        assertTrue(backendChannel.config().isAutoRead());
+        actual.addRow(createRow(3));
+        assertTrue(backendChannel.config().isAutoRead());
+        actual.addRow(createRow(4));
+        assertFalse(backendChannel.config().isAutoRead());
+        assertTrue(actual.next());
+        assertFalse(backendChannel.config().isAutoRead());
+        assertTrue(actual.next());
+        assertTrue(backendChannel.config().isAutoRead());
+        assertThat(actual.getValue(1, Object.class), is((Object) "2"));
+        actual.setRowFinished(new EofPacket(7));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNotStopReadingBackendChannelBeforeConsuming() throws SQLException {
+        EmbeddedChannel backendChannel = new EmbeddedChannel(new MySQLBackendHandler(null));
+        writeCommand(backendChannel, 1);
+        writeCommand(backendChannel, 1);
+        MySQLQueryResult actual = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), backendChannel, MAX_BUFFERED_ROWS, false);
+        for (int i = 0; i < MAX_BUFFERED_ROWS * 2; i++) {
+            actual.addRow(createRow(i % 10));
+        }
+        assertTrue(backendChannel.config().isAutoRead());
+        assertTrue(actual.next());
+        actual.addRow(createRow(0));
+        assertFalse(backendChannel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertKeepReadingBackendChannelWhileRowsOfOtherUnitAwaited() throws InterruptedException, SQLException {
+        EmbeddedChannel backendChannel = new EmbeddedChannel(new MySQLBackendHandler(null));
+        writeCommand(backendChannel, 1);
+        writeCommand(backendChannel, 1);
+        MySQLQueryResult buffered = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), backendChannel, MAX_BUFFERED_ROWS, false);
+        final MySQLQueryResult awaited = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), backendChannel, MAX_BUFFERED_ROWS, false);
+        buffered.addRow(createRow(0));
+        assertTrue(buffered.next());
+        for (int i = 0; i < MAX_BUFFERED_ROWS; i++) {
+            buffered.addRow(createRow(i % 10));
+        }
+        assertFalse(backendChannel.config().isAutoRead());
+        final AtomicBoolean awaitedHasRow = new AtomicBoolean();
+        Thread consumer = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    awaitedHasRow.set(awaited.next());
+                } catch (final SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        });
+        consumer.start();
+        while (!backendChannel.config().isAutoRead()) {
+            Thread.sleep(10L);
+        }
+        for (int i = 0; i < MAX_BUFFERED_ROWS; i++) {
+            buffered.addRow(createRow(i % 10));
+        }
+        assertTrue(backendChannel.config().isAutoRead());
+        awaited.addRow(createRow(1));
+        consumer.join();
+        assertTrue(awaitedHasRow.get());
+        buffered.addRow(createRow(0));
+        assertFalse(backendChannel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertCloseReleasesBufferedRows() throws SQLException {
+        EmbeddedChannel backendChannel = new EmbeddedChannel(new MySQLBackendHandler(null));
+        writeCommand(backendChannel, 1);
+        MySQLQueryResult actual = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), backendChannel, 2, false);
+        List<PassthroughRowPacket> rows = new LinkedList<>();
+        for (int i = 0; i < 4; i++) {
+            rows.add(createRow(i));
+            actual.addRow(rows.get(i));
+        }
+        assertTrue(actual.next());
+        rows.add(createRow(4));
+        actual.addRow(rows.get(4));
+        assertFalse(backendChannel.config().isAutoRead());
+        actual.close();
+        assertTrue(backendChannel.config().isAutoRead());
+        PassthroughRowPacket receivedAfterClosed = createRow(5);
+        actual.addRow(receivedAfterClosed);
+        rows.add(receivedAfterClosed);
+        for (PassthroughRowPacket each : rows) {
+            assertThat(each.getPayload().refCnt(), is(0));
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWhenBackendChannelInactive() throws SQLException {
+        EmbeddedChannel backendChannel = new EmbeddedChannel(new MySQLBackendHandler(null));
+        writeCommand(backendChannel, 1);
+        MySQLQueryResult actual = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), backendChannel, 2, false);
+        backendChannel.close();
+        actual.next();
+    }
+    
+    private void writeCommand(final EmbeddedChannel backendChannel, final int connectionId) {
+        backendChannel.pipeline().get(CommandResponsePacketsHandler.class).writeCommand(backendChannel, connectionId, new ComQueryPacket(0, connectionId, "SELECT 1"));
+    }
+    
+    private PassthroughRowPacket createRow(final int value) {
+        ByteBuf payload = Unpooled.buffer();
+        payload.writeByte(1);
+        payload.writeByte('0' + value);
+        return new PassthroughRowPacket(value + 2, payload);
+    }
+}
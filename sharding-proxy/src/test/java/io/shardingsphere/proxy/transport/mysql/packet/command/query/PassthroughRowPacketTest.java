@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PassthroughRowPacketTest {
+    
+    private final ByteBufAllocator allocator = UnpooledByteBufAllocator.DEFAULT;
+    
+    @Test
+    public void assertToByteBufWithAnotherSequenceId() {
+        ByteBuf received = allocator.buffer();
+        received.writeByte(5);
+        received.writeByte(1);
+        received.writeByte('a');
+        PassthroughRowPacket actual = new PassthroughRowPacket(new MySQLPacketPayload(received)).withSequenceId(9);
+        assertThat(actual.getSequenceId(), is(9));
+        ByteBuf actualByteBuf = actual.toByteBuf(allocator);
+        assertThat(actualByteBuf.readMediumLE(), is(2));
+        assertThat((int) actualByteBuf.readByte(), is(9));
+        assertThat((int) actualByteBuf.readByte(), is(1));
+        assertThat((char) actualByteBuf.readByte(), is('a'));
+        assertThat(actualByteBuf.readableBytes(), is(0));
+        actualByteBuf.release();
+        assertThat(received.refCnt(), is(0));
+    }
+    
+    @Test
+    public void assertWrite() {
+        ByteBuf received = allocator.buffer();
+        received.writeByte(5);
+        received.writeByte(0xfb);
+        PassthroughRowPacket actual = new PassthroughRowPacket(new MySQLPacketPayload(received));
+        assertThat(actual.getSequenceId(), is(5));
+        ByteBuf written = allocator.buffer();
+        actual.write(new MySQLPacketPayload(written));
+        assertThat(written.readUnsignedByte(), is((short) 0xfb));
+        assertThat(received.refCnt(), is(0));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BinaryStatementRegistryTest {
+    
+    @Test
+    public void assertRegisterByConnection() {
+        BinaryStatementRegistry registry = new BinaryStatementRegistry(2);
+        int firstStatementId = registry.register(1, createTemplate("SELECT ?", 1));
+        int secondStatementId = registry.register(2, createTemplate("SELECT ?", 1));
+        assertThat(registry.getBinaryStatement(1, firstStatementId).getParametersCount(), is(1));
+        assertThat(registry.getBinaryStatement(1, firstStatementId), not(sameInstance(registry.getBinaryStatement(2, secondStatementId))));
+        assertThat(registry.getBinaryStatement(1, firstStatementId).getTemplate(), sameInstance(registry.getBinaryStatement(2, secondStatementId).getTemplate()));
+        assertThat(registry.getBinaryStatement(3, firstStatementId), nullValue());
+        assertThat(registry.getTemplateCount(), is(1));
+        assertThat(registry.getStatementCount(), is(2));
+    }
+    
+    @Test
+    public void assertFindTemplate() {
+        BinaryStatementRegistry registry = new BinaryStatementRegistry(2);
+        assertFalse(registry.findTemplate("SELECT ?").isPresent());
+        BinaryStatementTemplate template = createTemplate("SELECT ?", 1);
+        registry.register(1, template);
+        assertThat(registry.findTemplate("SELECT ?").get(), sameInstance(template));
+        assertThat(registry.getStatistics().hitCount(), is(1L));
+        assertThat(registry.getStatistics().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertClose() {
+        BinaryStatementRegistry registry = new BinaryStatementRegistry(2);
+        int statementId = registry.register(1, createTemplate("SELECT ?", 1));
+        registry.close(1, statementId);
+        assertThat(registry.getBinaryStatement(1, statementId), nullValue());
+        assertThat(registry.getStatementCount(), is(0));
+        assertTrue(registry.findTemplate("SELECT ?").isPresent());
+    }
+    
+    @Test
+    public void assertCloseConnection() {
+        BinaryStatementRegistry registry = new BinaryStatementRegistry(2);
+        int statementId = registry.register(1, createTemplate("SELECT ?", 1));
+        registry.register(1, createTemplate("SELECT ?, ?", 2));
+        registry.closeConnection(1);
+        assertThat(registry.getBinaryStatement(1, statementId), nullValue());
+        assertThat(registry.getStatementCount(), is(0));
+    }
+    
+    @Test
+    public void assertEvictUnreferencedTemplatesOnly() {
+        BinaryStatementRegistry registry = new BinaryStatementRegistry(2);
+        int firstStatementId = registry.register(1, createTemplate("SELECT 1", 0));
+        registry.register(1, createTemplate("SELECT 2", 0));
+        int thirdStatementId = registry.register(1, createTemplate("SELECT 3", 0));
+        assertThat(registry.getTemplateCount(), is(2));
+        assertThat(registry.getBinaryStatement(1, thirdStatementId).getSql(), is("SELECT 3"));
+        assertFalse(registry.findTemplate("SELECT 3").isPresent());
+        registry.close(1, firstStatementId);
+        assertThat(registry.getTemplateCount(), is(2));
+        assertThat(registry.getStatistics().evictionCount(), is(0L));
+        registry.register(1, createTemplate("SELECT 4", 0));
+        assertThat(registry.getTemplateCount(), is(2));
+        assertThat(registry.getStatistics().evictionCount(), is(1L));
+        assertFalse(registry.findTemplate("SELECT 1").isPresent());
+        assertTrue(registry.findTemplate("SELECT 4").isPresent());
+    }
+    
+    @Test
+    public void assertCloseStatementOfUncachedTemplate() {
+        BinaryStatementRegistry registry = new BinaryStatementRegistry(2);
+        registry.register(1, createTemplate("SELECT 1", 0));
+        int secondStatementId = registry.register(1, createTemplate("SELECT 2", 0));
+        int uncachedStatementId = registry.register(1, createTemplate("SELECT 3", 0));
+        registry.close(1, secondStatementId);
+        registry.register(2, createTemplate("SELECT 3", 0));
+        assertTrue(registry.findTemplate("SELECT 3").isPresent());
+        registry.close(1, uncachedStatementId);
+        registry.register(2, createTemplate("SELECT 4", 0));
+        assertTrue(registry.findTemplate("SELECT 3").isPresent());
+        assertFalse(registry.findTemplate("SELECT 4").isPresent());
+    }
+    
+    private BinaryStatementTemplate createTemplate(final String sql, final int parametersCount) {
+        return new BinaryStatementTemplate(sql, parametersCount, 0, "");
+    }
+}
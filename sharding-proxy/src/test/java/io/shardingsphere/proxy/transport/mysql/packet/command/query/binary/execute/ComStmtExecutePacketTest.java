@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.constant.NewParametersBoundFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ComStmtExecutePacketTest {
+    
+    @Test
+    public void assertWriteWithParameters() {
+        ByteBuf actual = Unpooled.buffer();
+        new ComStmtExecutePacket(0, 7, Arrays.<Object>asList(1, null, "foo")).write(new MySQLPacketPayload(actual));
+        assertThat(actual.readUnsignedByte(), is((short) CommandPacketType.COM_STMT_EXECUTE.getValue()));
+        assertThat(actual.readIntLE(), is(7));
+        assertThat((int) actual.readByte(), is(0));
+        assertThat(actual.readIntLE(), is(1));
+        assertThat((int) actual.readByte(), is(2));
+        assertThat((int) actual.readByte(), is(NewParametersBoundFlag.PARAMETER_TYPE_EXIST.getValue()));
+        assertThat(actual.readUnsignedShortLE(), is(ColumnType.MYSQL_TYPE_LONGLONG.getValue()));
+        assertThat(actual.readUnsignedShortLE(), is(ColumnType.MYSQL_TYPE_NULL.getValue()));
+        assertThat(actual.readUnsignedShortLE(), is(ColumnType.MYSQL_TYPE_VAR_STRING.getValue()));
+        assertThat(actual.readLongLE(), is(1L));
+        assertThat((int) actual.readByte(), is(3));
+        assertThat(actual.readCharSequence(3, CharsetUtil.UTF_8).toString(), is("foo"));
+        assertThat(actual.readableBytes(), is(0));
+    }
+    
+    @Test
+    public void assertWriteWithoutParameters() {
+        ByteBuf actual = Unpooled.buffer();
+        new ComStmtExecutePacket(0, 7, Collections.emptyList()).write(new MySQLPacketPayload(actual));
+        assertThat(actual.readableBytes(), is(10));
+    }
+}